@@ -0,0 +1,59 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.jandex.IndexView;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.runtime.OpenApiStaticFile;
+import io.smallrye.openapi.runtime.io.Format;
+
+/**
+ * The synthetic application shared by all benchmarks of a trial. The size of the
+ * application is controlled with the JMH parameters, e.g.
+ * {@code -p resources=1800 -p dataObjects=600 -p genericDepth=3}.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    /**
+     * Number of JAX-RS resource classes, each declaring five operations.
+     */
+    @Param({ "50", "400" })
+    public int resources;
+
+    /**
+     * Number of data objects referenced by the resources.
+     */
+    @Param({ "100" })
+    public int dataObjects;
+
+    /**
+     * Number of generic wrapper levels surrounding the list response types.
+     */
+    @Param({ "2" })
+    public int genericDepth;
+
+    IndexView index;
+    byte[] staticFile;
+    OpenApiConfig config;
+    ClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        index = SyntheticIndex.create(resources, dataObjects, genericDepth);
+        staticFile = SyntheticIndex.staticFile(resources, dataObjects).getBytes(StandardCharsets.UTF_8);
+        config = new BenchmarkConfig();
+        classLoader = ApplicationState.class.getClassLoader();
+    }
+
+    OpenApiStaticFile staticFile() {
+        return new OpenApiStaticFile(new ByteArrayInputStream(staticFile), Format.YAML);
+    }
+}
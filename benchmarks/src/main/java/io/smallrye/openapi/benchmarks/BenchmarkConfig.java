@@ -0,0 +1,56 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+
+/**
+ * Configuration used by the benchmarks. Every phase of the bootstrap pipeline is
+ * enabled: a model reader, a filter, global servers as well as path and operation
+ * server overrides for a fraction of the generated resources.
+ */
+public class BenchmarkConfig implements OpenApiConfig {
+
+    @Override
+    public String modelReader() {
+        return BenchmarkModelReader.class.getName();
+    }
+
+    @Override
+    public String filter() {
+        return BenchmarkFilter.class.getName();
+    }
+
+    @Override
+    public Set<String> servers() {
+        return new HashSet<>(Collections.singleton("https://api.example.com"));
+    }
+
+    @Override
+    public Set<String> pathServers(String path) {
+        if (path.endsWith("0")) {
+            return new HashSet<>(Collections.singleton("https://paths.example.com"));
+        }
+        return OpenApiConfig.super.pathServers(path);
+    }
+
+    @Override
+    public Set<String> operationServers(String operationId) {
+        if (operationId.startsWith("delete")) {
+            return new HashSet<>(Collections.singleton("https://admin.example.com"));
+        }
+        return OpenApiConfig.super.operationServers(operationId);
+    }
+
+    @Override
+    public String getInfoTitle() {
+        return "Benchmark API";
+    }
+
+    @Override
+    public String getInfoVersion() {
+        return "1.0.0";
+    }
+}
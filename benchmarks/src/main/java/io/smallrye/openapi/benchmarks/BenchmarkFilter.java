@@ -0,0 +1,25 @@
+package io.smallrye.openapi.benchmarks;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+/**
+ * Filter touching operations and schemas, the two most numerous node types in
+ * a large document.
+ */
+public class BenchmarkFilter implements OASFilter {
+
+    @Override
+    public Operation filterOperation(Operation operation) {
+        if (operation.getDescription() == null) {
+            operation.setDescription(operation.getSummary());
+        }
+        return operation;
+    }
+
+    @Override
+    public Schema filterSchema(Schema schema) {
+        return schema;
+    }
+}
@@ -0,0 +1,55 @@
+package io.smallrye.openapi.benchmarks;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+
+/**
+ * Model reader contributing a small number of paths and schemas, comparable to
+ * what applications typically provide programmatically.
+ */
+public class BenchmarkModelReader implements OASModelReader {
+
+    static final int PATHS = 25;
+
+    @Override
+    public OpenAPI buildModel() {
+        OpenAPI model = OASFactory.createObject(OpenAPI.class)
+                .info(OASFactory.createObject(Info.class)
+                        .title("Reader API")
+                        .version("1.0")
+                        .description("From the model reader"))
+                .paths(OASFactory.createObject(Paths.class))
+                .components(OASFactory.createObject(Components.class));
+
+        for (int i = 0; i < PATHS; i++) {
+            model.getComponents().addSchema("Reader" + i, OASFactory.createObject(Schema.class)
+                    .type(Schema.SchemaType.OBJECT)
+                    .addProperty("id", OASFactory.createObject(Schema.class).type(Schema.SchemaType.INTEGER).format("int64"))
+                    .addProperty("label", OASFactory.createObject(Schema.class).type(Schema.SchemaType.STRING)));
+
+            Schema ref = OASFactory.createObject(Schema.class).ref("#/components/schemas/Reader" + i);
+            Content content = OASFactory.createObject(Content.class)
+                    .addMediaType("application/json", OASFactory.createObject(MediaType.class).schema(ref));
+            APIResponses responses = OASFactory.createObject(APIResponses.class)
+                    .addAPIResponse("200", OASFactory.createObject(APIResponse.class).description("OK").content(content));
+            Operation get = OASFactory.createObject(Operation.class)
+                    .operationId("reader" + i)
+                    .responses(responses);
+
+            model.getPaths().addPathItem("/reader" + i, OASFactory.createObject(PathItem.class).GET(get));
+        }
+
+        return model;
+    }
+}
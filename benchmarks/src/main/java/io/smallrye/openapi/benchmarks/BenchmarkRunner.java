@@ -0,0 +1,32 @@
+package io.smallrye.openapi.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accepts the standard JMH command line options
+ * and always enables the GC profiler so that allocation rates are reported next to
+ * the timings of each phase.
+ *
+ * <pre>
+ * mvn -Pbenchmarks package -DskipTests
+ * java -jar benchmarks/target/benchmarks.jar PhaseBenchmark -p resources=1800
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,31 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+
+/**
+ * End to end measurement of {@link OpenApiProcessor#bootstrap(io.smallrye.openapi.api.OpenApiConfig,
+ * org.jboss.jandex.IndexView, ClassLoader, io.smallrye.openapi.runtime.OpenApiStaticFile...)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BootstrapBenchmark {
+
+    @Benchmark
+    public OpenAPI bootstrap(ApplicationState app) {
+        return OpenApiProcessor.bootstrap(app.config, app.index, app.classLoader, app.staticFile());
+    }
+}
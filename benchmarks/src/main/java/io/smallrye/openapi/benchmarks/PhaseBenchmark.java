@@ -0,0 +1,172 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.util.ConfigUtil;
+import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * Measures each phase of the bootstrap pipeline in isolation. Phases which modify
+ * their input (merge, filter and config) operate on a fresh copy of the model,
+ * created outside of the measured region for every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PhaseBenchmark {
+
+    @Benchmark
+    public OpenAPI staticFileParse(ApplicationState app) {
+        return OpenApiProcessor.modelFromStaticFile(app.staticFile());
+    }
+
+    @Benchmark
+    public OpenAPI annotationScan(ApplicationState app) {
+        return OpenApiProcessor.modelFromAnnotations(app.config, app.classLoader, app.index);
+    }
+
+    @Benchmark
+    public OpenAPI modelReader(ApplicationState app) {
+        return OpenApiProcessor.modelFromReader(app.config, app.classLoader);
+    }
+
+    @Benchmark
+    public OpenAPI merge(MergeInput input) {
+        OpenAPI merged = MergeUtil.mergeObjects(input.readerModel, input.staticModel);
+        return MergeUtil.mergeObjects(merged, input.annotationModel);
+    }
+
+    @Benchmark
+    public OpenAPI filter(ApplicationState app, MergedInput input) {
+        return FilterUtil.applyFilter(OpenApiProcessor.getFilter(app.config, app.classLoader), input.model);
+    }
+
+    @Benchmark
+    public OpenAPI applyConfig(ApplicationState app, MergedInput input) {
+        ConfigUtil.applyConfig(app.config, input.model);
+        return input.model;
+    }
+
+    @Benchmark
+    public int serialize(SerializeInput input) throws IOException {
+        input.output.reset();
+        OpenApiSerializer.serialize(input.model, input.format, input.output);
+        return input.output.size();
+    }
+
+    /**
+     * The three models produced by the first phases, copied for each invocation of
+     * the merge phase.
+     */
+    @State(Scope.Thread)
+    public static class MergeInput {
+        byte[] staticJson;
+        byte[] annotationJson;
+        byte[] readerJson;
+
+        OpenAPI staticModel;
+        OpenAPI annotationModel;
+        OpenAPI readerModel;
+
+        @Setup(Level.Trial)
+        public void prepare(ApplicationState app) {
+            staticJson = toJson(OpenApiProcessor.modelFromStaticFile(app.staticFile()));
+            annotationJson = toJson(OpenApiProcessor.modelFromAnnotations(app.config, app.classLoader, app.index));
+            readerJson = toJson(OpenApiProcessor.modelFromReader(app.config, app.classLoader));
+        }
+
+        @Setup(Level.Invocation)
+        public void copy() {
+            staticModel = fromJson(staticJson);
+            annotationModel = fromJson(annotationJson);
+            readerModel = fromJson(readerJson);
+        }
+    }
+
+    /**
+     * The merged model, copied for each invocation of the filter and config phases.
+     */
+    @State(Scope.Thread)
+    public static class MergedInput {
+        byte[] mergedJson;
+        OpenAPI model;
+
+        @Setup(Level.Trial)
+        public void prepare(ApplicationState app) {
+            mergedJson = toJson(mergedModel(app));
+        }
+
+        @Setup(Level.Invocation)
+        public void copy() {
+            model = fromJson(mergedJson);
+        }
+    }
+
+    /**
+     * The merged model, shared by all invocations of the serialize phase which
+     * does not modify it.
+     */
+    @State(Scope.Thread)
+    public static class SerializeInput {
+        @Param({ "JSON", "YAML" })
+        Format format;
+
+        OpenAPI model;
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        @Setup(Level.Trial)
+        public void prepare(ApplicationState app) {
+            model = mergedModel(app);
+        }
+    }
+
+    static OpenAPI mergedModel(ApplicationState app) {
+        OpenAPI merged = OpenApiProcessor.modelFromReader(app.config, app.classLoader);
+        merged = MergeUtil.mergeObjects(merged, OpenApiProcessor.modelFromStaticFile(app.staticFile()));
+        return MergeUtil.mergeObjects(merged,
+                OpenApiProcessor.modelFromAnnotations(app.config, app.classLoader, app.index));
+    }
+
+    static byte[] toJson(OpenAPI model) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            OpenApiSerializer.serialize(model, Format.JSON, output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static OpenAPI fromJson(byte[] json) {
+        try {
+            return OpenApiParser.parse(new ByteArrayInputStream(json), Format.JSON);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Generates a synthetic JAX-RS application, compiles it in memory and indexes
+ * the resulting classes with Jandex. The shape of the application is controlled
+ * by the number of resource classes, the number of data objects and the depth of
+ * the generic wrappers used for the collection responses.
+ *
+ * A JDK (not a JRE) is required since the classes are compiled using the system
+ * {@link JavaCompiler}.
+ */
+public final class SyntheticIndex {
+
+    static final String API_PACKAGE = "bench.api";
+    static final String MODEL_PACKAGE = "bench.model";
+
+    private SyntheticIndex() {
+    }
+
+    /**
+     * Create an index of a synthetic application.
+     *
+     * @param resources number of JAX-RS resource classes
+     * @param dataObjects number of data objects (DTOs) referenced by the resources
+     * @param genericDepth how many levels of generic wrappers surround the list responses
+     * @return index of the compiled application
+     */
+    public static Index create(int resources, int dataObjects, int genericDepth) {
+        Map<String, String> sources = new LinkedHashMap<>();
+
+        sources.put(MODEL_PACKAGE + ".Status", statusSource());
+        sources.put(MODEL_PACKAGE + ".Envelope", envelopeSource());
+
+        for (int i = 0; i < dataObjects; i++) {
+            sources.put(MODEL_PACKAGE + ".Dto" + i, dataObjectSource(i, dataObjects));
+        }
+
+        for (int i = 0; i < resources; i++) {
+            sources.put(API_PACKAGE + ".Resource" + i, resourceSource(i, dataObjects, genericDepth));
+        }
+
+        Indexer indexer = new Indexer();
+
+        for (byte[] classBytes : compile(sources).values()) {
+            try {
+                indexer.index(new ByteArrayInputStream(classBytes));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return indexer.complete();
+    }
+
+    /**
+     * Create a static OpenAPI document (YAML) with the given number of paths and schemas.
+     *
+     * @param paths number of path items
+     * @param schemas number of component schemas
+     * @return the document content
+     */
+    public static String staticFile(int paths, int schemas) {
+        StringBuilder yaml = new StringBuilder();
+        yaml.append("openapi: 3.0.3\n");
+        yaml.append("info:\n");
+        yaml.append("  title: Static API\n");
+        yaml.append("  version: '1.0'\n");
+        yaml.append("servers:\n");
+        yaml.append("  - url: https://static.example.com\n");
+        yaml.append("paths:\n");
+
+        for (int i = 0; i < paths; i++) {
+            yaml.append("  /static").append(i).append(":\n");
+            yaml.append("    get:\n");
+            yaml.append("      operationId: static").append(i).append('\n');
+            yaml.append("      tags:\n");
+            yaml.append("        - static\n");
+            yaml.append("      parameters:\n");
+            yaml.append("        - name: filter\n");
+            yaml.append("          in: query\n");
+            yaml.append("          schema:\n");
+            yaml.append("            type: string\n");
+            yaml.append("      responses:\n");
+            yaml.append("        '200':\n");
+            yaml.append("          description: OK\n");
+            yaml.append("          content:\n");
+            yaml.append("            application/json:\n");
+            yaml.append("              schema:\n");
+            yaml.append("                $ref: '#/components/schemas/Static").append(i % Math.max(schemas, 1)).append("'\n");
+            yaml.append("              example:\n");
+            yaml.append("                id: ").append(i).append('\n');
+            yaml.append("                name: example").append(i).append('\n');
+        }
+
+        yaml.append("components:\n");
+        yaml.append("  schemas:\n");
+
+        for (int i = 0; i < schemas; i++) {
+            yaml.append("    Static").append(i).append(":\n");
+            yaml.append("      type: object\n");
+            yaml.append("      description: Static schema ").append(i).append('\n');
+            yaml.append("      properties:\n");
+            yaml.append("        id:\n");
+            yaml.append("          type: integer\n");
+            yaml.append("          format: int64\n");
+            yaml.append("        name:\n");
+            yaml.append("          type: string\n");
+            yaml.append("        created:\n");
+            yaml.append("          type: string\n");
+            yaml.append("          format: date-time\n");
+        }
+
+        return yaml.toString();
+    }
+
+    static String statusSource() {
+        return "package " + MODEL_PACKAGE + ";\n"
+                + "public enum Status { ACTIVE, INACTIVE, PENDING, DELETED }\n";
+    }
+
+    static String envelopeSource() {
+        return "package " + MODEL_PACKAGE + ";\n"
+                + "public class Envelope<T> {\n"
+                + "    private T payload;\n"
+                + "    private String status;\n"
+                + "    private java.util.Map<String, String> metadata;\n"
+                + "    public T getPayload() { return payload; }\n"
+                + "    public void setPayload(T payload) { this.payload = payload; }\n"
+                + "    public String getStatus() { return status; }\n"
+                + "    public void setStatus(String status) { this.status = status; }\n"
+                + "    public java.util.Map<String, String> getMetadata() { return metadata; }\n"
+                + "    public void setMetadata(java.util.Map<String, String> metadata) { this.metadata = metadata; }\n"
+                + "}\n";
+    }
+
+    static String dataObjectSource(int i, int dataObjects) {
+        String related = "Dto" + ((i + 1) % dataObjects);
+
+        return "package " + MODEL_PACKAGE + ";\n"
+                + "@org.eclipse.microprofile.openapi.annotations.media.Schema(description = \"Data object " + i + "\")\n"
+                + "public class Dto" + i + " {\n"
+                + "    private long id;\n"
+                + "    @org.eclipse.microprofile.openapi.annotations.media.Schema(description = \"The name\", maxLength = 64)\n"
+                + "    private String name;\n"
+                + "    private java.time.OffsetDateTime created;\n"
+                + "    private java.math.BigDecimal amount;\n"
+                + "    private Status status;\n"
+                + "    private java.util.List<String> tags;\n"
+                + "    private " + related + " related;\n"
+                + "    private java.util.List<" + related + "> children;\n"
+                + "    public long getId() { return id; }\n"
+                + "    public void setId(long id) { this.id = id; }\n"
+                + "    public String getName() { return name; }\n"
+                + "    public void setName(String name) { this.name = name; }\n"
+                + "    public java.time.OffsetDateTime getCreated() { return created; }\n"
+                + "    public java.math.BigDecimal getAmount() { return amount; }\n"
+                + "    public Status getStatus() { return status; }\n"
+                + "    public java.util.List<String> getTags() { return tags; }\n"
+                + "    public " + related + " getRelated() { return related; }\n"
+                + "    public java.util.List<" + related + "> getChildren() { return children; }\n"
+                + "}\n";
+    }
+
+    static String resourceSource(int i, int dataObjects, int genericDepth) {
+        String dto = MODEL_PACKAGE + ".Dto" + (i % dataObjects);
+        String listType = wrap("java.util.List<" + dto + ">", genericDepth);
+
+        return "package " + API_PACKAGE + ";\n"
+                + "import jakarta.ws.rs.*;\n"
+                + "import jakarta.ws.rs.core.*;\n"
+                + "import org.eclipse.microprofile.openapi.annotations.Operation;\n"
+                + "import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;\n"
+                + "import org.eclipse.microprofile.openapi.annotations.tags.Tag;\n"
+                + "@Path(\"/resource" + i + "\")\n"
+                + "@Tag(name = \"resource" + i + "\")\n"
+                + "@Produces(MediaType.APPLICATION_JSON)\n"
+                + "@Consumes(MediaType.APPLICATION_JSON)\n"
+                + "public class Resource" + i + " {\n"
+                + "    @GET\n"
+                + "    @Operation(summary = \"List\", operationId = \"list" + i + "\")\n"
+                + "    public " + listType + " list(@QueryParam(\"offset\") int offset,\n"
+                + "            @Parameter(description = \"Page size\") @QueryParam(\"limit\") @DefaultValue(\"20\") int limit) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "    @GET\n"
+                + "    @Path(\"{id}\")\n"
+                + "    @Operation(summary = \"Get\", operationId = \"get" + i + "\")\n"
+                + "    public " + dto + " get(@PathParam(\"id\") long id) { return null; }\n"
+                + "    @POST\n"
+                + "    @Operation(summary = \"Create\", operationId = \"create" + i + "\")\n"
+                + "    public Response create(" + dto + " body) { return null; }\n"
+                + "    @PUT\n"
+                + "    @Path(\"{id}\")\n"
+                + "    @Operation(summary = \"Update\", operationId = \"update" + i + "\")\n"
+                + "    public " + dto + " update(@PathParam(\"id\") long id, " + dto + " body) { return null; }\n"
+                + "    @DELETE\n"
+                + "    @Path(\"{id}\")\n"
+                + "    @Operation(summary = \"Delete\", operationId = \"delete" + i + "\")\n"
+                + "    public void delete(@PathParam(\"id\") long id, @HeaderParam(\"X-Reason\") String reason) { }\n"
+                + "}\n";
+    }
+
+    static String wrap(String type, int depth) {
+        String result = type;
+        for (int d = 0; d < depth; d++) {
+            result = MODEL_PACKAGE + ".Envelope<" + result + ">";
+        }
+        return result;
+    }
+
+    static Map<String, byte[]> compile(Map<String, String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        if (compiler == null) {
+            throw new IllegalStateException("A JDK is required to generate the synthetic application");
+        }
+
+        List<JavaFileObject> units = new ArrayList<>(sources.size());
+
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            units.add(new SourceFile(source.getKey(), source.getValue()));
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager standardManager = compiler.getStandardFileManager(diagnostics, null, null);
+        MemoryFileManager fileManager = new MemoryFileManager(standardManager);
+        List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-proc:none");
+
+        Boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, units).call();
+
+        if (!Boolean.TRUE.equals(success)) {
+            throw new IllegalStateException("Compilation of synthetic application failed: " + diagnostics.getDiagnostics());
+        }
+
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        fileManager.classes.forEach((name, bytes) -> classes.put(name, bytes.toByteArray()));
+        return classes;
+    }
+
+    static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    static class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        final Map<String, ByteArrayOutputStream> classes = new LinkedHashMap<>();
+
+        MemoryFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                FileObject sibling) {
+            URI uri = URI.create("mem:///" + className.replace('.', '/') + kind.extension);
+
+            return new SimpleJavaFileObject(uri, kind) {
+                @Override
+                public OutputStream openOutputStream() {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    classes.put(className, out);
+                    return out;
+                }
+            };
+        }
+    }
+}
@@ -63,6 +63,39 @@ public interface OpenApiConfig {
         return new HashSet<>();
     }
 
+    /**
+     * Whether the path and operation server overrides are read from configuration
+     * all at once, by enumerating the configuration property names, rather than
+     * being looked up for each path and operation individually. Overrides given
+     * only by configuration sources that do not list their property names (for
+     * example, environment variables) are not found when enabled.
+     *
+     * @return true if server overrides are indexed, false (the default) otherwise
+     */
+    default boolean serversIndexEnable() {
+        return false;
+    }
+
+    /**
+     * All path server overrides, keyed by path.
+     *
+     * @return map of path to servers, or null if the overrides are not indexed
+     * @see #serversIndexEnable()
+     */
+    default Map<String, Set<String>> getPathServers() {
+        return null;
+    }
+
+    /**
+     * All operation server overrides, keyed by operationId.
+     *
+     * @return map of operationId to servers, or null if the overrides are not indexed
+     * @see #serversIndexEnable()
+     */
+    default Map<String, Set<String>> getOperationServers() {
+        return null;
+    }
+
     default boolean scanDependenciesDisable() {
         return false;
     }
@@ -164,6 +197,96 @@ public interface OpenApiConfig {
         return new HashSet<>();
     }
 
+    /**
+     * Maximum number of threads used to scan JAX-RS resource classes. A value
+     * of 1 (the default) scans all resource classes on the calling thread.
+     *
+     * @return the scan parallelism
+     */
+    default int scanParallelism() {
+        return 1;
+    }
+
+    /**
+     * Number of classes and types listed in the report of the annotation scan
+     * that is logged when a scan completes, slowest or most visited first.
+     * A value of 0 (the default) disables the report.
+     *
+     * @return the size of the scan report
+     */
+    default int scanReportSize() {
+        return 0;
+    }
+
+    /**
+     * Directory where the results of annotation scanning are cached between
+     * runs of the application. When not set (the default), annotations are
+     * always scanned.
+     *
+     * @return the scan cache directory, or null if caching is disabled
+     */
+    default String scanCacheDirectory() {
+        return null;
+    }
+
+    /**
+     * Whether static files are parsed lazily. When enabled, the entries of the
+     * <code>paths</code>, <code>components.schemas</code>, and
+     * <code>components.examples</code> sections are only read into the model
+     * when first accessed.
+     *
+     * @return true if static files are parsed lazily, false (the default) otherwise
+     */
+    default boolean staticFileLazyParsingEnable() {
+        return false;
+    }
+
+    /**
+     * Whether duplication is removed from the final model once complete.
+     * Structurally identical leaf schemas (e.g. <code>string/date-time</code>)
+     * are replaced with a shared instance and equal strings are replaced with a
+     * single instance. References to component schemas are not affected.
+     *
+     * @return true if the final model is deduplicated, false (the default) otherwise
+     */
+    default boolean modelDeduplicateEnable() {
+        return false;
+    }
+
+    /**
+     * Whether the final model is frozen once complete. The maps and lists of a
+     * frozen model are replaced with compact, immutable copies and its strings
+     * are de-duplicated. Applications that modify the model after startup must
+     * not enable this.
+     *
+     * @return true if the final model is frozen, false (the default) otherwise
+     */
+    default boolean modelFreezeEnable() {
+        return false;
+    }
+
+    /**
+     * Maximum number of filtered views of the final document retained by
+     * {@link OpenApiDocument#getView(String, java.util.function.Supplier)}.
+     * The least recently used views are discarded first.
+     *
+     * @return the maximum number of cached views, 64 by default
+     */
+    default int viewCacheMaxEntries() {
+        return 64;
+    }
+
+    /**
+     * Approximate maximum number of bytes held by the cached filtered views of
+     * the final document, including their serialized forms. Only the elements
+     * copied for a view are counted, elements shared with the final model are not.
+     *
+     * @return the maximum size of the cached views, 32 MiB by default
+     */
+    default long viewCacheMaxSize() {
+        return 32L * 1024 * 1024;
+    }
+
     default void doAllowNakedPathParameter() {
     }
 
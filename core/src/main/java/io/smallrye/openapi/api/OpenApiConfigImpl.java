@@ -1,5 +1,8 @@
 package io.smallrye.openapi.api;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -53,6 +56,17 @@ public class OpenApiConfigImpl implements OpenApiConfig {
     private OperationIdStrategy operationIdStrategy;
     private Set<String> scanProfiles;
     private Set<String> scanExcludeProfiles;
+    private Integer scanParallelism;
+    private Integer scanReportSize;
+    private String scanCacheDirectory;
+    private Boolean staticFileLazyParsingEnable;
+    private Boolean serversIndexEnable;
+    private Boolean modelDeduplicateEnable;
+    private Boolean modelFreezeEnable;
+    private Integer viewCacheMaxEntries;
+    private Long viewCacheMaxSize;
+    private Map<String, Set<String>> pathServers;
+    private Map<String, Set<String>> operationServers;
     private Optional<String[]> defaultProduces = UNSET;
     private Optional<String[]> defaultConsumes = UNSET;
     private Optional<Boolean> allowNakedPathParameter = Optional.empty();
@@ -174,6 +188,9 @@ public class OpenApiConfigImpl implements OpenApiConfig {
      */
     @Override
     public Set<String> pathServers(String path) {
+        if (serversIndexEnable()) {
+            return new HashSet<>(getPathServers().getOrDefault(path, Collections.emptySet()));
+        }
         String pathServers = getStringConfigValue(OASConfig.SERVERS_PATH_PREFIX + path);
         return asCsvSet(pathServers);
     }
@@ -183,10 +200,64 @@ public class OpenApiConfigImpl implements OpenApiConfig {
      */
     @Override
     public Set<String> operationServers(String operationId) {
+        if (serversIndexEnable()) {
+            return new HashSet<>(getOperationServers().getOrDefault(operationId, Collections.emptySet()));
+        }
         String opServers = getStringConfigValue(OASConfig.SERVERS_OPERATION_PREFIX + operationId);
         return asCsvSet(opServers);
     }
 
+    @Override
+    public boolean serversIndexEnable() {
+        if (serversIndexEnable == null) {
+            serversIndexEnable = getConfig().getOptionalValue(OpenApiConstants.SERVERS_INDEX_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.serversIndexEnable());
+        }
+        return serversIndexEnable;
+    }
+
+    @Override
+    public Map<String, Set<String>> getPathServers() {
+        if (!serversIndexEnable()) {
+            return OpenApiConfig.super.getPathServers();
+        }
+        if (pathServers == null) {
+            pathServers = indexServers(OASConfig.SERVERS_PATH_PREFIX);
+        }
+        return pathServers;
+    }
+
+    @Override
+    public Map<String, Set<String>> getOperationServers() {
+        if (!serversIndexEnable()) {
+            return OpenApiConfig.super.getOperationServers();
+        }
+        if (operationServers == null) {
+            operationServers = indexServers(OASConfig.SERVERS_OPERATION_PREFIX);
+        }
+        return operationServers;
+    }
+
+    /**
+     * Read the value of every configuration property with the given prefix, keyed
+     * by the remainder of the property name. Properties with empty values are omitted.
+     */
+    Map<String, Set<String>> indexServers(String prefix) {
+        Map<String, Set<String>> index = new HashMap<>();
+
+        for (String name : getConfig().getPropertyNames()) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)) {
+                String value = getStringConfigValue(name);
+
+                if (value != null) {
+                    index.put(name.substring(prefix.length()), Collections.unmodifiableSet(asCsvSet(value)));
+                }
+            }
+        }
+
+        return Collections.unmodifiableMap(index);
+    }
+
     /**
      * @see io.smallrye.openapi.api.OpenApiConfig#scanDependenciesDisable()
      */
@@ -434,6 +505,80 @@ public class OpenApiConfigImpl implements OpenApiConfig {
         return scanExcludeProfiles;
     }
 
+    @Override
+    public int scanParallelism() {
+        if (scanParallelism == null) {
+            scanParallelism = getConfig().getOptionalValue(OpenApiConstants.SCAN_PARALLELISM, Integer.class)
+                    .orElse(OpenApiConfig.super.scanParallelism());
+        }
+        return scanParallelism;
+    }
+
+    @Override
+    public int scanReportSize() {
+        if (scanReportSize == null) {
+            scanReportSize = getConfig().getOptionalValue(OpenApiConstants.SCAN_REPORT_SIZE, Integer.class)
+                    .orElse(OpenApiConfig.super.scanReportSize());
+        }
+        return scanReportSize;
+    }
+
+    @Override
+    public String scanCacheDirectory() {
+        if (scanCacheDirectory == null) {
+            scanCacheDirectory = getStringConfigValue(OpenApiConstants.SCAN_CACHE_DIRECTORY);
+        }
+        return scanCacheDirectory;
+    }
+
+    @Override
+    public boolean staticFileLazyParsingEnable() {
+        if (staticFileLazyParsingEnable == null) {
+            staticFileLazyParsingEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.STATIC_FILE_LAZY_PARSING_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.staticFileLazyParsingEnable());
+        }
+        return staticFileLazyParsingEnable;
+    }
+
+    @Override
+    public boolean modelDeduplicateEnable() {
+        if (modelDeduplicateEnable == null) {
+            modelDeduplicateEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.MODEL_DEDUPLICATE_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.modelDeduplicateEnable());
+        }
+        return modelDeduplicateEnable;
+    }
+
+    @Override
+    public boolean modelFreezeEnable() {
+        if (modelFreezeEnable == null) {
+            modelFreezeEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.MODEL_FREEZE_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.modelFreezeEnable());
+        }
+        return modelFreezeEnable;
+    }
+
+    @Override
+    public int viewCacheMaxEntries() {
+        if (viewCacheMaxEntries == null) {
+            viewCacheMaxEntries = getConfig().getOptionalValue(OpenApiConstants.VIEW_CACHE_MAX_ENTRIES, Integer.class)
+                    .orElse(OpenApiConfig.super.viewCacheMaxEntries());
+        }
+        return viewCacheMaxEntries;
+    }
+
+    @Override
+    public long viewCacheMaxSize() {
+        if (viewCacheMaxSize == null) {
+            viewCacheMaxSize = getConfig().getOptionalValue(OpenApiConstants.VIEW_CACHE_MAX_SIZE, Long.class)
+                    .orElse(OpenApiConfig.super.viewCacheMaxSize());
+        }
+        return viewCacheMaxSize;
+    }
+
     /**
      * getConfig().getOptionalValue(key) can return "" if optional {@link Converter}s are used. Enforce a null value if
      * we get an empty string back.
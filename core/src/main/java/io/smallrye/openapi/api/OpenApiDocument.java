@@ -1,7 +1,14 @@
 package io.smallrye.openapi.api;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -11,8 +18,17 @@ import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.models.PathsImpl;
 import io.smallrye.openapi.api.models.info.InfoImpl;
 import io.smallrye.openapi.api.util.ConfigUtil;
+import io.smallrye.openapi.api.util.CopyUtil;
+import io.smallrye.openapi.api.util.CopyOnWriteFilter;
+import io.smallrye.openapi.api.util.DedupUtil;
 import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.api.util.FreezeUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.BootstrapListener;
+import io.smallrye.openapi.runtime.BootstrapListener.Span;
+import io.smallrye.openapi.runtime.BootstrapListener.Stage;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.SerializedDocument;
 
 /**
  * Holds the final OpenAPI document produced during the startup of the app.
@@ -21,22 +37,161 @@ import io.smallrye.openapi.api.util.MergeUtil;
  * Note that the model must be initialized first!
  * </p>
  *
+ * <p>
+ * Reading the final document ({@link #get()}, {@link #getSerialized(Format, boolean)})
+ * does not block. Applications hosting several deployments should create a document
+ * for each using {@link #builder()} rather than sharing {@link #INSTANCE}.
+ * </p>
+ *
+ * <p>
+ * Documents that differ per request (e.g. by the caller's tenant or role) are obtained
+ * using {@link #getView(String, Supplier)}, which filters the final document without
+ * modifying it and caches the result.
+ * </p>
+ *
  * @author Martin Kouba
  */
 public class OpenApiDocument {
 
     public static final OpenApiDocument INSTANCE = new OpenApiDocument();
 
+    // Settings of documents set directly rather than initialized from a config
+    private static final OpenApiConfig DEFAULT_CONFIG = new OpenApiConfig() {
+    };
+
     // These are used during init only
     private transient OpenApiConfig config;
     private transient OpenAPI annotationsModel;
     private transient OpenAPI readerModel;
     private transient OpenAPI staticFileModel;
-    private transient Map<String, OASFilter> filters = new HashMap<>();
+    private transient Map<String, OASFilter> filters = new LinkedHashMap<>();
     private transient String archiveName;
     private transient String version;
 
-    private transient OpenAPI model;
+    // The final model, replaced as a whole and read without locking
+    private transient volatile Snapshot snapshot;
+
+    /**
+     * The final model together with its serialized forms.
+     */
+    private static final class Snapshot {
+        final OpenAPI model;
+        final ConcurrentMap<String, SerializedDocument> serialized = new ConcurrentHashMap<>();
+        final ViewCache views;
+        // Read-only form of the model the views are created from, the model itself when already frozen
+        private volatile OpenAPI frozenModel;
+
+        Snapshot(OpenAPI model, OpenApiConfig config) {
+            this.model = model;
+            this.views = new ViewCache(config.viewCacheMaxEntries(), config.viewCacheMaxSize());
+            this.frozenModel = config.modelFreezeEnable() ? model : null;
+        }
+
+        OpenAPI frozenModel() {
+            OpenAPI frozen = frozenModel;
+
+            if (frozen == null) {
+                synchronized (this) {
+                    frozen = frozenModel;
+
+                    if (frozen == null) {
+                        // The model returned by get() may still be modified by its holder, freeze a copy
+                        frozen = FreezeUtil.freeze(CopyUtil.deepCopy(model));
+                        frozenModel = frozen;
+                    }
+                }
+            }
+
+            return frozen;
+        }
+    }
+
+    /**
+     * A filtered view of the final model together with its serialized forms.
+     */
+    private static final class View {
+        // Rough size of a copied model element, its maps and lists
+        static final int ELEMENT_SIZE = 256;
+
+        final OpenAPI model;
+        final Map<String, SerializedDocument> serialized = new ConcurrentHashMap<>();
+        final long modelSize;
+
+        View(OpenAPI model, int copiedElements) {
+            this.model = model;
+            this.modelSize = (long) copiedElements * ELEMENT_SIZE;
+        }
+
+        long size() {
+            long size = modelSize;
+            for (SerializedDocument document : serialized.values()) {
+                size += document.getLength(SerializedDocument.Encoding.IDENTITY);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Least recently used views of a snapshot, bounded by their number and
+     * approximate size. Views are created outside of the lock, so a view
+     * requested concurrently by several callers may be created more than once.
+     * The serialized forms of a view are added under the lock, so that the size
+     * of each view is the size it was accounted for.
+     */
+    private static final class ViewCache {
+        private final int maxEntries;
+        private final long maxSize;
+        private final Map<String, View> views = new LinkedHashMap<>(16, 0.75f, true);
+        private long size;
+
+        ViewCache(int maxEntries, long maxSize) {
+            this.maxEntries = maxEntries;
+            this.maxSize = maxSize;
+        }
+
+        synchronized View get(String key) {
+            return views.get(key);
+        }
+
+        synchronized View put(String key, View view) {
+            View existing = views.get(key);
+
+            if (existing != null) {
+                return existing;
+            }
+
+            views.put(key, view);
+            size += view.size();
+            evict();
+            return view;
+        }
+
+        synchronized SerializedDocument putSerialized(String key, View view, String documentKey,
+                SerializedDocument document) {
+            SerializedDocument existing = view.serialized.putIfAbsent(documentKey, document);
+
+            if (existing != null) {
+                return existing;
+            }
+
+            if (views.get(key) == view) {
+                size += document.getLength(SerializedDocument.Encoding.IDENTITY);
+                evict();
+            }
+
+            return document;
+        }
+
+        private void evict() {
+            Iterator<View> entries = views.values().iterator();
+
+            // The most recently used view is retained even when it exceeds the bounds by itself
+            while ((views.size() > maxEntries || size > maxSize) && views.size() > 1) {
+                size -= entries.next().size();
+                entries.remove();
+            }
+        }
+    }
 
     private OpenApiDocument() {
     }
@@ -45,16 +200,30 @@ public class OpenApiDocument {
         return new OpenApiDocument();
     }
 
+    /**
+     * Create a builder for an independent, fully initialized document.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
     /**
      *
      * @return the final OpenAPI document produced during the startup of the app
      * @throws IllegalStateException If the final model is not initialized yet
      */
-    public synchronized OpenAPI get() {
-        if (model == null) {
+    public OpenAPI get() {
+        return current().model;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
             throw ApiMessages.msg.modelNotInitialized();
         }
-        return model;
+        return current;
     }
 
     /**
@@ -63,22 +232,119 @@ public class OpenApiDocument {
      * @param model OpenAPI model instance
      */
     public synchronized void set(OpenAPI model) {
-        this.model = model;
+        this.snapshot = model != null ? new Snapshot(model, DEFAULT_CONFIG) : null;
     }
 
     /**
      * Reset the holder.
      */
     public synchronized void reset() {
-        model = null;
+        snapshot = null;
         clear();
     }
 
+    /**
+     * Get the final OpenAPI document serialized in the given format. The document
+     * is serialized on first request and the result is retained until the holder
+     * is reset or initialized again.
+     *
+     * @param format the serialization format
+     * @param pretty whether JSON output should be indented
+     * @return the serialized form of the final OpenAPI document
+     * @throws IOException Errors in processing the JSON
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public SerializedDocument getSerialized(Format format, boolean pretty) throws IOException {
+        // The model and its cache are read together so a result is never cached for a replaced model
+        final Snapshot current = current();
+
+        String key = format.name() + (pretty ? ":pretty" : ":compact");
+        SerializedDocument document = current.serialized.get(key);
+
+        if (document == null) {
+            document = SerializedDocument.of(current.model, format, pretty);
+            SerializedDocument existing = current.serialized.putIfAbsent(key, document);
+
+            if (existing != null) {
+                document = existing;
+            }
+        }
+
+        return document;
+    }
+
+    /**
+     * Get a view of the final OpenAPI document filtered for a group of callers,
+     * e.g. a tenant or a role. The filter is applied without modifying the final
+     * document: only the elements modified or removed by the filter (and the
+     * elements containing them) are copied, all others are shared. The filter
+     * callbacks may modify the element they are given and the elements nested
+     * within it, see {@link CopyOnWriteFilter}. Views are created from a frozen
+     * copy of the final document (the document itself when
+     * {@link OpenApiConfig#modelFreezeEnable()} is set).
+     *
+     * <p>
+     * Views are cached by key until the holder is reset or initialized again, or
+     * until they are evicted to honor {@link OpenApiConfig#viewCacheMaxEntries()}
+     * and {@link OpenApiConfig#viewCacheMaxSize()}. Callers must use the same key
+     * only for equivalent filters.
+     * </p>
+     *
+     * @param key the key identifying the view, e.g. the tenant's name
+     * @param filter supplies the filter when the view is not cached
+     * @return the filtered view, which must not be modified
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public OpenAPI getView(String key, Supplier<? extends OASFilter> filter) {
+        return getView(current(), key, filter).model;
+    }
+
+    /**
+     * Get a view of the final OpenAPI document filtered for a group of callers,
+     * serialized in the given format. The result is cached along with the view.
+     *
+     * @param key the key identifying the view, e.g. the tenant's name
+     * @param filter supplies the filter when the view is not cached
+     * @param format the serialization format
+     * @param pretty whether JSON output should be indented
+     * @return the serialized form of the filtered view
+     * @throws IOException Errors in processing the JSON
+     * @throws IllegalStateException If the final model is not initialized yet
+     * @see #getView(String, Supplier)
+     */
+    public SerializedDocument getSerializedView(String key, Supplier<? extends OASFilter> filter, Format format,
+            boolean pretty) throws IOException {
+        final Snapshot current = current();
+        final View view = getView(current, key, filter);
+
+        String documentKey = format.name() + (pretty ? ":pretty" : ":compact");
+        SerializedDocument document = view.serialized.get(documentKey);
+
+        if (document == null) {
+            document = current.views.putSerialized(key, view, documentKey,
+                    SerializedDocument.of(view.model, format, pretty));
+        }
+
+        return document;
+    }
+
+    private static View getView(Snapshot current, String key, Supplier<? extends OASFilter> filter) {
+        View view = current.views.get(key);
+
+        if (view == null) {
+            CopyOnWriteFilter copyOnWrite = new CopyOnWriteFilter(Collections.singletonList(filter.get()));
+            OpenAPI model = copyOnWrite.apply(current.frozenModel());
+            view = current.views.put(key, new View(model, copyOnWrite.getCopiedElements()));
+        }
+
+        return view;
+    }
+
     /**
      * @return {@code true} if model initialized
      */
-    public synchronized boolean isSet() {
-        return model != null;
+    public boolean isSet() {
+        return snapshot != null;
     }
 
     public synchronized void config(OpenApiConfig config) {
@@ -112,7 +378,7 @@ public class OpenApiDocument {
     }
 
     public synchronized void initialize() {
-        if (model != null) {
+        if (snapshot != null) {
             modelAlreadyInitialized();
         }
         // Check all the required parts are set
@@ -120,17 +386,35 @@ public class OpenApiDocument {
             throw ApiMessages.msg.configMustBeSet();
         }
 
+        snapshot = new Snapshot(buildModel(config, readerModel, staticFileModel, annotationsModel, filters.values(),
+                archiveName, version), config);
+        clear();
+    }
+
+    private static OpenAPI buildModel(OpenApiConfig config,
+            OpenAPI readerModel,
+            OpenAPI staticFileModel,
+            OpenAPI annotationsModel,
+            Collection<OASFilter> filters,
+            String archiveName,
+            String version) {
+
         // Phase 1: Use OASModelReader
         OpenAPI merged = readerModel;
 
-        // Phase 2: Merge any static OpenAPI file packaged in the app
-        merged = MergeUtil.mergeObjects(merged, staticFileModel);
+        Span span = BootstrapListener.startStage(Stage.MERGE);
+        try {
+            // Phase 2: Merge any static OpenAPI file packaged in the app
+            merged = MergeUtil.mergeObjects(merged, staticFileModel);
 
-        // Phase 3: Merge annotations
-        merged = MergeUtil.mergeObjects(merged, annotationsModel);
+            // Phase 3: Merge annotations
+            merged = MergeUtil.mergeObjects(merged, annotationsModel);
+        } finally {
+            span.end();
+        }
 
         // Phase 4: Filter model via OASFilter
-        merged = filterModel(merged);
+        merged = filterModel(merged, filters);
 
         // Phase 5: Default empty document if model == null
         if (merged == null) {
@@ -153,10 +437,24 @@ public class OpenApiDocument {
         }
 
         // Phase 7: Use Config values to add Servers (global, pathItem, operation)
-        ConfigUtil.applyConfig(config, merged);
+        span = BootstrapListener.startStage(Stage.CONFIG);
+        try {
+            ConfigUtil.applyConfig(config, merged);
+        } finally {
+            span.end();
+        }
 
-        model = merged;
-        clear();
+        // Phase 8: Share identical leaf schemas and strings
+        if (config.modelDeduplicateEnable()) {
+            DedupUtil.deduplicate(merged);
+        }
+
+        // Phase 9: Convert the complete model to its compact, read-only form
+        if (config.modelFreezeEnable()) {
+            FreezeUtil.freeze(merged);
+        }
+
+        return merged;
     }
 
     /**
@@ -164,19 +462,22 @@ public class OpenApiDocument {
      * simply return the model unchanged.
      *
      * @param model
+     * @param filters
      */
-    private OpenAPI filterModel(OpenAPI model) {
+    private static OpenAPI filterModel(OpenAPI model, Collection<OASFilter> filters) {
         if (model == null || filters.isEmpty()) {
             return model;
         }
-        for (OASFilter filter : filters.values()) {
-            model = FilterUtil.applyFilter(filter, model);
+        Span span = BootstrapListener.startStage(Stage.FILTER);
+        try {
+            return FilterUtil.applyFilters(filters, model);
+        } finally {
+            span.end();
         }
-        return model;
     }
 
     private synchronized void set(Runnable action) {
-        if (model != null) {
+        if (snapshot != null) {
             modelAlreadyInitialized();
         }
         action.run();
@@ -195,4 +496,75 @@ public class OpenApiDocument {
         archiveName = null;
     }
 
+    /**
+     * Builds an independent {@link OpenApiDocument} from the models and settings
+     * of a single application. Builders are not thread-safe, but separate
+     * builders may be used concurrently.
+     */
+    public static final class Builder {
+        private OpenApiConfig config;
+        private OpenAPI annotationsModel;
+        private OpenAPI readerModel;
+        private OpenAPI staticFileModel;
+        private final Map<String, OASFilter> filters = new LinkedHashMap<>();
+        private String archiveName;
+        private String version;
+
+        private Builder() {
+        }
+
+        public Builder config(OpenApiConfig config) {
+            this.config = config;
+            return this;
+        }
+
+        public Builder modelFromAnnotations(OpenAPI model) {
+            this.annotationsModel = model;
+            return this;
+        }
+
+        public Builder modelFromReader(OpenAPI model) {
+            this.readerModel = model;
+            return this;
+        }
+
+        public Builder modelFromStaticFile(OpenAPI model) {
+            this.staticFileModel = model;
+            return this;
+        }
+
+        public Builder filter(OASFilter filter) {
+            if (filter != null) {
+                this.filters.putIfAbsent(filter.getClass().getName(), filter);
+            }
+            return this;
+        }
+
+        public Builder archiveName(String archiveName) {
+            this.archiveName = archiveName;
+            return this;
+        }
+
+        public Builder version(String version) {
+            this.version = version;
+            return this;
+        }
+
+        /**
+         * Merge, filter, and complete the models to produce the final document.
+         *
+         * @return a new, initialized document
+         * @throws IllegalStateException If the config has not been set
+         */
+        public OpenApiDocument build() {
+            if (config == null) {
+                throw ApiMessages.msg.configMustBeSet();
+            }
+
+            OpenApiDocument document = new OpenApiDocument();
+            document.snapshot = new Snapshot(buildModel(config, readerModel, staticFileModel, annotationsModel,
+                    filters.values(), archiveName, version), config);
+            return document;
+        }
+    }
 }
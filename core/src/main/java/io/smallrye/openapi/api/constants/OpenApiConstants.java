@@ -44,6 +44,15 @@ public final class OpenApiConstants {
     public static final String SMALLRYE_SORTED_PROPERTIES_ENABLE = SMALLRYE_PREFIX + SUFFIX_SORTED_PROPERTIES_ENABLE;
     public static final String SCAN_PROFILES = SMALLRYE_PREFIX + "scan.profiles";
     public static final String SCAN_EXCLUDE_PROFILES = SMALLRYE_PREFIX + "scan.exclude.profiles";
+    public static final String SCAN_PARALLELISM = SMALLRYE_PREFIX + "scan.parallelism";
+    public static final String SCAN_REPORT_SIZE = SMALLRYE_PREFIX + "scan.report.size";
+    public static final String SCAN_CACHE_DIRECTORY = SMALLRYE_PREFIX + "scan.cache.directory";
+    public static final String STATIC_FILE_LAZY_PARSING_ENABLE = SMALLRYE_PREFIX + "staticFile.lazyParsing.enable";
+    public static final String SERVERS_INDEX_ENABLE = SMALLRYE_PREFIX + "servers.index.enable";
+    public static final String MODEL_DEDUPLICATE_ENABLE = SMALLRYE_PREFIX + "model.deduplicate.enable";
+    public static final String MODEL_FREEZE_ENABLE = SMALLRYE_PREFIX + "model.freeze.enable";
+    public static final String VIEW_CACHE_MAX_ENTRIES = SMALLRYE_PREFIX + "view.cache.maxEntries";
+    public static final String VIEW_CACHE_MAX_SIZE = SMALLRYE_PREFIX + "view.cache.maxSize";
 
     public static final String VERSION = SMALLRYE_PREFIX + "openapi";
     public static final String INFO_TITLE = SMALLRYE_PREFIX + "info.title";
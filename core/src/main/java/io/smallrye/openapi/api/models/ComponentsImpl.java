@@ -14,6 +14,7 @@ import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 
+import io.smallrye.openapi.runtime.io.LazyModelMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -44,7 +45,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setSchemas(Map<String, Schema> schemas) {
-        this.schemas = ModelUtil.replace(schemas, LinkedHashMap<String, Schema>::new);
+        this.schemas = ModelUtil.replace(schemas, LazyModelMap::copyOf);
     }
 
     /**
@@ -146,7 +147,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setExamples(Map<String, Example> examples) {
-        this.examples = ModelUtil.replace(examples, LinkedHashMap<String, Example>::new);
+        this.examples = ModelUtil.replace(examples, LazyModelMap::copyOf);
     }
 
     /**
@@ -6,6 +6,7 @@ import java.util.Map;
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.Paths;
 
+import io.smallrye.openapi.runtime.io.LazyModelMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -46,7 +47,7 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
      */
     @Override
     public void setPathItems(Map<String, PathItem> items) {
-        this.pathItems = ModelUtil.replace(items, LinkedHashMap<String, PathItem>::new);
+        this.pathItems = ModelUtil.replace(items, LazyModelMap::copyOf);
     }
 
     // Begin Methods to support implementation of Map for MicroProfile OpenAPI 1.1
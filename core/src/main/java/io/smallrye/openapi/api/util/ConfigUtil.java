@@ -1,8 +1,10 @@
 package io.smallrye.openapi.api.util;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
@@ -97,11 +99,70 @@ public class ConfigUtil {
 
         // Now the PathItem and Operation servers
         Map<String, PathItem> pathItems = oai.getPaths().getPathItems();
-        if (pathItems != null) {
+        if (pathItems == null) {
+            return;
+        }
+
+        Map<String, Set<String>> allPathServers = config.getPathServers();
+        Map<String, Set<String>> allOperationServers = config.getOperationServers();
+
+        if (allPathServers != null && allOperationServers != null) {
+            configureServers(pathItems, allPathServers, allOperationServers);
+        } else {
             pathItems.entrySet().forEach(entry -> configureServers(config, entry.getKey(), entry.getValue()));
         }
     }
 
+    /**
+     * Configures the servers for PathItems and Operations using overrides that
+     * have been read from the configuration in advance. Only the path items and
+     * operations with overrides are modified.
+     *
+     * @param pathItems map of the document's PathItems
+     * @param allPathServers server overrides keyed by path
+     * @param allOperationServers server overrides keyed by operationId
+     */
+    static void configureServers(Map<String, PathItem> pathItems,
+            Map<String, Set<String>> allPathServers,
+            Map<String, Set<String>> allOperationServers) {
+
+        allPathServers.forEach((pathName, pathServers) -> {
+            PathItem pathItem = pathItems.get(pathName);
+            if (pathItem != null) {
+                setServers(pathServers, pathItem::servers, pathItem::addServer);
+            }
+        });
+
+        if (allOperationServers.isEmpty()) {
+            return;
+        }
+
+        for (PathItem pathItem : pathItems.values()) {
+            if (pathItem == null || pathItem.getOperations() == null) {
+                continue;
+            }
+            for (Operation operation : pathItem.getOperations().values()) {
+                Set<String> operationServers = operation.getOperationId() != null
+                        ? allOperationServers.get(operation.getOperationId())
+                        : null;
+                if (operationServers != null) {
+                    setServers(operationServers, operation::servers, operation::addServer);
+                }
+            }
+        }
+    }
+
+    private static void setServers(Set<String> urls, Consumer<List<Server>> setter, Consumer<Server> adder) {
+        if (!urls.isEmpty()) {
+            setter.accept(new ArrayList<>());
+            for (String url : urls) {
+                Server server = new ServerImpl();
+                server.setUrl(url);
+                adder.accept(server);
+            }
+        }
+    }
+
     /**
      * Configures the servers for a PathItem.
      * 
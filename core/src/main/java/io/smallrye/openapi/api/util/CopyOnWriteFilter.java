@@ -0,0 +1,502 @@
+package io.smallrye.openapi.api.util;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+import io.smallrye.openapi.api.models.MapModel;
+import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.io.LazyModelMap;
+
+/**
+ * Applies {@link OASFilter}s to a model without modifying it, producing a
+ * filtered view that shares all unchanged elements with the original model
+ * (e.g. a model frozen by {@link FreezeUtil}).
+ *
+ * Each element given to a filter callback is a deep copy of the element, so
+ * the callback may modify the element and any element nested within it. The
+ * parts of the copy the callback did not modify are replaced by the elements
+ * they were copied from, and when it neither removes, replaces, nor modifies
+ * anything, the original element is retained. The elements containing a
+ * removed, replaced, or modified element are copied as well.
+ *
+ * Unlike {@link FilterUtil}, elements that are returned as replacements from a
+ * callback are used in the view.
+ */
+public final class CopyOnWriteFilter {
+
+    private final FilterUtil.Plan plan;
+    // Objects created by the deep copy given to the current callback
+    private final Set<Object> owned = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int copies;
+
+    /**
+     * @param filters the filters to apply, in order
+     */
+    public CopyOnWriteFilter(Collection<OASFilter> filters) {
+        this.plan = new FilterUtil.Plan(filters);
+    }
+
+    /**
+     * Create a filtered view of the model.
+     *
+     * @param filter the filter to apply
+     * @param model the model, not modified
+     * @return the filtered view
+     */
+    public static OpenAPI applyFilter(OASFilter filter, OpenAPI model) {
+        return new CopyOnWriteFilter(Collections.singletonList(filter)).apply(model);
+    }
+
+    /**
+     * Create a filtered view of the model.
+     *
+     * @param model the model, not modified
+     * @return the filtered view, or the model itself if the filters made no changes
+     */
+    public OpenAPI apply(OpenAPI model) {
+        return (OpenAPI) visitModel(model);
+    }
+
+    /**
+     * @return the number of model elements copied by this filter so far
+     */
+    public int getCopiedElements() {
+        return copies;
+    }
+
+    private Object visitValue(Object value) {
+        if (value instanceof ModelImpl) {
+            return visitModel(value);
+        }
+        if (value instanceof Map) {
+            return visitMap(value);
+        }
+        if (value instanceof List) {
+            return visitList(value);
+        }
+        return value;
+    }
+
+    private Object visitModel(Object model) {
+        if (!isVisited(model)) {
+            return model;
+        }
+
+        Object copy = null;
+
+        for (Field field : ModelFields.of(model.getClass())) {
+            Object value = ModelFields.get(field, model);
+
+            if (value != null) {
+                Object result = visitValue(value);
+
+                if (result != value) {
+                    if (copy == null) {
+                        copy = copyOf(model);
+                    }
+                    ModelFields.set(field, copy, result);
+                }
+            }
+        }
+
+        if (!plan.overridden.contains(callbackOf(model))) {
+            return copy != null ? copy : model;
+        }
+
+        Object base = copy != null ? copy : model;
+        Object target = CopyUtil.deepCopy(base, owned);
+
+        try {
+            Object result = invokeCallback(target);
+
+            if (result == null || result != target) {
+                return result;
+            }
+
+            result = retain(base, target);
+
+            if (result != base && copy != null) {
+                // The shallow copy is superseded by the callback's copy
+                copies--;
+            }
+            return result;
+        } finally {
+            owned.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object visitMap(Object value) {
+        Map<Object, Object> map = (Map<Object, Object>) value;
+
+        if (map.isEmpty() || !isVisited(map.values().iterator().next())) {
+            // Maps hold elements of a single type, none of interest to the filters
+            return map;
+        }
+
+        Object[] results = new Object[map.size()];
+        boolean modified = false;
+        int i = 0;
+
+        for (Object element : map.values()) {
+            results[i] = element != null ? visitValue(element) : null;
+            modified |= results[i++] != element;
+        }
+
+        if (!modified) {
+            return map;
+        }
+
+        Map<Object, Object> result = new LinkedHashMap<>(map.size());
+        Iterator<Object> keys = map.keySet().iterator();
+
+        for (Object element : results) {
+            Object key = keys.next();
+
+            if (element != null) {
+                result.put(key, element);
+            }
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object visitList(Object value) {
+        List<Object> list = (List<Object>) value;
+
+        if (list.isEmpty() || !isVisited(list.get(0))) {
+            return list;
+        }
+
+        List<Object> result = null;
+
+        for (int i = 0, m = list.size(); i < m; i++) {
+            Object element = list.get(i);
+            Object filtered = element != null ? visitValue(element) : null;
+
+            if (filtered != element && result == null) {
+                result = new ArrayList<>(list.subList(0, i));
+            }
+            if (result != null && filtered != null) {
+                result.add(filtered);
+            }
+        }
+
+        return result != null ? result : list;
+    }
+
+    /**
+     * Determine whether an element, or any element nested within it, may be
+     * given to one of the filters.
+     */
+    private boolean isVisited(Object model) {
+        if (model instanceof OpenAPI) {
+            return true;
+        }
+        if (model instanceof Components) {
+            return plan.components;
+        }
+        if (model instanceof Paths || model instanceof PathItem || model instanceof Operation || model instanceof Callback) {
+            return plan.pathItems;
+        }
+        if (model instanceof Parameter) {
+            return plan.parameters;
+        }
+        if (model instanceof RequestBody) {
+            return plan.requestBodies;
+        }
+        if (model instanceof APIResponses || model instanceof APIResponse) {
+            return plan.responses;
+        }
+        if (model instanceof Content || model instanceof MediaType || model instanceof Encoding) {
+            return plan.content;
+        }
+        if (model instanceof Header) {
+            return plan.headers;
+        }
+        if (model instanceof Link) {
+            return plan.links;
+        }
+        if (model instanceof Schema) {
+            return plan.schemas;
+        }
+        if (model instanceof Server) {
+            return plan.servers;
+        }
+        if (model instanceof SecurityScheme) {
+            return plan.securitySchemes;
+        }
+        if (model instanceof Tag) {
+            return plan.tags;
+        }
+        return false;
+    }
+
+    private static String callbackOf(Object model) {
+        if (model instanceof OpenAPI) {
+            return "filterOpenAPI";
+        }
+        if (model instanceof PathItem) {
+            return "filterPathItem";
+        }
+        if (model instanceof Operation) {
+            return "filterOperation";
+        }
+        if (model instanceof Callback) {
+            return "filterCallback";
+        }
+        if (model instanceof Parameter) {
+            return "filterParameter";
+        }
+        if (model instanceof RequestBody) {
+            return "filterRequestBody";
+        }
+        if (model instanceof APIResponse) {
+            return "filterAPIResponse";
+        }
+        if (model instanceof Header) {
+            return "filterHeader";
+        }
+        if (model instanceof Link) {
+            return "filterLink";
+        }
+        if (model instanceof Schema) {
+            return "filterSchema";
+        }
+        if (model instanceof Server) {
+            return "filterServer";
+        }
+        if (model instanceof SecurityScheme) {
+            return "filterSecurityScheme";
+        }
+        if (model instanceof Tag) {
+            return "filterTag";
+        }
+        return null;
+    }
+
+    private Object invokeCallback(Object model) {
+        OASFilter filter = plan.filter;
+
+        if (model instanceof OpenAPI) {
+            filter.filterOpenAPI((OpenAPI) model);
+            return model;
+        }
+        if (model instanceof PathItem) {
+            return filter.filterPathItem((PathItem) model);
+        }
+        if (model instanceof Operation) {
+            return filter.filterOperation((Operation) model);
+        }
+        if (model instanceof Callback) {
+            return filter.filterCallback((Callback) model);
+        }
+        if (model instanceof Parameter) {
+            return filter.filterParameter((Parameter) model);
+        }
+        if (model instanceof RequestBody) {
+            return filter.filterRequestBody((RequestBody) model);
+        }
+        if (model instanceof APIResponse) {
+            return filter.filterAPIResponse((APIResponse) model);
+        }
+        if (model instanceof Header) {
+            return filter.filterHeader((Header) model);
+        }
+        if (model instanceof Link) {
+            return filter.filterLink((Link) model);
+        }
+        if (model instanceof Schema) {
+            return filter.filterSchema((Schema) model);
+        }
+        if (model instanceof Server) {
+            return filter.filterServer((Server) model);
+        }
+        if (model instanceof SecurityScheme) {
+            return filter.filterSecurityScheme((SecurityScheme) model);
+        }
+        return filter.filterTag((Tag) model);
+    }
+
+    /**
+     * Create a shallow copy of the element, with copies of its maps and lists.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Object copyOf(Object model) {
+        Object copy;
+
+        try {
+            if (model instanceof SchemaImpl) {
+                copy = new SchemaImpl(((SchemaImpl) model).getName());
+            } else {
+                copy = model.getClass().getDeclaredConstructor().newInstance();
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+
+        for (Field field : ModelFields.of(model.getClass())) {
+            Object value = ModelFields.get(field, model);
+
+            if (value instanceof Map && !(value instanceof ModelImpl)) {
+                value = LazyModelMap.copyOf((Map) value);
+            } else if (value instanceof List) {
+                value = new ArrayList<>((List) value);
+            }
+
+            ModelFields.set(field, copy, value);
+        }
+
+        copies++;
+        return copy;
+    }
+
+    /**
+     * Compare a value of the copy given to a filter callback with the value it
+     * was copied from. Properties are compared by equality, maps and lists by
+     * their elements.
+     *
+     * @return the original value if the callback did not modify the copy,
+     *         otherwise the copy, with the unmodified values nested within it
+     *         replaced by the original values
+     */
+    @SuppressWarnings("unchecked")
+    private Object retain(Object original, Object current) {
+        if (original == current || !owned.contains(current)) {
+            return Objects.equals(original, current) ? original : current;
+        }
+        if (current instanceof ModelImpl && original != null && original.getClass() == current.getClass()) {
+            return retainModel(original, current);
+        }
+        if (current instanceof Map && original instanceof Map && !(original instanceof ModelImpl)) {
+            return retainEntries((Map<Object, Object>) original, (Map<Object, Object>) current);
+        }
+        if (current instanceof List && original instanceof List) {
+            return retainElements((List<Object>) original, (List<Object>) current);
+        }
+
+        countCopies(current);
+        return current;
+    }
+
+    /**
+     * Count the models of a value added by a callback that were copied.
+     */
+    private void countCopies(Object value) {
+        if (value instanceof ModelImpl) {
+            if (owned.contains(value)) {
+                copies++;
+            }
+            for (Field field : ModelFields.of(value.getClass())) {
+                countCopies(ModelFields.get(field, value));
+            }
+        } else if (value instanceof Map) {
+            ((Map<?, ?>) value).values().forEach(this::countCopies);
+        } else if (value instanceof List) {
+            ((List<?>) value).forEach(this::countCopies);
+        }
+    }
+
+    private Object retainModel(Object original, Object current) {
+        // A model that is itself a map holds values only, e.g. the scopes of a security requirement
+        boolean modified = original instanceof Map && !(original instanceof MapModel) && !original.equals(current);
+
+        for (Field field : ModelFields.of(current.getClass())) {
+            Object value = ModelFields.get(field, current);
+            Object originalValue = ModelFields.get(field, original);
+            Object result = retain(originalValue, value);
+
+            if (result != value) {
+                ModelFields.set(field, current, result);
+            }
+            modified |= result != originalValue;
+        }
+
+        if (!modified) {
+            return original;
+        }
+
+        copies++;
+        return current;
+    }
+
+    private Object retainEntries(Map<Object, Object> original, Map<Object, Object> current) {
+        boolean modified = original.size() != current.size();
+        Iterator<Object> originalKeys = original.keySet().iterator();
+
+        for (Map.Entry<Object, Object> entry : current.entrySet()) {
+            Object key = entry.getKey();
+            modified |= !originalKeys.hasNext() || !key.equals(originalKeys.next());
+
+            if (!original.containsKey(key)) {
+                countCopies(entry.getValue());
+                modified = true;
+                continue;
+            }
+
+            Object originalValue = original.get(key);
+            Object result = retain(originalValue, entry.getValue());
+
+            if (result != entry.getValue()) {
+                entry.setValue(result);
+            }
+            modified |= result != originalValue;
+        }
+
+        return modified ? current : original;
+    }
+
+    private Object retainElements(List<Object> original, List<Object> current) {
+        boolean modified = original.size() != current.size();
+
+        for (int i = 0, m = current.size(); i < m; i++) {
+            if (i >= original.size()) {
+                countCopies(current.get(i));
+                modified = true;
+                continue;
+            }
+
+            Object originalValue = original.get(i);
+            Object result = retain(originalValue, current.get(i));
+
+            if (result != current.get(i)) {
+                current.set(i, result);
+            }
+            modified |= result != originalValue;
+        }
+
+        return modified ? current : original;
+    }
+}
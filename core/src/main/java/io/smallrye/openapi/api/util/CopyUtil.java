@@ -0,0 +1,105 @@
+package io.smallrye.openapi.api.util;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.smallrye.openapi.api.models.MapModel;
+import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+
+/**
+ * Creates deep copies of OAI data model objects, e.g. to hand out a cached
+ * model that the receiver may modify. Model objects, maps, and lists are
+ * copied; all other values (strings, numbers, enums, examples) are shared.
+ * A model referenced several times in the original is copied each time.
+ */
+public class CopyUtil {
+
+    private CopyUtil() {
+    }
+
+    /**
+     * Create a deep copy of the given model.
+     *
+     * @param model the model to copy, may be null
+     * @param <T> the type of the model
+     * @return the copy, or null if the model is null
+     */
+    public static <T> T deepCopy(T model) {
+        return deepCopy(model, null);
+    }
+
+    /**
+     * Create a deep copy of the given model, recording each model, map, and
+     * list created for the copy.
+     *
+     * @param model the model to copy, may be null
+     * @param copies receives the objects created, compared by identity, may be null
+     * @param <T> the type of the model
+     * @return the copy, or null if the model is null
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T deepCopy(T model, Set<Object> copies) {
+        return (T) copyValue(model, copies);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Object copyValue(Object value, Set<Object> copies) {
+        Object copy;
+
+        if (value instanceof ModelImpl) {
+            copy = copyModel(value, copies);
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            ((Map<Object, Object>) value).forEach((key, entry) -> map.put(key, copyValue(entry, copies)));
+            copy = map;
+        } else if (value instanceof List) {
+            List list = new ArrayList<>(((List) value).size());
+            for (Object element : (List) value) {
+                list.add(copyValue(element, copies));
+            }
+            copy = list;
+        } else {
+            return value;
+        }
+
+        if (copies != null) {
+            copies.add(copy);
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Object copyModel(Object model, Set<Object> copies) {
+        Object copy;
+
+        try {
+            if (model instanceof SchemaImpl) {
+                copy = new SchemaImpl(((SchemaImpl) model).getName());
+            } else {
+                copy = model.getClass().getDeclaredConstructor().newInstance();
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+
+        if (model instanceof Map && !(model instanceof MapModel)) {
+            // The model is itself the map
+            ((Map) model).forEach((key, entry) -> ((Map) copy).put(key, copyValue(entry, copies)));
+        }
+
+        for (Field field : ModelFields.of(model.getClass())) {
+            Object value = ModelFields.get(field, model);
+
+            if (value != null) {
+                ModelFields.set(field, copy, copyValue(value, copies));
+            }
+        }
+
+        return copy;
+    }
+}
@@ -0,0 +1,167 @@
+package io.smallrye.openapi.api.util;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+
+/**
+ * Removes duplication from a complete OAI data model:
+ *
+ * <ul>
+ * <li>structurally identical leaf schemas (schemas without nested models, e.g.
+ * <code>{ type: string, format: date-time }</code> or a
+ * <code>$ref</code>) are replaced with a single, shared instance
+ * <li>equal strings are replaced with a single instance
+ * </ul>
+ *
+ * The schemas defined in <code>components.schemas</code> and named schemas are
+ * never shared, a <code>$ref</code> is part of a schema's identity, so
+ * references resolve exactly as before. Since shared schemas are visible from
+ * each place they are used, the model should not be modified afterwards.
+ */
+public class DedupUtil {
+
+    private static final Field[] SCHEMA_FIELDS = ModelFields.of(SchemaImpl.class);
+
+    private final Map<String, String> strings = new HashMap<>();
+    private final Map<List<Object>, Schema> schemas = new HashMap<>();
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Schema> definitions = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private DedupUtil() {
+    }
+
+    /**
+     * Deduplicate the schemas and strings of the given model in place.
+     *
+     * @param model OpenAPI model, may be null
+     * @return the same model
+     */
+    public static OpenAPI deduplicate(OpenAPI model) {
+        if (model != null) {
+            DedupUtil dedup = new DedupUtil();
+
+            if (model.getComponents() != null && model.getComponents().getSchemas() != null) {
+                dedup.definitions.addAll(model.getComponents().getSchemas().values());
+            }
+
+            dedup.canonical(model);
+        }
+        return model;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Object canonical(Object value) {
+        if (value instanceof String) {
+            String existing = strings.putIfAbsent((String) value, (String) value);
+            return existing != null ? existing : value;
+        }
+        if (value instanceof ModelImpl) {
+            visit(value);
+            return isLeafSchema(value) ? canonicalSchema((Schema) value) : value;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = (Map) value;
+
+            if (map.getClass() == LinkedHashMap.class) {
+                Map<Object, Object> copy = new LinkedHashMap<>(map.size());
+                map.forEach((k, v) -> copy.put(canonical(k), canonical(v)));
+                return copy;
+            }
+
+            // Other maps (e.g. lazily parsed sections) are visited, but not replaced
+            map.values().forEach(this::canonical);
+            return value;
+        }
+        if (value instanceof List) {
+            List<Object> list = (List) value;
+
+            if (list.getClass() == ArrayList.class) {
+                list.replaceAll(this::canonical);
+            } else {
+                list.forEach(this::canonical);
+            }
+            return value;
+        }
+        return value;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void visit(Object model) {
+        if (!visited.add(model)) {
+            return;
+        }
+
+        if (model instanceof Map && ModelFields.of(model.getClass()).length == 0) {
+            // The model is itself the map (e.g. a SecurityRequirementImpl)
+            ((Map) model).values().forEach(this::canonical);
+        }
+
+        for (Field field : ModelFields.of(model.getClass())) {
+            Object value = ModelFields.get(field, model);
+
+            if (value != null) {
+                Object canonicalValue = canonical(value);
+
+                if (canonicalValue != value) {
+                    ModelFields.set(field, model, canonicalValue);
+                }
+            }
+        }
+    }
+
+    private boolean isLeafSchema(Object value) {
+        if (value.getClass() != SchemaImpl.class || SchemaImpl.isNamed((Schema) value) || definitions.contains(value)) {
+            return false;
+        }
+
+        for (Field field : SCHEMA_FIELDS) {
+            if (containsModel(ModelFields.get(field, value))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean containsModel(Object value) {
+        if (value instanceof ModelImpl) {
+            return true;
+        }
+        if (value instanceof Map) {
+            return containsModel(((Map<?, ?>) value).values());
+        }
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                if (containsModel(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Schema canonicalSchema(Schema schema) {
+        List<Object> key = new ArrayList<>(SCHEMA_FIELDS.length);
+
+        for (Field field : SCHEMA_FIELDS) {
+            key.add(ModelFields.get(field, schema));
+        }
+
+        Schema existing = schemas.putIfAbsent(key, schema);
+        return existing != null ? existing : schema;
+    }
+}
@@ -1,11 +1,16 @@
 package io.smallrye.openapi.api.util;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
@@ -25,13 +30,45 @@ import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
 
 /**
+ * Applies {@link OASFilter}s to a model. The callback methods overridden by
+ * each filter class are determined once, and only the parts of the model that
+ * may contain an element of interest to a filter are visited. For example, the
+ * schemas of a model are not visited for a filter that only overrides
+ * {@link OASFilter#filterOperation(Operation) filterOperation}.
+ *
  * @author eric.wittmann@gmail.com
  *
  */
 public class FilterUtil {
 
+    /**
+     * Names of the {@link OASFilter} methods overridden by each filter class
+     */
+    private static final ClassValue<Set<String>> OVERRIDDEN = new ClassValue<Set<String>>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            Set<String> overridden = new HashSet<>();
+
+            for (Method method : OASFilter.class.getMethods()) {
+                try {
+                    if (type.getMethod(method.getName(), method.getParameterTypes()).getDeclaringClass() != OASFilter.class) {
+                        overridden.add(method.getName());
+                    }
+                } catch (NoSuchMethodException e) {
+                    // Not possible for an implementation of the interface, assume overridden
+                    overridden.add(method.getName());
+                }
+            }
+
+            return Collections.unmodifiableSet(overridden);
+        }
+    };
+
     private FilterUtil() {
     }
 
@@ -45,58 +82,130 @@ public class FilterUtil {
      * @return Filtered OpenAPI model
      */
     public static final OpenAPI applyFilter(OASFilter filter, OpenAPI model) {
-        filterComponents(filter, model.getComponents());
+        return applyFilters(Collections.singletonList(filter), model);
+    }
+
+    /**
+     * Apply the given filters to the given model. Consecutive filters are
+     * fused and applied in a single pass, each element of the model is given
+     * to the filters in order, after its nested elements have been filtered.
+     * Filtering stops for an element as soon as one of the filters removes it,
+     * and each subsequent filter is given the element returned by the previous
+     * one.
+     *
+     * A filter overriding {@link OASFilter#filterOpenAPI(OpenAPI) filterOpenAPI}
+     * ends a pass: its <code>filterOpenAPI</code> is called once the model has
+     * been traversed, and the filters following it see the result in a new pass.
+     *
+     * @param filters
+     *        the filters to apply, in order
+     * @param model
+     *        OpenAPI model
+     * @return Filtered OpenAPI model
+     */
+    public static final OpenAPI applyFilters(Collection<OASFilter> filters, OpenAPI model) {
+        List<OASFilter> group = new ArrayList<>();
 
-        if (model.getPaths() != null) {
-            filter(filter,
+        for (OASFilter filter : filters) {
+            group.add(filter);
+
+            if (OVERRIDDEN.get(filter.getClass()).contains("filterOpenAPI")) {
+                applyPlan(new Plan(group), model);
+                group.clear();
+            }
+        }
+
+        if (!group.isEmpty()) {
+            applyPlan(new Plan(group), model);
+        }
+
+        return model;
+    }
+
+    /**
+     * Apply the fused filters of a plan to the given model in a single pass.
+     *
+     * @param plan the filters to apply
+     * @param model OpenAPI model
+     */
+    private static void applyPlan(Plan plan, OpenAPI model) {
+        if (plan.components) {
+            filterComponents(plan, model.getComponents());
+        }
+
+        if (plan.pathItems && model.getPaths() != null) {
+            filter(plan,
                     model.getPaths().getPathItems(),
                     FilterUtil::filterPathItem,
-                    filter::filterPathItem,
+                    plan.filter::filterPathItem,
                     model.getPaths()::removePathItem);
         }
 
-        filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
-        filter(filter, model.getTags(), null, filter::filterTag, model::removeTag);
-
-        filter.filterOpenAPI(model);
+        if (plan.servers) {
+            filter(plan, model.getServers(), null, plan.filter::filterServer, model::removeServer);
+        }
+        if (plan.tags) {
+            filter(plan, model.getTags(), null, plan.filter::filterTag, model::removeTag);
+        }
 
-        return model;
+        plan.filter.filterOpenAPI(model);
     }
 
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterComponents(OASFilter filter, Components model) {
+    private static void filterComponents(Plan plan, Components model) {
         if (model != null) {
-            filter(filter, model.getCallbacks(), FilterUtil::filterCallback, filter::filterCallback, model::removeCallback);
-            filter(filter, model.getHeaders(), FilterUtil::filterHeader, filter::filterHeader, model::removeHeader);
-            filter(filter, model.getLinks(), FilterUtil::filterLink, filter::filterLink, model::removeLink);
-            filter(filter, model.getParameters(), FilterUtil::filterParameter, filter::filterParameter, model::removeParameter);
-            filter(filter, model.getRequestBodies(), FilterUtil::filterRequestBody, filter::filterRequestBody,
-                    model::removeRequestBody);
-            filter(filter, model.getResponses(), FilterUtil::filterAPIResponse, filter::filterAPIResponse,
-                    model::removeResponse);
-            filter(filter, model.getSchemas(), FilterUtil::filterSchema, filter::filterSchema, model::removeSchema);
-            filter(filter, model.getSecuritySchemes(), null, filter::filterSecurityScheme, model::removeSecurityScheme);
+            OASFilter filter = plan.filter;
+
+            if (plan.pathItems) {
+                filter(plan, model.getCallbacks(), FilterUtil::filterCallback, filter::filterCallback,
+                        model::removeCallback);
+            }
+            if (plan.headers) {
+                filter(plan, model.getHeaders(), FilterUtil::filterHeader, filter::filterHeader, model::removeHeader);
+            }
+            if (plan.links) {
+                filter(plan, model.getLinks(), FilterUtil::filterLink, filter::filterLink, model::removeLink);
+            }
+            if (plan.parameters) {
+                filter(plan, model.getParameters(), FilterUtil::filterParameter, filter::filterParameter,
+                        model::removeParameter);
+            }
+            if (plan.requestBodies) {
+                filter(plan, model.getRequestBodies(), FilterUtil::filterRequestBody, filter::filterRequestBody,
+                        model::removeRequestBody);
+            }
+            if (plan.responses) {
+                filter(plan, model.getResponses(), FilterUtil::filterAPIResponse, filter::filterAPIResponse,
+                        model::removeResponse);
+            }
+            if (plan.schemas) {
+                filter(plan, model.getSchemas(), FilterUtil::filterSchema, filter::filterSchema, model::removeSchema);
+            }
+            if (plan.securitySchemes) {
+                filter(plan, model.getSecuritySchemes(), null, filter::filterSecurityScheme,
+                        model::removeSecurityScheme);
+            }
         }
     }
 
     /**
      * Filters the given models.
      * 
-     * @param filter OASFilter
+     * @param plan the filters to apply
      * @param models map of models to be filtered
      * @param contentFilter a filter method to be applied over the properties of each model
      * @param modelFilter a filter method - reference to method of OASFilter
      * @param remover
      *        reference to the containing model's method for removing models
      */
-    private static <K, V> void filter(OASFilter filter,
+    private static <K, V> void filter(Plan plan,
             Map<K, V> models,
-            BiConsumer<OASFilter, V> contentFilter,
+            BiConsumer<Plan, V> contentFilter,
             UnaryOperator<V> modelFilter,
             Consumer<K> remover) {
 
@@ -106,7 +215,7 @@ public class FilterUtil {
                 V model = entry.getValue();
 
                 if (contentFilter != null) {
-                    contentFilter.accept(filter, model);
+                    contentFilter.accept(plan, model);
                 }
 
                 if (modelFilter.apply(model) == null) {
@@ -119,16 +228,16 @@ public class FilterUtil {
     /**
      * Filters the given models.
      * 
-     * @param filter OASFilter
+     * @param plan the filters to apply
      * @param models list of models to be filtered
      * @param contentFilter a filter method to be applied over the properties of each model
      * @param modelFilter a filter method - reference to method of OASFilter
      * @param remover
      *        reference to the containing model's method for removing models
      */
-    private static <T> void filter(OASFilter filter,
+    private static <T> void filter(Plan plan,
             List<T> models,
-            BiConsumer<OASFilter, T> contentFilter,
+            BiConsumer<Plan, T> contentFilter,
             UnaryOperator<T> modelFilter,
             Consumer<T> remover) {
 
@@ -136,7 +245,7 @@ public class FilterUtil {
             // The collection must be copied since the original may be modified via the remover
             for (T model : new ArrayList<>(models)) {
                 if (contentFilter != null) {
-                    contentFilter.accept(filter, model);
+                    contentFilter.accept(plan, model);
                 }
 
                 if (modelFilter.apply(model) == null) {
@@ -149,22 +258,22 @@ public class FilterUtil {
     /**
      * Filters a given model
      * 
-     * @param filter OASFilter
+     * @param plan the filters to apply
      * @param models model to be filtered
      * @param contentFilter a filter method to be applied over the properties the model
      * @param modelFilter a filter method - reference to method of OASFilter
      * @param mutator
      *        reference to the containing model's method for updating the model
      */
-    private static <T> void filter(OASFilter filter,
+    private static <T> void filter(Plan plan,
             T model,
-            BiConsumer<OASFilter, T> contentFilter,
+            BiConsumer<Plan, T> contentFilter,
             UnaryOperator<T> modelFilter,
             Consumer<T> mutator) {
 
         if (model != null) {
             if (contentFilter != null) {
-                contentFilter.accept(filter, model);
+                contentFilter.accept(plan, model);
             }
 
             mutator.accept(modelFilter.apply(model));
@@ -174,17 +283,17 @@ public class FilterUtil {
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterCallback(OASFilter filter, Callback model) {
+    private static void filterCallback(Plan plan, Callback model) {
         if (model != null) {
             Collection<String> keys = new ArrayList<>(model.getPathItems().keySet());
             for (String key : keys) {
                 PathItem childModel = model.getPathItem(key);
-                filterPathItem(filter, childModel);
+                filterPathItem(plan, childModel);
 
-                if (filter.filterPathItem(childModel) == null) {
+                if (plan.filter.filterPathItem(childModel) == null) {
                     model.removePathItem(key);
                 }
             }
@@ -194,46 +303,62 @@ public class FilterUtil {
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterPathItem(OASFilter filter, PathItem model) {
+    private static void filterPathItem(Plan plan, PathItem model) {
         if (model != null) {
-            filter(filter, model.getParameters(), FilterUtil::filterParameter, filter::filterParameter, model::removeParameter);
-
-            filterOperation(filter, model.getDELETE(), model::setDELETE);
-            filterOperation(filter, model.getGET(), model::setGET);
-            filterOperation(filter, model.getHEAD(), model::setHEAD);
-            filterOperation(filter, model.getOPTIONS(), model::setOPTIONS);
-            filterOperation(filter, model.getPATCH(), model::setPATCH);
-            filterOperation(filter, model.getPOST(), model::setPOST);
-            filterOperation(filter, model.getPUT(), model::setPUT);
-            filterOperation(filter, model.getTRACE(), model::setTRACE);
+            if (plan.parameters) {
+                filter(plan, model.getParameters(), FilterUtil::filterParameter, plan.filter::filterParameter,
+                        model::removeParameter);
+            }
 
-            filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
+            filterOperation(plan, model.getDELETE(), model::setDELETE);
+            filterOperation(plan, model.getGET(), model::setGET);
+            filterOperation(plan, model.getHEAD(), model::setHEAD);
+            filterOperation(plan, model.getOPTIONS(), model::setOPTIONS);
+            filterOperation(plan, model.getPATCH(), model::setPATCH);
+            filterOperation(plan, model.getPOST(), model::setPOST);
+            filterOperation(plan, model.getPUT(), model::setPUT);
+            filterOperation(plan, model.getTRACE(), model::setTRACE);
+
+            if (plan.servers) {
+                filter(plan, model.getServers(), null, plan.filter::filterServer, model::removeServer);
+            }
         }
     }
 
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterOperation(OASFilter filter, Operation model, Consumer<Operation> mutator) {
+    private static void filterOperation(Plan plan, Operation model, Consumer<Operation> mutator) {
         if (model != null) {
-            filter(filter, model.getCallbacks(), FilterUtil::filterCallback, filter::filterCallback, model::removeCallback);
-            filter(filter, model.getParameters(), FilterUtil::filterParameter, filter::filterParameter, model::removeParameter);
-            filter(filter, model.getRequestBody(), FilterUtil::filterRequestBody, filter::filterRequestBody,
-                    model::setRequestBody);
+            OASFilter filter = plan.filter;
+
+            // Callbacks contain path items, they are of interest whenever operations are
+            filter(plan, model.getCallbacks(), FilterUtil::filterCallback, filter::filterCallback, model::removeCallback);
+
+            if (plan.parameters) {
+                filter(plan, model.getParameters(), FilterUtil::filterParameter, filter::filterParameter,
+                        model::removeParameter);
+            }
+            if (plan.requestBodies) {
+                filter(plan, model.getRequestBody(), FilterUtil::filterRequestBody, filter::filterRequestBody,
+                        model::setRequestBody);
+            }
 
-            if (model.getResponses() != null) {
+            if (plan.responses && model.getResponses() != null) {
                 APIResponses responses = model.getResponses();
-                filter(filter, responses.getAPIResponses(), FilterUtil::filterAPIResponse, filter::filterAPIResponse,
+                filter(plan, responses.getAPIResponses(), FilterUtil::filterAPIResponse, filter::filterAPIResponse,
                         responses::removeAPIResponse);
             }
 
-            filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
+            if (plan.servers) {
+                filter(plan, model.getServers(), null, filter::filterServer, model::removeServer);
+            }
 
             mutator.accept(filter.filterOperation(model));
         }
@@ -242,28 +367,31 @@ public class FilterUtil {
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterHeader(OASFilter filter, Header model) {
+    private static void filterHeader(Plan plan, Header model) {
         if (model != null) {
-            filterContent(filter, model.getContent());
-            filter(filter, model.getSchema(), FilterUtil::filterSchema, filter::filterSchema, model::setSchema);
+            filterContent(plan, model.getContent());
+
+            if (plan.schemas) {
+                filter(plan, model.getSchema(), FilterUtil::filterSchema, plan.filter::filterSchema, model::setSchema);
+            }
         }
     }
 
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterContent(OASFilter filter, Content model) {
-        if (model != null && model.getMediaTypes() != null) {
+    private static void filterContent(Plan plan, Content model) {
+        if (plan.content && model != null && model.getMediaTypes() != null) {
             Collection<String> keys = new ArrayList<>(model.getMediaTypes().keySet());
             for (String key : keys) {
                 MediaType childModel = model.getMediaType(key);
-                filterMediaType(filter, childModel);
+                filterMediaType(plan, childModel);
             }
         }
     }
@@ -271,28 +399,31 @@ public class FilterUtil {
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterMediaType(OASFilter filter, MediaType model) {
+    private static void filterMediaType(Plan plan, MediaType model) {
         if (model != null) {
-            filterEncoding(filter, model.getEncoding());
-            filter(filter, model.getSchema(), FilterUtil::filterSchema, filter::filterSchema, model::setSchema);
+            filterEncoding(plan, model.getEncoding());
+
+            if (plan.schemas) {
+                filter(plan, model.getSchema(), FilterUtil::filterSchema, plan.filter::filterSchema, model::setSchema);
+            }
         }
     }
 
     /**
      * Filters the given models.
      * 
-     * @param filter
+     * @param plan
      * @param models
      */
-    private static void filterEncoding(OASFilter filter, Map<String, Encoding> models) {
-        if (models != null) {
+    private static void filterEncoding(Plan plan, Map<String, Encoding> models) {
+        if (plan.headers && models != null) {
             Collection<String> keys = new ArrayList<>(models.keySet());
             for (String key : keys) {
                 Encoding model = models.get(key);
-                filterEncoding(filter, model);
+                filterEncoding(plan, model);
             }
         }
     }
@@ -300,81 +431,229 @@ public class FilterUtil {
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterEncoding(OASFilter filter, Encoding model) {
+    private static void filterEncoding(Plan plan, Encoding model) {
         if (model != null) {
-            filter(filter, model.getHeaders(), FilterUtil::filterHeader, filter::filterHeader, model::removeHeader);
+            filter(plan, model.getHeaders(), FilterUtil::filterHeader, plan.filter::filterHeader, model::removeHeader);
         }
     }
 
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterLink(OASFilter filter, Link model) {
-        if (model != null && model.getServer() != null) {
-            model.setServer(filter.filterServer(model.getServer()));
+    private static void filterLink(Plan plan, Link model) {
+        if (plan.servers && model != null && model.getServer() != null) {
+            model.setServer(plan.filter.filterServer(model.getServer()));
         }
     }
 
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterParameter(OASFilter filter, Parameter model) {
+    private static void filterParameter(Plan plan, Parameter model) {
         if (model != null) {
-            filterContent(filter, model.getContent());
-            filter(filter, model.getSchema(), FilterUtil::filterSchema, filter::filterSchema, model::setSchema);
+            filterContent(plan, model.getContent());
+
+            if (plan.schemas) {
+                filter(plan, model.getSchema(), FilterUtil::filterSchema, plan.filter::filterSchema, model::setSchema);
+            }
         }
     }
 
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterRequestBody(OASFilter filter, RequestBody model) {
+    private static void filterRequestBody(Plan plan, RequestBody model) {
         if (model != null) {
-            filterContent(filter, model.getContent());
+            filterContent(plan, model.getContent());
         }
     }
 
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterAPIResponse(OASFilter filter, APIResponse model) {
+    private static void filterAPIResponse(Plan plan, APIResponse model) {
         if (model != null) {
-            filterContent(filter, model.getContent());
-            filter(filter, model.getHeaders(), FilterUtil::filterHeader, filter::filterHeader, model::removeHeader);
-            filter(filter, model.getLinks(), FilterUtil::filterLink, filter::filterLink, model::removeLink);
+            OASFilter filter = plan.filter;
+
+            filterContent(plan, model.getContent());
+
+            if (plan.headers) {
+                filter(plan, model.getHeaders(), FilterUtil::filterHeader, filter::filterHeader, model::removeHeader);
+            }
+            if (plan.links) {
+                filter(plan, model.getLinks(), FilterUtil::filterLink, filter::filterLink, model::removeLink);
+            }
         }
     }
 
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param plan
      * @param model
      */
-    private static void filterSchema(OASFilter filter, Schema model) {
+    private static void filterSchema(Plan plan, Schema model) {
         if (model != null) {
-            filter(filter, model.getAdditionalPropertiesSchema(), FilterUtil::filterSchema, filter::filterSchema,
+            OASFilter filter = plan.filter;
+
+            filter(plan, model.getAdditionalPropertiesSchema(), FilterUtil::filterSchema, filter::filterSchema,
                     model::setAdditionalPropertiesSchema);
-            filter(filter, model.getAllOf(), FilterUtil::filterSchema, filter::filterSchema, model::removeAllOf);
-            filter(filter, model.getAnyOf(), FilterUtil::filterSchema, filter::filterSchema, model::removeAnyOf);
-            filter(filter, model.getItems(), FilterUtil::filterSchema, filter::filterSchema, model::setItems);
-            filter(filter, model.getNot(), FilterUtil::filterSchema, filter::filterSchema, model::setNot);
-            filter(filter, model.getProperties(), FilterUtil::filterSchema, filter::filterSchema, model::removeProperty);
+            filter(plan, model.getAllOf(), FilterUtil::filterSchema, filter::filterSchema, model::removeAllOf);
+            filter(plan, model.getAnyOf(), FilterUtil::filterSchema, filter::filterSchema, model::removeAnyOf);
+            filter(plan, model.getItems(), FilterUtil::filterSchema, filter::filterSchema, model::setItems);
+            filter(plan, model.getNot(), FilterUtil::filterSchema, filter::filterSchema, model::setNot);
+            filter(plan, model.getProperties(), FilterUtil::filterSchema, filter::filterSchema, model::removeProperty);
+        }
+    }
+
+    /**
+     * Determines which parts of a model must be visited for a set of filters.
+     * Each flag is set when the corresponding model elements, or any element
+     * nested within them, are handled by one of the filters.
+     */
+    static final class Plan {
+        final OASFilter filter;
+        final Set<String> overridden;
+        final boolean schemas;
+        final boolean headers;
+        final boolean content;
+        final boolean servers;
+        final boolean links;
+        final boolean parameters;
+        final boolean requestBodies;
+        final boolean responses;
+        final boolean pathItems;
+        final boolean securitySchemes;
+        final boolean tags;
+        final boolean components;
+
+        Plan(Collection<OASFilter> filters) {
+            Set<String> overridden = new HashSet<>();
+            filters.forEach(f -> overridden.addAll(OVERRIDDEN.get(f.getClass())));
+
+            this.filter = filters.size() == 1 ? filters.iterator().next() : new FusedFilter(filters);
+            this.overridden = overridden;
+            this.schemas = overridden.contains("filterSchema");
+            // Headers contain content, and content contains headers (via encodings)
+            this.headers = schemas || overridden.contains("filterHeader");
+            this.content = headers;
+            this.servers = overridden.contains("filterServer");
+            this.links = servers || overridden.contains("filterLink");
+            this.parameters = content || overridden.contains("filterParameter");
+            this.requestBodies = content || overridden.contains("filterRequestBody");
+            this.responses = content || links || overridden.contains("filterAPIResponse");
+            // Path items, operations, and callbacks contain one another
+            this.pathItems = parameters || requestBodies || responses || servers
+                    || overridden.contains("filterPathItem")
+                    || overridden.contains("filterOperation")
+                    || overridden.contains("filterCallback");
+            this.securitySchemes = overridden.contains("filterSecurityScheme");
+            this.tags = overridden.contains("filterTag");
+            this.components = pathItems || securitySchemes;
+        }
+    }
+
+    /**
+     * Filter delegating to a sequence of filters, stopping when an element is
+     * removed.
+     */
+    static final class FusedFilter implements OASFilter {
+        private final OASFilter[] filters;
+
+        FusedFilter(Collection<OASFilter> filters) {
+            this.filters = filters.toArray(new OASFilter[0]);
+        }
+
+        private <T> T apply(T model, BiFunction<OASFilter, T, T> callback) {
+            for (OASFilter filter : filters) {
+                if (model == null) {
+                    break;
+                }
+                model = callback.apply(filter, model);
+            }
+            return model;
+        }
+
+        @Override
+        public PathItem filterPathItem(PathItem pathItem) {
+            return apply(pathItem, OASFilter::filterPathItem);
+        }
+
+        @Override
+        public Operation filterOperation(Operation operation) {
+            return apply(operation, OASFilter::filterOperation);
+        }
+
+        @Override
+        public Parameter filterParameter(Parameter parameter) {
+            return apply(parameter, OASFilter::filterParameter);
+        }
+
+        @Override
+        public Header filterHeader(Header header) {
+            return apply(header, OASFilter::filterHeader);
+        }
+
+        @Override
+        public RequestBody filterRequestBody(RequestBody requestBody) {
+            return apply(requestBody, OASFilter::filterRequestBody);
+        }
+
+        @Override
+        public APIResponse filterAPIResponse(APIResponse apiResponse) {
+            return apply(apiResponse, OASFilter::filterAPIResponse);
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            return apply(schema, OASFilter::filterSchema);
+        }
+
+        @Override
+        public SecurityScheme filterSecurityScheme(SecurityScheme securityScheme) {
+            return apply(securityScheme, OASFilter::filterSecurityScheme);
+        }
+
+        @Override
+        public Server filterServer(Server server) {
+            return apply(server, OASFilter::filterServer);
+        }
+
+        @Override
+        public Tag filterTag(Tag tag) {
+            return apply(tag, OASFilter::filterTag);
+        }
+
+        @Override
+        public Link filterLink(Link link) {
+            return apply(link, OASFilter::filterLink);
+        }
+
+        @Override
+        public Callback filterCallback(Callback callback) {
+            return apply(callback, OASFilter::filterCallback);
+        }
+
+        @Override
+        public void filterOpenAPI(OpenAPI openAPI) {
+            for (OASFilter filter : filters) {
+                filter.filterOpenAPI(openAPI);
+            }
         }
     }
 }
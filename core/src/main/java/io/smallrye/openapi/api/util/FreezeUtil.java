@@ -0,0 +1,105 @@
+package io.smallrye.openapi.api.util;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.api.models.MapModel;
+import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.FrozenList;
+import io.smallrye.openapi.runtime.util.FrozenMap;
+
+/**
+ * Converts a complete OAI data model into its compact, read-only form. Within
+ * each model object of the document:
+ *
+ * <ul>
+ * <li>maps and lists are replaced with immutable, array-backed copies (empty
+ * ones with shared instances), which the model's getters return as-is
+ * <li>equal strings are replaced with a single instance
+ * </ul>
+ *
+ * Scalar properties are not guarded; a frozen model must simply not be
+ * modified. Entries of lazily parsed maps are read while freezing.
+ */
+public class FreezeUtil {
+
+    private final Map<String, String> strings = new HashMap<>();
+    private final Set<Object> frozen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private FreezeUtil() {
+    }
+
+    /**
+     * Freeze the given model in place.
+     *
+     * @param model OpenAPI model, may be null
+     * @return the same, now frozen, model
+     */
+    public static OpenAPI freeze(OpenAPI model) {
+        if (model != null) {
+            new FreezeUtil().freezeValue(model);
+        }
+        return model;
+    }
+
+    private Object freezeValue(Object value) {
+        if (value instanceof String) {
+            return intern((String) value);
+        }
+        if (value instanceof ModelImpl) {
+            freezeModel(value);
+            return value;
+        }
+        if (value instanceof FrozenMap || value instanceof FrozenList) {
+            return value;
+        }
+        if (value instanceof Map) {
+            return FrozenMap.copyOf((Map<?, ?>) value, this::freezeValue, this::freezeValue);
+        }
+        if (value instanceof List) {
+            return FrozenList.copyOf((List<?>) value, this::freezeValue);
+        }
+        return value;
+    }
+
+    private String intern(String value) {
+        String existing = strings.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void freezeModel(Object model) {
+        if (!frozen.add(model)) {
+            // Shared (e.g. a schema used by several properties) and already done
+            return;
+        }
+
+        if (model instanceof Map && !(model instanceof MapModel)) {
+            // The model is itself the map, only its content can be frozen
+            Map map = (Map) model;
+            Map<Object, Object> entries = new LinkedHashMap<>(map);
+            map.clear();
+            entries.forEach((key, value) -> map.put(freezeValue(key), freezeValue(value)));
+        }
+
+        for (Field field : ModelFields.of(model.getClass())) {
+            Object value = ModelFields.get(field, model);
+
+            if (value != null) {
+                Object frozenValue = freezeValue(value);
+
+                if (frozenValue != value) {
+                    ModelFields.set(field, model, frozenValue);
+                }
+            }
+        }
+    }
+}
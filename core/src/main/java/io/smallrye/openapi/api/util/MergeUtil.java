@@ -7,7 +7,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +24,7 @@ import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.io.LazyModelMap;
 
 /**
  * Used to merge OAI data models into a single one. The MP+OAI 1.0 spec
@@ -65,7 +65,6 @@ public class MergeUtil {
      * @param <T> Type parameter
      * @return Merged object
      */
-    @SuppressWarnings({ "rawtypes" })
     public static <T> T mergeObjects(T object1, T object2) {
         if (object1 == null && object2 != null) {
             return object2;
@@ -83,6 +82,29 @@ public class MergeUtil {
             return object2;
         }
 
+        @SuppressWarnings("unchecked")
+        Merger<T> merger = (Merger<T>) ModelMergers.get(object1.getClass());
+
+        if (merger != null) {
+            merger.merge(object1, object2);
+            return object1;
+        }
+
+        return mergeProperties(object1, object2);
+    }
+
+    /**
+     * Merge of two objects of the same type without a registered {@link Merger}
+     * (e.g. an application's own model implementation), using the JavaBeans
+     * properties of the type.
+     *
+     * @param object1 First object
+     * @param object2 Second object
+     * @param <T> Type parameter
+     * @return Merged object
+     */
+    @SuppressWarnings({ "rawtypes" })
+    static <T> T mergeProperties(T object1, T object2) {
         PropertyDescriptor[] descriptors = new PropertyDescriptor[0];
         try {
             descriptors = Introspector.getBeanInfo(object1.getClass()).getPropertyDescriptors();
@@ -149,7 +171,7 @@ public class MergeUtil {
      * @param values2
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private static Map mergeMaps(Map values1, Map values2) {
+    static Map mergeMaps(Map values1, Map values2) {
         if (values1 == null && values2 == null) {
             return null;
         }
@@ -160,11 +182,12 @@ public class MergeUtil {
             return values2;
         }
 
+        // Copies of lazily parsed maps keep the values that are not merged unread
         if (!(values1 instanceof ModelImpl)) {
-            values1 = new LinkedHashMap<>(values1);
+            values1 = LazyModelMap.copyOf(values1);
         }
         if (!(values2 instanceof ModelImpl)) {
-            values2 = new LinkedHashMap<>(values2);
+            values2 = LazyModelMap.copyOf(values2);
         }
 
         for (Object key : values2.keySet()) {
@@ -217,7 +240,7 @@ public class MergeUtil {
      * @param values2
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private static Optional<List> mergeLists(List values1, List values2) {
+    static Optional<List> mergeLists(List values1, List values2) {
         if (values1 == null && values2 == null) {
             return Optional.empty();
         }
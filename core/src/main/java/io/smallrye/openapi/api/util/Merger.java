@@ -0,0 +1,21 @@
+package io.smallrye.openapi.api.util;
+
+/**
+ * Merges the properties of one model object in to another of the same type.
+ *
+ * @param <T> type of the model
+ */
+@FunctionalInterface
+interface Merger<T> {
+
+    /**
+     * Merge the properties of <code>source</code> in to <code>target</code>.
+     * Values present in the source override (or are merged with) those of the
+     * target.
+     *
+     * @param target the object to modify
+     * @param source the object providing the values to merge
+     */
+    void merge(T target, T source);
+
+}
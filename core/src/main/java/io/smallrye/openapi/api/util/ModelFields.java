@@ -0,0 +1,63 @@
+package io.smallrye.openapi.api.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.smallrye.openapi.api.models.ModelImpl;
+
+/**
+ * The fields holding the properties of the model implementations, for passes
+ * that visit every property of a complete model.
+ */
+final class ModelFields {
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+
+            // Fields of classes that are not models (e.g. the LinkedHashMap of a SecurityRequirementImpl) are skipped
+            for (Class<?> c = type; c != null && ModelImpl.class.isAssignableFrom(c); c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && !field.getType().isPrimitive()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private ModelFields() {
+    }
+
+    /**
+     * @param type a model implementation class
+     * @return the non-final, non-primitive instance fields of the class and its model superclasses
+     */
+    static Field[] of(Class<?> type) {
+        return FIELDS.get(type);
+    }
+
+    static Object get(Field field, Object model) {
+        try {
+            return field.get(model);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static void set(Field field, Object model, Object value) {
+        try {
+            field.set(model, value);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,468 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.openapi.models.Extensible;
+
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.ExternalDocumentationImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.api.models.PathItemImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.api.models.callbacks.CallbackImpl;
+import io.smallrye.openapi.api.models.examples.ExampleImpl;
+import io.smallrye.openapi.api.models.headers.HeaderImpl;
+import io.smallrye.openapi.api.models.info.ContactImpl;
+import io.smallrye.openapi.api.models.info.InfoImpl;
+import io.smallrye.openapi.api.models.info.LicenseImpl;
+import io.smallrye.openapi.api.models.links.LinkImpl;
+import io.smallrye.openapi.api.models.media.ContentImpl;
+import io.smallrye.openapi.api.models.media.DiscriminatorImpl;
+import io.smallrye.openapi.api.models.media.EncodingImpl;
+import io.smallrye.openapi.api.models.media.MediaTypeImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.api.models.media.XMLImpl;
+import io.smallrye.openapi.api.models.parameters.ParameterImpl;
+import io.smallrye.openapi.api.models.parameters.RequestBodyImpl;
+import io.smallrye.openapi.api.models.responses.APIResponseImpl;
+import io.smallrye.openapi.api.models.responses.APIResponsesImpl;
+import io.smallrye.openapi.api.models.security.OAuthFlowImpl;
+import io.smallrye.openapi.api.models.security.OAuthFlowsImpl;
+import io.smallrye.openapi.api.models.security.SecurityRequirementImpl;
+import io.smallrye.openapi.api.models.security.SecuritySchemeImpl;
+import io.smallrye.openapi.api.models.servers.ServerImpl;
+import io.smallrye.openapi.api.models.servers.ServerVariableImpl;
+import io.smallrye.openapi.api.models.tags.TagImpl;
+
+/**
+ * Registry of the {@link Merger}s for the model implementations in
+ * <code>io.smallrye.openapi.api.models</code>. Each merger handles the properties
+ * of its model explicitly, in the same (alphabetical) order and with the same
+ * rules used by {@link MergeUtil} for models without a registered merger:
+ *
+ * <ul>
+ * <li>nested models are merged recursively
+ * <li>maps and lists are combined
+ * <li>any other value present in the source replaces the target's value
+ * </ul>
+ *
+ * The <code>openapi</code> property of the document is never merged.
+ */
+final class ModelMergers {
+
+    private static final Map<Class<?>, Merger<?>> MERGERS = new IdentityHashMap<>();
+
+    static {
+        register(APIResponseImpl.class, ModelMergers::mergeAPIResponse);
+        register(APIResponsesImpl.class, ModelMergers::mergeAPIResponses);
+        register(CallbackImpl.class, ModelMergers::mergeCallback);
+        register(ComponentsImpl.class, ModelMergers::mergeComponents);
+        register(ContactImpl.class, ModelMergers::mergeContact);
+        register(ContentImpl.class, ModelMergers::mergeContent);
+        register(DiscriminatorImpl.class, ModelMergers::mergeDiscriminator);
+        register(EncodingImpl.class, ModelMergers::mergeEncoding);
+        register(ExampleImpl.class, ModelMergers::mergeExample);
+        register(ExternalDocumentationImpl.class, ModelMergers::mergeExternalDocumentation);
+        register(HeaderImpl.class, ModelMergers::mergeHeader);
+        register(InfoImpl.class, ModelMergers::mergeInfo);
+        register(LicenseImpl.class, ModelMergers::mergeLicense);
+        register(LinkImpl.class, ModelMergers::mergeLink);
+        register(MediaTypeImpl.class, ModelMergers::mergeMediaType);
+        register(OAuthFlowImpl.class, ModelMergers::mergeOAuthFlow);
+        register(OAuthFlowsImpl.class, ModelMergers::mergeOAuthFlows);
+        register(OpenAPIImpl.class, ModelMergers::mergeOpenAPI);
+        register(OperationImpl.class, ModelMergers::mergeOperation);
+        register(ParameterImpl.class, ModelMergers::mergeParameter);
+        register(PathItemImpl.class, ModelMergers::mergePathItem);
+        register(PathsImpl.class, ModelMergers::mergePaths);
+        register(RequestBodyImpl.class, ModelMergers::mergeRequestBody);
+        register(SchemaImpl.class, ModelMergers::mergeSchema);
+        register(SecurityRequirementImpl.class, ModelMergers::mergeSecurityRequirement);
+        register(SecuritySchemeImpl.class, ModelMergers::mergeSecurityScheme);
+        register(ServerImpl.class, ModelMergers::mergeServer);
+        register(ServerVariableImpl.class, ModelMergers::mergeServerVariable);
+        register(TagImpl.class, ModelMergers::mergeTag);
+        register(XMLImpl.class, ModelMergers::mergeXML);
+    }
+
+    private ModelMergers() {
+    }
+
+    private static <T> void register(Class<T> type, Merger<T> merger) {
+        MERGERS.put(type, merger);
+    }
+
+    /**
+     * @return the model types with a registered merger
+     */
+    static Set<Class<?>> types() {
+        return Collections.unmodifiableSet(MERGERS.keySet());
+    }
+
+    /**
+     * Get the merger for objects of exactly the given type.
+     *
+     * @param <T> type of the model
+     * @param type model class
+     * @return the merger, or null if the type has no registered merger
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Merger<T> get(Class<T> type) {
+        return (Merger<T>) MERGERS.get(type);
+    }
+
+    static void mergeAPIResponse(APIResponseImpl target, APIResponseImpl source) {
+        object(target, source, APIResponseImpl::getContent, APIResponseImpl::setContent);
+        value(target, source, APIResponseImpl::getDescription, APIResponseImpl::setDescription);
+        extensions(target, source);
+        map(target, source, APIResponseImpl::getHeaders, APIResponseImpl::setHeaders);
+        map(target, source, APIResponseImpl::getLinks, APIResponseImpl::setLinks);
+        value(target, source, APIResponseImpl::getRef, APIResponseImpl::setRef);
+        value(target, source, APIResponseImpl::getResponseCode, APIResponseImpl::setResponseCode);
+    }
+
+    static void mergeAPIResponses(APIResponsesImpl target, APIResponsesImpl source) {
+        map(target, source, APIResponsesImpl::getAPIResponses, APIResponsesImpl::setAPIResponses);
+        object(target, source, APIResponsesImpl::getDefaultValue, APIResponsesImpl::setDefaultValue);
+        extensions(target, source);
+    }
+
+    static void mergeCallback(CallbackImpl target, CallbackImpl source) {
+        extensions(target, source);
+        map(target, source, CallbackImpl::getPathItems, CallbackImpl::setPathItems);
+        value(target, source, CallbackImpl::getRef, CallbackImpl::setRef);
+    }
+
+    static void mergeComponents(ComponentsImpl target, ComponentsImpl source) {
+        map(target, source, ComponentsImpl::getCallbacks, ComponentsImpl::setCallbacks);
+        map(target, source, ComponentsImpl::getExamples, ComponentsImpl::setExamples);
+        extensions(target, source);
+        map(target, source, ComponentsImpl::getHeaders, ComponentsImpl::setHeaders);
+        map(target, source, ComponentsImpl::getLinks, ComponentsImpl::setLinks);
+        map(target, source, ComponentsImpl::getParameters, ComponentsImpl::setParameters);
+        map(target, source, ComponentsImpl::getRequestBodies, ComponentsImpl::setRequestBodies);
+        map(target, source, ComponentsImpl::getResponses, ComponentsImpl::setResponses);
+        map(target, source, ComponentsImpl::getSchemas, ComponentsImpl::setSchemas);
+        map(target, source, ComponentsImpl::getSecuritySchemes, ComponentsImpl::setSecuritySchemes);
+    }
+
+    static void mergeContact(ContactImpl target, ContactImpl source) {
+        value(target, source, ContactImpl::getEmail, ContactImpl::setEmail);
+        extensions(target, source);
+        value(target, source, ContactImpl::getName, ContactImpl::setName);
+        value(target, source, ContactImpl::getUrl, ContactImpl::setUrl);
+    }
+
+    static void mergeContent(ContentImpl target, ContentImpl source) {
+        map(target, source, ContentImpl::getMediaTypes, ContentImpl::setMediaTypes);
+    }
+
+    static void mergeDiscriminator(DiscriminatorImpl target, DiscriminatorImpl source) {
+        map(target, source, DiscriminatorImpl::getMapping, DiscriminatorImpl::setMapping);
+        value(target, source, DiscriminatorImpl::getPropertyName, DiscriminatorImpl::setPropertyName);
+    }
+
+    static void mergeEncoding(EncodingImpl target, EncodingImpl source) {
+        value(target, source, EncodingImpl::getAllowReserved, EncodingImpl::setAllowReserved);
+        value(target, source, EncodingImpl::getContentType, EncodingImpl::setContentType);
+        value(target, source, EncodingImpl::getExplode, EncodingImpl::setExplode);
+        extensions(target, source);
+        map(target, source, EncodingImpl::getHeaders, EncodingImpl::setHeaders);
+        value(target, source, EncodingImpl::getStyle, EncodingImpl::setStyle);
+    }
+
+    static void mergeExample(ExampleImpl target, ExampleImpl source) {
+        value(target, source, ExampleImpl::getDescription, ExampleImpl::setDescription);
+        extensions(target, source);
+        value(target, source, ExampleImpl::getExternalValue, ExampleImpl::setExternalValue);
+        value(target, source, ExampleImpl::getRef, ExampleImpl::setRef);
+        value(target, source, ExampleImpl::getSummary, ExampleImpl::setSummary);
+        value(target, source, ExampleImpl::getValue, ExampleImpl::setValue);
+    }
+
+    static void mergeExternalDocumentation(ExternalDocumentationImpl target, ExternalDocumentationImpl source) {
+        value(target, source, ExternalDocumentationImpl::getDescription, ExternalDocumentationImpl::setDescription);
+        extensions(target, source);
+        value(target, source, ExternalDocumentationImpl::getUrl, ExternalDocumentationImpl::setUrl);
+    }
+
+    static void mergeHeader(HeaderImpl target, HeaderImpl source) {
+        value(target, source, HeaderImpl::getAllowEmptyValue, HeaderImpl::setAllowEmptyValue);
+        object(target, source, HeaderImpl::getContent, HeaderImpl::setContent);
+        value(target, source, HeaderImpl::getDeprecated, HeaderImpl::setDeprecated);
+        value(target, source, HeaderImpl::getDescription, HeaderImpl::setDescription);
+        value(target, source, HeaderImpl::getExample, HeaderImpl::setExample);
+        map(target, source, HeaderImpl::getExamples, HeaderImpl::setExamples);
+        value(target, source, HeaderImpl::getExplode, HeaderImpl::setExplode);
+        extensions(target, source);
+        value(target, source, HeaderImpl::getRef, HeaderImpl::setRef);
+        value(target, source, HeaderImpl::getRequired, HeaderImpl::setRequired);
+        object(target, source, HeaderImpl::getSchema, HeaderImpl::setSchema);
+        value(target, source, HeaderImpl::getStyle, HeaderImpl::setStyle);
+    }
+
+    static void mergeInfo(InfoImpl target, InfoImpl source) {
+        object(target, source, InfoImpl::getContact, InfoImpl::setContact);
+        value(target, source, InfoImpl::getDescription, InfoImpl::setDescription);
+        extensions(target, source);
+        object(target, source, InfoImpl::getLicense, InfoImpl::setLicense);
+        value(target, source, InfoImpl::getTermsOfService, InfoImpl::setTermsOfService);
+        value(target, source, InfoImpl::getTitle, InfoImpl::setTitle);
+        value(target, source, InfoImpl::getVersion, InfoImpl::setVersion);
+    }
+
+    static void mergeLicense(LicenseImpl target, LicenseImpl source) {
+        extensions(target, source);
+        value(target, source, LicenseImpl::getName, LicenseImpl::setName);
+        value(target, source, LicenseImpl::getUrl, LicenseImpl::setUrl);
+    }
+
+    static void mergeLink(LinkImpl target, LinkImpl source) {
+        value(target, source, LinkImpl::getDescription, LinkImpl::setDescription);
+        extensions(target, source);
+        value(target, source, LinkImpl::getOperationId, LinkImpl::setOperationId);
+        value(target, source, LinkImpl::getOperationRef, LinkImpl::setOperationRef);
+        map(target, source, LinkImpl::getParameters, LinkImpl::setParameters);
+        value(target, source, LinkImpl::getRef, LinkImpl::setRef);
+        value(target, source, LinkImpl::getRequestBody, LinkImpl::setRequestBody);
+        object(target, source, LinkImpl::getServer, LinkImpl::setServer);
+    }
+
+    static void mergeMediaType(MediaTypeImpl target, MediaTypeImpl source) {
+        map(target, source, MediaTypeImpl::getEncoding, MediaTypeImpl::setEncoding);
+        value(target, source, MediaTypeImpl::getExample, MediaTypeImpl::setExample);
+        map(target, source, MediaTypeImpl::getExamples, MediaTypeImpl::setExamples);
+        extensions(target, source);
+        object(target, source, MediaTypeImpl::getSchema, MediaTypeImpl::setSchema);
+    }
+
+    static void mergeOAuthFlow(OAuthFlowImpl target, OAuthFlowImpl source) {
+        value(target, source, OAuthFlowImpl::getAuthorizationUrl, OAuthFlowImpl::setAuthorizationUrl);
+        extensions(target, source);
+        value(target, source, OAuthFlowImpl::getRefreshUrl, OAuthFlowImpl::setRefreshUrl);
+        map(target, source, OAuthFlowImpl::getScopes, OAuthFlowImpl::setScopes);
+        value(target, source, OAuthFlowImpl::getTokenUrl, OAuthFlowImpl::setTokenUrl);
+    }
+
+    static void mergeOAuthFlows(OAuthFlowsImpl target, OAuthFlowsImpl source) {
+        object(target, source, OAuthFlowsImpl::getAuthorizationCode, OAuthFlowsImpl::setAuthorizationCode);
+        object(target, source, OAuthFlowsImpl::getClientCredentials, OAuthFlowsImpl::setClientCredentials);
+        extensions(target, source);
+        object(target, source, OAuthFlowsImpl::getImplicit, OAuthFlowsImpl::setImplicit);
+        object(target, source, OAuthFlowsImpl::getPassword, OAuthFlowsImpl::setPassword);
+    }
+
+    static void mergeOpenAPI(OpenAPIImpl target, OpenAPIImpl source) {
+        object(target, source, OpenAPIImpl::getComponents, OpenAPIImpl::setComponents);
+        extensions(target, source);
+        object(target, source, OpenAPIImpl::getExternalDocs, OpenAPIImpl::setExternalDocs);
+        object(target, source, OpenAPIImpl::getInfo, OpenAPIImpl::setInfo);
+        object(target, source, OpenAPIImpl::getPaths, OpenAPIImpl::setPaths);
+        list(target, source, OpenAPIImpl::getSecurity, OpenAPIImpl::setSecurity);
+        list(target, source, OpenAPIImpl::getServers, OpenAPIImpl::setServers);
+        list(target, source, OpenAPIImpl::getTags, OpenAPIImpl::setTags);
+    }
+
+    static void mergeOperation(OperationImpl target, OperationImpl source) {
+        map(target, source, OperationImpl::getCallbacks, OperationImpl::setCallbacks);
+        value(target, source, OperationImpl::getDeprecated, OperationImpl::setDeprecated);
+        value(target, source, OperationImpl::getDescription, OperationImpl::setDescription);
+        extensions(target, source);
+        object(target, source, OperationImpl::getExternalDocs, OperationImpl::setExternalDocs);
+        value(target, source, OperationImpl::getMethodRef, OperationImpl::setMethodRef);
+        value(target, source, OperationImpl::getOperationId, OperationImpl::setOperationId);
+        list(target, source, OperationImpl::getParameters, OperationImpl::setParameters);
+        object(target, source, OperationImpl::getRequestBody, OperationImpl::setRequestBody);
+        object(target, source, OperationImpl::getResponses, OperationImpl::setResponses);
+        list(target, source, OperationImpl::getSecurity, OperationImpl::setSecurity);
+        list(target, source, OperationImpl::getServers, OperationImpl::setServers);
+        value(target, source, OperationImpl::getSummary, OperationImpl::setSummary);
+        list(target, source, OperationImpl::getTags, OperationImpl::setTags);
+    }
+
+    static void mergeParameter(ParameterImpl target, ParameterImpl source) {
+        value(target, source, ParameterImpl::getAllowEmptyValue, ParameterImpl::setAllowEmptyValue);
+        value(target, source, ParameterImpl::getAllowReserved, ParameterImpl::setAllowReserved);
+        object(target, source, ParameterImpl::getContent, ParameterImpl::setContent);
+        value(target, source, ParameterImpl::getDeprecated, ParameterImpl::setDeprecated);
+        value(target, source, ParameterImpl::getDescription, ParameterImpl::setDescription);
+        value(target, source, ParameterImpl::getExample, ParameterImpl::setExample);
+        map(target, source, ParameterImpl::getExamples, ParameterImpl::setExamples);
+        value(target, source, ParameterImpl::getExplode, ParameterImpl::setExplode);
+        extensions(target, source);
+        value(target, source, ParameterImpl::getIn, ParameterImpl::setIn);
+        value(target, source, ParameterImpl::getName, ParameterImpl::setName);
+        value(target, source, ParameterImpl::getParamRef, ParameterImpl::setParamRef);
+        value(target, source, ParameterImpl::getRef, ParameterImpl::setRef);
+        value(target, source, ParameterImpl::getRequired, ParameterImpl::setRequired);
+        object(target, source, ParameterImpl::getSchema, ParameterImpl::setSchema);
+        value(target, source, ParameterImpl::getStyle, ParameterImpl::setStyle);
+    }
+
+    static void mergePathItem(PathItemImpl target, PathItemImpl source) {
+        object(target, source, PathItemImpl::getDELETE, PathItemImpl::setDELETE);
+        object(target, source, PathItemImpl::getGET, PathItemImpl::setGET);
+        object(target, source, PathItemImpl::getHEAD, PathItemImpl::setHEAD);
+        object(target, source, PathItemImpl::getOPTIONS, PathItemImpl::setOPTIONS);
+        object(target, source, PathItemImpl::getPATCH, PathItemImpl::setPATCH);
+        object(target, source, PathItemImpl::getPOST, PathItemImpl::setPOST);
+        object(target, source, PathItemImpl::getPUT, PathItemImpl::setPUT);
+        object(target, source, PathItemImpl::getTRACE, PathItemImpl::setTRACE);
+        value(target, source, PathItemImpl::getDescription, PathItemImpl::setDescription);
+        extensions(target, source);
+        list(target, source, PathItemImpl::getParameters, PathItemImpl::setParameters);
+        value(target, source, PathItemImpl::getRef, PathItemImpl::setRef);
+        list(target, source, PathItemImpl::getServers, PathItemImpl::setServers);
+        value(target, source, PathItemImpl::getSummary, PathItemImpl::setSummary);
+    }
+
+    static void mergePaths(PathsImpl target, PathsImpl source) {
+        extensions(target, source);
+        map(target, source, PathsImpl::getPathItems, PathsImpl::setPathItems);
+    }
+
+    static void mergeRequestBody(RequestBodyImpl target, RequestBodyImpl source) {
+        object(target, source, RequestBodyImpl::getContent, RequestBodyImpl::setContent);
+        value(target, source, RequestBodyImpl::getDescription, RequestBodyImpl::setDescription);
+        extensions(target, source);
+        value(target, source, RequestBodyImpl::getRef, RequestBodyImpl::setRef);
+        value(target, source, RequestBodyImpl::getRequired, RequestBodyImpl::setRequired);
+    }
+
+    static void mergeSchema(SchemaImpl target, SchemaImpl source) {
+        // Setting either additionalProperties value clears the other, the schema (if any) takes precedence
+        value(target, source, SchemaImpl::getAdditionalPropertiesBoolean, SchemaImpl::setAdditionalPropertiesBoolean);
+        object(target, source, SchemaImpl::getAdditionalPropertiesSchema, SchemaImpl::setAdditionalPropertiesSchema);
+        list(target, source, SchemaImpl::getAllOf, SchemaImpl::setAllOf);
+        list(target, source, SchemaImpl::getAnyOf, SchemaImpl::setAnyOf);
+        value(target, source, SchemaImpl::getDefaultValue, SchemaImpl::setDefaultValue);
+        value(target, source, SchemaImpl::getDeprecated, SchemaImpl::setDeprecated);
+        value(target, source, SchemaImpl::getDescription, SchemaImpl::setDescription);
+        object(target, source, SchemaImpl::getDiscriminator, SchemaImpl::setDiscriminator);
+        list(target, source, SchemaImpl::getEnumeration, SchemaImpl::setEnumeration);
+        value(target, source, SchemaImpl::getExample, SchemaImpl::setExample);
+        value(target, source, SchemaImpl::getExclusiveMaximum, SchemaImpl::setExclusiveMaximum);
+        value(target, source, SchemaImpl::getExclusiveMinimum, SchemaImpl::setExclusiveMinimum);
+        extensions(target, source);
+        object(target, source, SchemaImpl::getExternalDocs, SchemaImpl::setExternalDocs);
+        value(target, source, SchemaImpl::getFormat, SchemaImpl::setFormat);
+        object(target, source, SchemaImpl::getItems, SchemaImpl::setItems);
+        value(target, source, SchemaImpl::getMaxItems, SchemaImpl::setMaxItems);
+        value(target, source, SchemaImpl::getMaxLength, SchemaImpl::setMaxLength);
+        value(target, source, SchemaImpl::getMaxProperties, SchemaImpl::setMaxProperties);
+        value(target, source, SchemaImpl::getMaximum, SchemaImpl::setMaximum);
+        value(target, source, SchemaImpl::getMinItems, SchemaImpl::setMinItems);
+        value(target, source, SchemaImpl::getMinLength, SchemaImpl::setMinLength);
+        value(target, source, SchemaImpl::getMinProperties, SchemaImpl::setMinProperties);
+        value(target, source, SchemaImpl::getMinimum, SchemaImpl::setMinimum);
+        value(target, source, SchemaImpl::getMultipleOf, SchemaImpl::setMultipleOf);
+        object(target, source, SchemaImpl::getNot, SchemaImpl::setNot);
+        value(target, source, SchemaImpl::getNullable, SchemaImpl::setNullable);
+        list(target, source, SchemaImpl::getOneOf, SchemaImpl::setOneOf);
+        value(target, source, SchemaImpl::getPattern, SchemaImpl::setPattern);
+        map(target, source, SchemaImpl::getProperties, SchemaImpl::setProperties);
+        value(target, source, SchemaImpl::getReadOnly, SchemaImpl::setReadOnly);
+        value(target, source, SchemaImpl::getRef, SchemaImpl::setRef);
+        list(target, source, SchemaImpl::getRequired, SchemaImpl::setRequired);
+        value(target, source, SchemaImpl::getTitle, SchemaImpl::setTitle);
+        value(target, source, SchemaImpl::getType, SchemaImpl::setType);
+        value(target, source, SchemaImpl::getUniqueItems, SchemaImpl::setUniqueItems);
+        value(target, source, SchemaImpl::getWriteOnly, SchemaImpl::setWriteOnly);
+        object(target, source, SchemaImpl::getXml, SchemaImpl::setXml);
+    }
+
+    static void mergeSecurityRequirement(SecurityRequirementImpl target, SecurityRequirementImpl source) {
+        map(target, source, SecurityRequirementImpl::getSchemes, SecurityRequirementImpl::setSchemes);
+    }
+
+    static void mergeSecurityScheme(SecuritySchemeImpl target, SecuritySchemeImpl source) {
+        value(target, source, SecuritySchemeImpl::getBearerFormat, SecuritySchemeImpl::setBearerFormat);
+        value(target, source, SecuritySchemeImpl::getDescription, SecuritySchemeImpl::setDescription);
+        extensions(target, source);
+        object(target, source, SecuritySchemeImpl::getFlows, SecuritySchemeImpl::setFlows);
+        value(target, source, SecuritySchemeImpl::getIn, SecuritySchemeImpl::setIn);
+        value(target, source, SecuritySchemeImpl::getName, SecuritySchemeImpl::setName);
+        value(target, source, SecuritySchemeImpl::getOpenIdConnectUrl, SecuritySchemeImpl::setOpenIdConnectUrl);
+        value(target, source, SecuritySchemeImpl::getRef, SecuritySchemeImpl::setRef);
+        value(target, source, SecuritySchemeImpl::getScheme, SecuritySchemeImpl::setScheme);
+        value(target, source, SecuritySchemeImpl::getType, SecuritySchemeImpl::setType);
+    }
+
+    static void mergeServer(ServerImpl target, ServerImpl source) {
+        value(target, source, ServerImpl::getDescription, ServerImpl::setDescription);
+        extensions(target, source);
+        value(target, source, ServerImpl::getUrl, ServerImpl::setUrl);
+        map(target, source, ServerImpl::getVariables, ServerImpl::setVariables);
+    }
+
+    static void mergeServerVariable(ServerVariableImpl target, ServerVariableImpl source) {
+        value(target, source, ServerVariableImpl::getDefaultValue, ServerVariableImpl::setDefaultValue);
+        value(target, source, ServerVariableImpl::getDescription, ServerVariableImpl::setDescription);
+        list(target, source, ServerVariableImpl::getEnumeration, ServerVariableImpl::setEnumeration);
+        extensions(target, source);
+    }
+
+    static void mergeTag(TagImpl target, TagImpl source) {
+        value(target, source, TagImpl::getDescription, TagImpl::setDescription);
+        extensions(target, source);
+        object(target, source, TagImpl::getExternalDocs, TagImpl::setExternalDocs);
+        value(target, source, TagImpl::getName, TagImpl::setName);
+    }
+
+    static void mergeXML(XMLImpl target, XMLImpl source) {
+        value(target, source, XMLImpl::getAttribute, XMLImpl::setAttribute);
+        extensions(target, source);
+        value(target, source, XMLImpl::getName, XMLImpl::setName);
+        value(target, source, XMLImpl::getNamespace, XMLImpl::setNamespace);
+        value(target, source, XMLImpl::getPrefix, XMLImpl::setPrefix);
+        value(target, source, XMLImpl::getWrapped, XMLImpl::setWrapped);
+    }
+
+    /**
+     * Replace the target's value with the source's value, unless the source's value is null.
+     */
+    static <T, V> void value(T target, T source, Function<T, V> getter, BiConsumer<T, V> setter) {
+        V value = getter.apply(source);
+        if (value != null) {
+            setter.accept(target, value);
+        }
+    }
+
+    /**
+     * Merge a nested model object.
+     */
+    static <T, V> void object(T target, T source, Function<T, V> getter, BiConsumer<T, V> setter) {
+        V value = MergeUtil.mergeObjects(getter.apply(target), getter.apply(source));
+        if (value != null) {
+            setter.accept(target, value);
+        }
+    }
+
+    /**
+     * Merge a map-valued property.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, V> void map(T target, T source, Function<T, Map<String, V>> getter, BiConsumer<T, Map<String, V>> setter) {
+        setter.accept(target, MergeUtil.mergeMaps(getter.apply(target), getter.apply(source)));
+    }
+
+    /**
+     * Merge a list-valued property.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, V> void list(T target, T source, Function<T, List<V>> getter, BiConsumer<T, List<V>> setter) {
+        setter.accept(target, MergeUtil.mergeLists(getter.apply(target), getter.apply(source)).orElse(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    static void extensions(Extensible<?> target, Extensible<?> source) {
+        target.setExtensions(MergeUtil.mergeMaps(target.getExtensions(), source.getExtensions()));
+    }
+}
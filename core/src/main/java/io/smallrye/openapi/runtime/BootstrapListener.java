@@ -0,0 +1,114 @@
+package io.smallrye.openapi.runtime;
+
+import java.util.ServiceLoader;
+
+import io.smallrye.openapi.runtime.io.Format;
+
+/**
+ * Observes the stages of building and serializing an OpenAPI document, e.g.
+ * to record them with a profiler. Listeners are discovered once using
+ * {@link ServiceLoader} with the class loader of this library. Stages may run
+ * concurrently on several threads, so listeners must be thread-safe.
+ *
+ * When no listener is available, each stage obtains the no-op {@link Span#NONE},
+ * so the stages cost nothing beyond a method call.
+ */
+public interface BootstrapListener {
+
+    /**
+     * The observed stages.
+     */
+    enum Stage {
+        /** Parsing a static OpenAPI file */
+        STATIC_FILE,
+        /** Scanning the deployment's annotations */
+        ANNOTATION_SCAN,
+        /** Invoking the configured {@link org.eclipse.microprofile.openapi.OASModelReader OASModelReader} */
+        MODEL_READER,
+        /** Merging the models of the reader, static files, and annotations */
+        MERGE,
+        /** Applying the {@link org.eclipse.microprofile.openapi.OASFilter OASFilter}s */
+        FILTER,
+        /** Adding the servers configured for the document, paths, and operations */
+        CONFIG,
+        /** Serializing a document */
+        SERIALIZE
+    }
+
+    /**
+     * A single execution of a stage. Details are only computed and set when the
+     * span is {@link #isRecording() recording}.
+     */
+    interface Span {
+
+        /**
+         * Span ignoring all details.
+         */
+        Span NONE = new Span() {
+        };
+
+        /**
+         * @return true if details of the stage are recorded
+         */
+        default boolean isRecording() {
+            return false;
+        }
+
+        /**
+         * @param format the format parsed or serialized
+         * @return this span
+         */
+        default Span format(Format format) {
+            return this;
+        }
+
+        /**
+         * @param bytes number of bytes (characters when serializing to a writer) parsed or serialized
+         * @return this span
+         */
+        default Span size(long bytes) {
+            return this;
+        }
+
+        /**
+         * @param classes number of classes in the scanned index
+         * @return this span
+         */
+        default Span classes(int classes) {
+            return this;
+        }
+
+        /**
+         * @param endpoints number of operations found by the scan
+         * @return this span
+         */
+        default Span endpoints(int endpoints) {
+            return this;
+        }
+
+        /**
+         * Called when the stage completes, successfully or not.
+         */
+        default void end() {
+        }
+    }
+
+    /**
+     * Called when a stage starts.
+     *
+     * @param stage the stage
+     * @return the span to be ended when the stage completes
+     */
+    Span start(Stage stage);
+
+    /**
+     * Start a stage using the listener discovered for this library.
+     *
+     * @param stage the stage
+     * @return the span to be ended when the stage completes, {@link Span#NONE} if there is no listener
+     */
+    static Span startStage(Stage stage) {
+        BootstrapListener listener = BootstrapListeners.LISTENER;
+        return listener != null ? listener.start(stage) : Span.NONE;
+    }
+}
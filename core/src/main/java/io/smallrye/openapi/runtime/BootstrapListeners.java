@@ -0,0 +1,110 @@
+package io.smallrye.openapi.runtime;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import io.smallrye.openapi.runtime.io.Format;
+
+/**
+ * Holds the {@link BootstrapListener}s discovered when first used.
+ */
+final class BootstrapListeners implements BootstrapListener {
+
+    static final BootstrapListener LISTENER = load();
+
+    private final BootstrapListener[] listeners;
+
+    private BootstrapListeners(List<BootstrapListener> listeners) {
+        this.listeners = listeners.toArray(new BootstrapListener[0]);
+    }
+
+    private static BootstrapListener load() {
+        List<BootstrapListener> listeners = new ArrayList<>();
+        Iterator<BootstrapListener> iterator = ServiceLoader
+                .load(BootstrapListener.class, BootstrapListener.class.getClassLoader())
+                .iterator();
+
+        while (iterator.hasNext()) {
+            listeners.add(iterator.next());
+        }
+
+        switch (listeners.size()) {
+            case 0:
+                return null;
+            case 1:
+                return listeners.get(0);
+            default:
+                return new BootstrapListeners(listeners);
+        }
+    }
+
+    @Override
+    public Span start(Stage stage) {
+        Span[] spans = new Span[listeners.length];
+
+        for (int i = 0; i < listeners.length; i++) {
+            spans[i] = listeners[i].start(stage);
+        }
+
+        return new CompositeSpan(spans);
+    }
+
+    private static final class CompositeSpan implements Span {
+        private final Span[] spans;
+
+        CompositeSpan(Span[] spans) {
+            this.spans = spans;
+        }
+
+        @Override
+        public boolean isRecording() {
+            for (Span span : spans) {
+                if (span.isRecording()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Span format(Format format) {
+            for (Span span : spans) {
+                span.format(format);
+            }
+            return this;
+        }
+
+        @Override
+        public Span size(long bytes) {
+            for (Span span : spans) {
+                span.size(bytes);
+            }
+            return this;
+        }
+
+        @Override
+        public Span classes(int classes) {
+            for (Span span : spans) {
+                span.classes(classes);
+            }
+            return this;
+        }
+
+        @Override
+        public Span endpoints(int endpoints) {
+            for (Span span : spans) {
+                span.endpoints(endpoints);
+            }
+            return this;
+        }
+
+        @Override
+        public void end() {
+            for (Span span : spans) {
+                span.end();
+            }
+        }
+    }
+}
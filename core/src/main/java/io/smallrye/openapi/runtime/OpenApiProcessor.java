@@ -1,5 +1,6 @@
 package io.smallrye.openapi.runtime;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
@@ -11,12 +12,15 @@ import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.OASModelReader;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
 import org.jboss.jandex.IndexView;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.OpenApiConfigImpl;
 import io.smallrye.openapi.api.OpenApiDocument;
 import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.runtime.BootstrapListener.Span;
+import io.smallrye.openapi.runtime.BootstrapListener.Stage;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
@@ -54,35 +58,30 @@ public class OpenApiProcessor {
 
     public static OpenAPI bootstrap(OpenApiConfig config, IndexView index, ClassLoader classLoader,
             OpenApiStaticFile... staticFiles) {
-        OpenApiDocument.INSTANCE.reset();
+        // Each call builds its own document, allowing applications to be bootstrapped concurrently
+        OpenApiDocument.Builder document = OpenApiDocument.builder();
 
         // Set the config
         if (config != null) {
-            OpenApiDocument.INSTANCE.config(config);
+            document.config(config);
         }
         // Load all static files
         if (staticFiles != null && staticFiles.length > 0) {
             for (OpenApiStaticFile staticFile : staticFiles) {
-                OpenApiDocument.INSTANCE.modelFromStaticFile(modelFromStaticFile(staticFile));
+                document.modelFromStaticFile(modelFromStaticFile(config, staticFile));
             }
         }
         // Scan annotations
         if (config != null && index != null) {
-            OpenApiDocument.INSTANCE.modelFromAnnotations(modelFromAnnotations(config, classLoader, index));
+            document.modelFromAnnotations(modelFromAnnotations(config, classLoader, index));
         }
         // Filter and model
         if (config != null && classLoader != null) {
-            OpenApiDocument.INSTANCE.modelFromReader(modelFromReader(config, classLoader));
-            OpenApiDocument.INSTANCE.filter(getFilter(config, classLoader));
+            document.modelFromReader(modelFromReader(config, classLoader));
+            document.filter(getFilter(config, classLoader));
         }
 
-        OpenApiDocument.INSTANCE.initialize();
-
-        OpenAPI openAPI = OpenApiDocument.INSTANCE.get();
-
-        OpenApiDocument.INSTANCE.reset();
-
-        return openAPI;
+        return document.build().get();
     }
 
     /**
@@ -94,13 +93,38 @@ public class OpenApiProcessor {
      * @return OpenApiImpl
      */
     public static OpenAPI modelFromStaticFile(OpenApiStaticFile staticFile) {
+        return modelFromStaticFile(null, staticFile);
+    }
+
+    /**
+     * Parse the static file content and return the resulting model. Note that this
+     * method does NOT close the resources in the static file. The caller is
+     * responsible for that.
+     *
+     * @param config OpenApiConfig, may be null
+     * @param staticFile OpenApiStaticFile to be parsed
+     * @return OpenApiImpl
+     */
+    public static OpenAPI modelFromStaticFile(OpenApiConfig config, OpenApiStaticFile staticFile) {
         if (staticFile == null) {
             return null;
         }
+        boolean lazy = config != null && config.staticFileLazyParsingEnable();
+        Span span = BootstrapListener.startStage(Stage.STATIC_FILE);
         try {
-            return OpenApiParser.parse(staticFile.getContent(), staticFile.getFormat());
+            if (span.isRecording()) {
+                CountingInputStream content = new CountingInputStream(staticFile.getContent());
+                try {
+                    return OpenApiParser.parse(content, staticFile.getFormat(), lazy);
+                } finally {
+                    span.format(staticFile.getFormat()).size(content.count);
+                }
+            }
+            return OpenApiParser.parse(staticFile.getContent(), staticFile.getFormat(), lazy);
         } catch (IOException e) {
             throw new OpenApiRuntimeException(e);
+        } finally {
+            span.end();
         }
     }
 
@@ -132,8 +156,27 @@ public class OpenApiProcessor {
             return null;
         }
 
-        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(config, loader, index);
-        return scanner.scan();
+        Span span = BootstrapListener.startStage(Stage.ANNOTATION_SCAN);
+        try {
+            OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(config, loader, index);
+            OpenAPI model = scanner.scan();
+            if (span.isRecording()) {
+                span.classes(index.getKnownClasses().size()).endpoints(countOperations(model));
+            }
+            return model;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static int countOperations(OpenAPI model) {
+        int count = 0;
+        if (model != null && model.getPaths() != null && model.getPaths().getPathItems() != null) {
+            for (PathItem pathItem : model.getPaths().getPathItems().values()) {
+                count += pathItem.getOperations().size();
+            }
+        }
+        return count;
     }
 
     /**
@@ -150,6 +193,7 @@ public class OpenApiProcessor {
         if (readerClassName == null) {
             return null;
         }
+        Span span = BootstrapListener.startStage(Stage.MODEL_READER);
         try {
             Class<?> c = loader.loadClass(readerClassName);
             OASModelReader reader = (OASModelReader) c.getDeclaredConstructor().newInstance();
@@ -157,6 +201,8 @@ public class OpenApiProcessor {
         } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
                 | InvocationTargetException | NoSuchMethodException | SecurityException e) {
             throw new OpenApiRuntimeException(e);
+        } finally {
+            span.end();
         }
     }
 
@@ -202,4 +248,40 @@ public class OpenApiProcessor {
         }
         return apiStaticFiles;
     }
+
+    /**
+     * Counts the bytes read from a static file.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
 }
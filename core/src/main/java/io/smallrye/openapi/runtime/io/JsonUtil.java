@@ -23,7 +23,6 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 public final class JsonUtil {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
     private static final JsonNodeFactory factory = JsonNodeFactory.instance;
 
     public static ObjectNode objectNode() {
@@ -283,7 +282,7 @@ public final class JsonUtil {
             case '8':
             case '9':
                 try {
-                    com.fasterxml.jackson.databind.JsonNode node = MAPPER.readTree(value);
+                    com.fasterxml.jackson.databind.JsonNode node = mapper().readTree(value);
                     return readObject(node);
                 } catch (Exception e) {
                     // TODO log the error
@@ -358,4 +357,7 @@ public final class JsonUtil {
         return Optional.empty();
     }
 
+    private static ObjectMapper mapper() {
+        return MapperProvider.getInstance().mapper(Format.JSON);
+    }
 }
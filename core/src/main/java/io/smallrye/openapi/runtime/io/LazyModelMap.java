@@ -0,0 +1,299 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A map of OpenAPI model objects where each value is retained as compact JSON
+ * until it is first accessed. The keys and their order are available without
+ * reading any of the values. Values are read at most once, after which the
+ * model object replaces the JSON in the map. Replacing or removing an entry
+ * that has not been read does not read it, the previous value returned is
+ * <code>null</code> in that case.
+ *
+ * Lookups and modifications are synchronized on the map, or for a read-only
+ * {@link #unmodifiable() view} on the map it was created from, so that values
+ * may be read by several threads at once. Iteration is not synchronized: the
+ * map must not be modified while it is iterated.
+ *
+ * Used by {@link OpenApiParser} for the large sections of a document when
+ * parsing lazily.
+ *
+ * @param <V> type of the model objects in the map
+ */
+public class LazyModelMap<V> extends AbstractMap<String, V> {
+
+    /**
+     * Unread value of an entry
+     */
+    private static final class Deferred {
+        final byte[] json;
+
+        Deferred(byte[] json) {
+            this.json = json;
+        }
+    }
+
+    private final Function<JsonNode, V> reader;
+    private final Map<String, Object> entries;
+    private final Object lock;
+    private final boolean modifiable;
+
+    LazyModelMap(Function<JsonNode, V> reader) {
+        this(reader, new LinkedHashMap<>(), null, true);
+    }
+
+    private LazyModelMap(Function<JsonNode, V> reader, Map<String, Object> entries, Object lock, boolean modifiable) {
+        this.reader = reader;
+        this.entries = entries;
+        this.lock = lock != null ? lock : this;
+        this.modifiable = modifiable;
+    }
+
+    /**
+     * Create a copy of the map. Entries of a {@link LazyModelMap} that have
+     * not yet been read remain unread in the copy.
+     *
+     * @param <V> type of the model objects in the map
+     * @param map the map to copy
+     * @return the copy
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> Map<String, V> copyOf(Map<String, V> map) {
+        if (map instanceof LazyModelMap) {
+            LazyModelMap<V> lazy = (LazyModelMap<V>) map;
+            synchronized (lazy.lock) {
+                return new LazyModelMap<>(lazy.reader, new LinkedHashMap<>(lazy.entries), null, true);
+            }
+        }
+        return new LinkedHashMap<>(map);
+    }
+
+    /**
+     * Create a read-only view of the map. Values read through the view replace
+     * the JSON in this map as well, and the view may be copied using
+     * {@link #copyOf(Map)} without reading its values.
+     *
+     * @return the view
+     */
+    public Map<String, V> unmodifiable() {
+        return modifiable ? new LazyModelMap<>(reader, entries, lock, false) : this;
+    }
+
+    /**
+     * Add an entry using the value at the parser's current token, which is
+     * copied without being read into the model.
+     *
+     * @param key the entry's key
+     * @param parser parser positioned at the first token of the value
+     * @throws IOException errors reading the parser
+     */
+    void defer(String key, JsonParser parser) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+
+        try (JsonGenerator generator = mapper().getFactory().createGenerator(json)) {
+            generator.copyCurrentStructure(parser);
+        }
+
+        entries.put(key, new Deferred(json.toByteArray()));
+    }
+
+    /**
+     * @param key the entry's key
+     * @return true if the entry exists and its value has not yet been read
+     */
+    boolean isDeferred(Object key) {
+        synchronized (lock) {
+            return entries.get(key) instanceof Deferred;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(Object value) {
+        if (value instanceof Deferred) {
+            try {
+                return reader.apply(mapper().readTree(((Deferred) value).json));
+            } catch (IOException e) {
+                // The content was written by this class from a valid document
+                throw new UncheckedIOException(e);
+            }
+        }
+        return (V) value;
+    }
+
+    /**
+     * @param value a value replaced or removed from the entries
+     * @return the model object if the value was read, otherwise null
+     */
+    @SuppressWarnings("unchecked")
+    private V previous(Object value) {
+        return value instanceof Deferred ? null : (V) value;
+    }
+
+    private void checkModifiable() {
+        if (!modifiable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        synchronized (lock) {
+            return entries.containsKey(key);
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        synchronized (lock) {
+            Object value = entries.get(key);
+
+            if (value instanceof Deferred) {
+                V model = value(value);
+                entries.put((String) key, model);
+                return model;
+            }
+
+            return value(value);
+        }
+    }
+
+    @Override
+    public V put(String key, V value) {
+        checkModifiable();
+        synchronized (lock) {
+            return previous(entries.put(key, value));
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        checkModifiable();
+        synchronized (lock) {
+            return previous(entries.remove(key));
+        }
+    }
+
+    @Override
+    public void clear() {
+        checkModifiable();
+        synchronized (lock) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<Entry<String, V>>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                Iterator<Entry<String, Object>> delegate = entries.entrySet().iterator();
+
+                return new Iterator<Entry<String, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, V> next() {
+                        return new LazyEntry(delegate.next());
+                    }
+
+                    @Override
+                    public void remove() {
+                        checkModifiable();
+                        synchronized (lock) {
+                            delegate.remove();
+                        }
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LazyModelMap.this.size();
+            }
+        };
+    }
+
+    private final class LazyEntry implements Entry<String, V> {
+        private final Entry<String, Object> entry;
+
+        LazyEntry(Entry<String, Object> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public String getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public V getValue() {
+            synchronized (lock) {
+                Object value = entry.getValue();
+
+                if (value instanceof Deferred) {
+                    V model = value(value);
+                    entry.setValue(model);
+                    return model;
+                }
+
+                return value(value);
+            }
+        }
+
+        @Override
+        public V setValue(V value) {
+            checkModifiable();
+            synchronized (lock) {
+                return previous(entry.setValue(value));
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) obj;
+            return getKey().equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    private static ObjectMapper mapper() {
+        return MapperProvider.getInstance().mapper(Format.JSON);
+    }
+}
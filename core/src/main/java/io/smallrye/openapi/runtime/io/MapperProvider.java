@@ -0,0 +1,106 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+
+/**
+ * Provides the Jackson mappers, readers, and writers used to parse and
+ * serialize OpenAPI documents. Mappers are costly to create and hold caches
+ * that are only effective when reused, so a single set is shared by all
+ * readers and writers. Instances are immutable and thread-safe.
+ *
+ * Hosts may replace the shared instance with one using their own
+ * {@link JsonFactory} and {@link YAMLFactory}, e.g. to tune buffer recycling
+ * or stream read constraints, using {@link #setInstance(MapperProvider)}.
+ */
+public class MapperProvider {
+
+    private static volatile MapperProvider instance = new MapperProvider(new JsonFactory(), new YAMLFactory());
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper yamlMapper;
+    private final ObjectReader jsonReader;
+    private final ObjectReader yamlReader;
+    private final ObjectWriter jsonWriter;
+    private final ObjectWriter jsonCompactWriter;
+    private final ObjectWriter yamlWriter;
+
+    /**
+     * Create a provider using (copies of) the given factories. The features
+     * required for writing OpenAPI YAML documents are enabled on the copy of the
+     * YAML factory.
+     *
+     * @param jsonFactory factory used for JSON
+     * @param yamlFactory factory used for YAML
+     */
+    public MapperProvider(JsonFactory jsonFactory, YAMLFactory yamlFactory) {
+        Objects.requireNonNull(jsonFactory, "jsonFactory");
+        Objects.requireNonNull(yamlFactory, "yamlFactory");
+
+        YAMLFactory yaml = yamlFactory.copy();
+        yaml.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
+        yaml.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+
+        // Documents are written in parts, avoid flushing the output after each one
+        jsonMapper = new ObjectMapper(jsonFactory.copy()).disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        yamlMapper = new ObjectMapper(yaml).disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        jsonReader = jsonMapper.reader();
+        yamlReader = yamlMapper.reader();
+        jsonWriter = jsonMapper.writerWithDefaultPrettyPrinter();
+        jsonCompactWriter = jsonMapper.writer();
+        yamlWriter = yamlMapper.writer();
+    }
+
+    /**
+     * @return the shared provider
+     */
+    public static MapperProvider getInstance() {
+        return instance;
+    }
+
+    /**
+     * Replace the shared provider. Affects documents parsed and serialized
+     * after the call.
+     *
+     * @param provider the new shared provider
+     */
+    public static void setInstance(MapperProvider provider) {
+        instance = Objects.requireNonNull(provider, "provider");
+    }
+
+    /**
+     * @param format the document format
+     * @return the mapper for the format
+     */
+    public ObjectMapper mapper(Format format) {
+        return format == Format.JSON ? jsonMapper : yamlMapper;
+    }
+
+    /**
+     * @param format the document format
+     * @return a reader for the format
+     */
+    public ObjectReader reader(Format format) {
+        return format == Format.JSON ? jsonReader : yamlReader;
+    }
+
+    /**
+     * @param format the document format
+     * @param pretty whether JSON output should be indented (YAML is always indented)
+     * @return a writer for the format
+     */
+    public ObjectWriter writer(Format format, boolean pretty) {
+        if (format == Format.JSON) {
+            return pretty ? jsonWriter : jsonCompactWriter;
+        }
+        return yamlWriter;
+    }
+}
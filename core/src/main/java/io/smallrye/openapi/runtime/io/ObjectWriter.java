@@ -1,19 +1,77 @@
 package io.smallrye.openapi.runtime.io;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class ObjectWriter {
 
+    /**
+     * Writes a single named model (e.g. an entry of a components map) to a parent node.
+     *
+     * @param <T> type of the model
+     */
+    @FunctionalInterface
+    public interface NamedModelWriter<T> {
+        void write(ObjectNode parent, T model, String name);
+    }
+
     private ObjectWriter() {
     }
 
+    /**
+     * Writes the properties added to a node by the given writer to the generator.
+     * The node only exists for the duration of the call, allowing a large model
+     * to be streamed one part at a time rather than as a single tree.
+     *
+     * @param generator the generator positioned inside of an object
+     * @param writer adds the properties to be written to the node
+     * @throws IOException Errors in writing the JSON
+     */
+    public static void writeProperties(JsonGenerator generator, Consumer<ObjectNode> writer) throws IOException {
+        ObjectNode node = JsonUtil.objectNode();
+        writer.accept(node);
+
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            generator.writeFieldName(field.getKey());
+            generator.writeTree(field.getValue());
+        }
+    }
+
+    /**
+     * Writes a map of models to the generator, one entry at a time.
+     *
+     * @param <T> type of the models
+     * @param generator the generator positioned inside of an object
+     * @param models map of models
+     * @param propertyName name of the property holding the map
+     * @param writer writes a single entry of the map to a node
+     * @throws IOException Errors in writing the JSON
+     */
+    public static <T> void writeMap(JsonGenerator generator, Map<String, T> models, String propertyName,
+            NamedModelWriter<T> writer) throws IOException {
+        if (models == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(propertyName);
+        for (Map.Entry<String, T> entry : models.entrySet()) {
+            writeProperties(generator, node -> writer.write(node, entry.getValue(), entry.getKey()));
+        }
+        generator.writeEndObject();
+    }
+
     /**
      * Writes an array of strings to the parent node.
      * 
@@ -5,15 +5,27 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 
+import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.examples.Example;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.runtime.io.components.ComponentsConstant;
+import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
 import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
+import io.smallrye.openapi.runtime.io.example.ExampleReader;
+import io.smallrye.openapi.runtime.io.extension.ExtensionConstant;
+import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
+import io.smallrye.openapi.runtime.io.paths.PathsReader;
 import io.smallrye.openapi.runtime.io.schema.SchemaReader;
 
 /**
@@ -67,12 +79,32 @@ public class OpenApiParser {
      * @throws IOException Errors in reading the stream
      */
     public static final OpenAPI parse(InputStream stream, Format format) throws IOException {
-        ObjectMapper mapper;
-        if (format == Format.JSON) {
-            mapper = new ObjectMapper();
-        } else {
-            mapper = new ObjectMapper(new YAMLFactory());
+        return parse(stream, format, false);
+    }
+
+    /**
+     * Parses the resource found at the given stream. The format of the stream must
+     * be specified.
+     *
+     * When parsing lazily, the entries of the <code>paths</code>, <code>components.schemas</code>,
+     * and <code>components.examples</code> sections are retained in a compact form and only
+     * read into model objects when first accessed (e.g. when filtered, merged, or serialized).
+     *
+     * @param stream InputStream containing an OpenAPI document
+     * @param format Format of the stream
+     * @param lazy whether to defer reading the large sections of the document
+     * @return OpenAPIImpl parsed from the stream
+     * @throws IOException Errors in reading the stream
+     */
+    public static final OpenAPI parse(InputStream stream, Format format, boolean lazy) throws IOException {
+        ObjectMapper mapper = MapperProvider.getInstance().mapper(format);
+
+        if (lazy) {
+            try (JsonParser parser = mapper.getFactory().createParser(stream)) {
+                return parseLazily(mapper, parser);
+            }
         }
+
         JsonNode tree = mapper.readTree(stream);
 
         OpenApiParser parser = new OpenApiParser(tree);
@@ -88,8 +120,7 @@ public class OpenApiParser {
      * @throws IOException Errors in reading the String
      */
     public static final Schema parseSchema(String schemaJson) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode tree = mapper.readTree(schemaJson);
+        JsonNode tree = MapperProvider.getInstance().reader(Format.JSON).readTree(schemaJson);
         return SchemaReader.readSchema(tree);
     }
 
@@ -112,4 +143,98 @@ public class OpenApiParser {
         DefinitionReader.processDefinition(oai, tree);
         return oai;
     }
+
+    /**
+     * Reads the document from the parser into a tree, except for the entries of
+     * the sections that are deferred, then creates the model from the tree.
+     */
+    private static OpenAPI parseLazily(ObjectMapper mapper, JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return new OpenApiParser(mapper.readTree(parser)).parse();
+        }
+
+        ObjectNode tree = mapper.createObjectNode();
+        ObjectNode pathsNode = null;
+        LazyModelMap<PathItem> pathItems = null;
+        LazyModelMap<Schema> schemas = null;
+        LazyModelMap<Example> examples = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                tree.set(name, mapper.readTree(parser));
+            } else if (DefinitionConstant.PROP_PATHS.equals(name)) {
+                // Path extensions are read with the tree, path items are deferred
+                pathsNode = mapper.createObjectNode();
+                pathItems = new LazyModelMap<>(PathsReader::readPathItem);
+                defer(mapper, parser, pathItems, pathsNode);
+            } else if (DefinitionConstant.PROP_COMPONENTS.equals(name)) {
+                ObjectNode componentsNode = mapper.createObjectNode();
+                tree.set(name, componentsNode);
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String componentType = parser.getCurrentName();
+
+                    if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        componentsNode.set(componentType, mapper.readTree(parser));
+                    } else if (ComponentsConstant.PROP_SCHEMAS.equals(componentType)) {
+                        schemas = new LazyModelMap<>(SchemaReader::readSchema);
+                        defer(mapper, parser, schemas, null);
+                    } else if (ComponentsConstant.PROP_EXAMPLES.equals(componentType)) {
+                        examples = new LazyModelMap<>(ExampleReader::readExample);
+                        defer(mapper, parser, examples, null);
+                    } else {
+                        componentsNode.set(componentType, mapper.readTree(parser));
+                    }
+                }
+            } else {
+                tree.set(name, mapper.readTree(parser));
+            }
+        }
+
+        OpenAPI oai = new OpenApiParser(tree).parse();
+
+        if (pathItems != null) {
+            PathsImpl paths = new PathsImpl();
+            if (!pathItems.isEmpty()) {
+                paths.setMap(pathItems);
+            }
+            ExtensionReader.readExtensions(pathsNode, paths);
+            oai.setPaths(paths);
+        }
+
+        Components components = oai.getComponents();
+
+        if (schemas != null) {
+            components.setSchemas(schemas);
+        }
+        if (examples != null) {
+            components.setExamples(examples);
+        }
+
+        return oai;
+    }
+
+    /**
+     * Defer reading each of the entries of the object at the parser's current
+     * position. When an extensions node is given (for paths), extension properties
+     * are added to it.
+     */
+    private static void defer(ObjectMapper mapper, JsonParser parser, LazyModelMap<?> entries, ObjectNode extensions)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            if (extensions != null && ExtensionConstant.isExtensionField(name)) {
+                extensions.set(name, mapper.readTree(parser));
+            } else if (extensions != null && !parser.isExpectedStartObjectToken()) {
+                // Path items that are not objects are dropped, as when not parsing lazily
+                parser.skipChildren();
+            } else {
+                entries.defer(name, parser);
+            }
+        }
+    }
 }
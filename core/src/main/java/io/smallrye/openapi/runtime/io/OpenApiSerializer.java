@@ -1,15 +1,21 @@
 package io.smallrye.openapi.runtime.io;
 
+import java.io.FilterOutputStream;
+import java.io.FilterWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
+import io.smallrye.openapi.runtime.BootstrapListener;
+import io.smallrye.openapi.runtime.BootstrapListener.Span;
+import io.smallrye.openapi.runtime.BootstrapListener.Stage;
 import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
 
 /**
@@ -31,25 +37,144 @@ public class OpenApiSerializer {
      * @throws IOException Errors in processing the JSON
      */
     public static final String serialize(OpenAPI openApi, Format format) throws IOException {
+        StringWriter output = new StringWriter();
+        serialize(openApi, format, output);
+        return output.toString();
+    }
 
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML, writing
+     * UTF-8 encoded output directly to the stream. The stream is flushed but
+     * not closed.
+     *
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param output the stream to write to
+     * @throws IOException Errors in processing the JSON
+     */
+    public static void serialize(OpenAPI openApi, Format format, OutputStream output) throws IOException {
+        serialize(openApi, format, true, output);
+    }
+
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML, writing
+     * UTF-8 encoded output directly to the stream. When <code>pretty</code> is
+     * false, JSON is written without indentation or line breaks. YAML output is
+     * the same in either case. The stream is flushed but not closed.
+     *
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param pretty whether JSON output should be indented
+     * @param output the stream to write to
+     * @throws IOException Errors in processing the JSON
+     */
+    public static void serialize(OpenAPI openApi, Format format, boolean pretty, OutputStream output) throws IOException {
+        Span span = BootstrapListener.startStage(Stage.SERIALIZE);
         try {
-            ObjectNode tree = JsonUtil.objectNode();
-            DefinitionWriter.writeOpenAPI(tree, openApi);
+            if (span.isRecording()) {
+                CountingOutputStream counter = new CountingOutputStream(output);
+                try {
+                    write(openApi, writer(format, pretty).createGenerator(counter, JsonEncoding.UTF8));
+                } finally {
+                    span.format(format).size(counter.count);
+                }
+            } else {
+                write(openApi, writer(format, pretty).createGenerator(output, JsonEncoding.UTF8));
+            }
+        } finally {
+            span.end();
+        }
+    }
 
-            ObjectMapper mapper;
-            if (format == Format.JSON) {
-                mapper = new ObjectMapper();
-                return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(tree);
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML, writing
+     * the output directly to the writer. The writer is flushed but not closed.
+     *
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param output the writer to write to
+     * @throws IOException Errors in processing the JSON
+     */
+    public static void serialize(OpenAPI openApi, Format format, Writer output) throws IOException {
+        Span span = BootstrapListener.startStage(Stage.SERIALIZE);
+        try {
+            if (span.isRecording()) {
+                CountingWriter counter = new CountingWriter(output);
+                try {
+                    write(openApi, writer(format, true).createGenerator(counter));
+                } finally {
+                    span.format(format).size(counter.count);
+                }
             } else {
-                YAMLFactory factory = new YAMLFactory();
-                factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
-                factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
-                mapper = new ObjectMapper(factory);
-                return mapper.writer().writeValueAsString(tree);
+                write(openApi, writer(format, true).createGenerator(output));
             }
-        } catch (JsonProcessingException e) {
-            throw new IOException(e);
+        } finally {
+            span.end();
+        }
+    }
+
+    private static ObjectWriter writer(Format format, boolean pretty) {
+        return MapperProvider.getInstance().writer(format, pretty);
+    }
+
+    private static void write(OpenAPI openApi, JsonGenerator generator) throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        // Closing the generator completes the (YAML) document and flushes the output
+        try (JsonGenerator g = generator) {
+            DefinitionWriter.writeOpenAPI(g, openApi);
         }
     }
 
+    /**
+     * Counts the bytes serialized while recording.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * Counts the characters serialized while recording.
+     */
+    private static final class CountingWriter extends FilterWriter {
+        long count;
+
+        CountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.write(c);
+            count++;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, len);
+            count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            count += len;
+        }
+    }
 }
@@ -0,0 +1,217 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.runtime.util.StringUtil;
+
+/**
+ * An OpenAPI document serialized once to UTF-8 encoded bytes, suitable for
+ * serving repeatedly without walking the model again. Compressed variants of
+ * the content are created on first use and retained.
+ *
+ * Instances are immutable (apart from the lazily created variants) and safe
+ * for use by multiple threads.
+ */
+public class SerializedDocument {
+
+    /**
+     * Content encodings available for a serialized document.
+     */
+    public enum Encoding {
+        IDENTITY(null),
+        GZIP("gzip"),
+        DEFLATE("deflate");
+
+        private final String contentEncoding;
+
+        Encoding(String contentEncoding) {
+            this.contentEncoding = contentEncoding;
+        }
+
+        /**
+         * @return the value of the HTTP <code>Content-Encoding</code> header for this encoding,
+         *         or null for the identity encoding
+         */
+        public String getContentEncoding() {
+            return contentEncoding;
+        }
+    }
+
+    private final Format format;
+    private final byte[] content;
+    private final String hash;
+
+    private volatile byte[] gzipContent;
+    private volatile byte[] deflateContent;
+
+    SerializedDocument(Format format, byte[] content) {
+        this.format = format;
+        this.content = content;
+        this.hash = sha256(content);
+    }
+
+    /**
+     * Serialize the model in the given format.
+     *
+     * @param openApi the OpenAPI model
+     * @param format the serialization format
+     * @param pretty whether JSON output should be indented
+     * @return the serialized document
+     * @throws IOException Errors in processing the JSON
+     */
+    public static SerializedDocument of(OpenAPI openApi, Format format, boolean pretty) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OpenApiSerializer.serialize(openApi, format, pretty, output);
+        return new SerializedDocument(format, output.toByteArray());
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * @return the hex encoded SHA-256 digest of the (uncompressed) content
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Strong entity tag for the document in the given encoding, including the
+     * surrounding quotes. Each encoding produces different bytes and is
+     * therefore given a different tag.
+     *
+     * @param encoding the content encoding
+     * @return the value of an HTTP <code>ETag</code> header
+     */
+    public String getETag(Encoding encoding) {
+        if (encoding == Encoding.IDENTITY) {
+            return '"' + hash + '"';
+        }
+        return '"' + hash + '-' + encoding.getContentEncoding() + '"';
+    }
+
+    /**
+     * @param encoding the content encoding
+     * @return the length in bytes of the content in the given encoding
+     */
+    public int getLength(Encoding encoding) {
+        return content(encoding).length;
+    }
+
+    /**
+     * @param encoding the content encoding
+     * @return a read-only view of the content in the given encoding
+     */
+    public ByteBuffer asByteBuffer(Encoding encoding) {
+        return ByteBuffer.wrap(content(encoding)).asReadOnlyBuffer();
+    }
+
+    /**
+     * @param encoding the content encoding
+     * @return a stream reading the content in the given encoding
+     */
+    public InputStream getInputStream(Encoding encoding) {
+        return new ByteArrayInputStream(content(encoding));
+    }
+
+    /**
+     * Write the content in the given encoding to the stream. The stream is not closed.
+     *
+     * @param encoding the content encoding
+     * @param output the stream to write to
+     * @throws IOException Errors writing to the stream
+     */
+    public void writeTo(Encoding encoding, OutputStream output) throws IOException {
+        output.write(content(encoding));
+    }
+
+    /**
+     * @return a copy of the UTF-8 encoded content
+     */
+    public byte[] toByteArray() {
+        return content.clone();
+    }
+
+    @Override
+    public String toString() {
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+    private byte[] content(Encoding encoding) {
+        switch (encoding) {
+            case GZIP:
+                if (gzipContent == null) {
+                    gzipContent = gzip(content);
+                }
+                return gzipContent;
+            case DEFLATE:
+                if (deflateContent == null) {
+                    deflateContent = deflate(content);
+                }
+                return deflateContent;
+            default:
+                return content;
+        }
+    }
+
+    static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 4);
+
+        // The variant is created once and served many times, favor size over speed
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            // Not thrown when writing to memory
+            throw new IllegalStateException(e);
+        }
+
+        return output.toByteArray();
+    }
+
+    static byte[] deflate(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 4);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(output, deflater)) {
+            deflate.write(content);
+        } catch (IOException e) {
+            // Not thrown when writing to memory
+            throw new IllegalStateException(e);
+        } finally {
+            deflater.end();
+        }
+
+        return output.toByteArray();
+    }
+
+    static String sha256(byte[] content) {
+        byte[] digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+
+        return StringUtil.toHex(digest);
+    }
+}
@@ -52,7 +52,7 @@ public class CallbackWriter {
      * @param model the callback model
      * @param name the name of the node
      */
-    private static void writeCallback(ObjectNode parent, Callback model, String name) {
+    public static void writeCallback(ObjectNode parent, Callback model, String name) {
         if (model == null) {
             return;
         }
@@ -1,9 +1,13 @@
 package io.smallrye.openapi.runtime.io.components;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.Components;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import io.smallrye.openapi.runtime.io.ObjectWriter;
 import io.smallrye.openapi.runtime.io.callback.CallbackWriter;
 import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
 import io.smallrye.openapi.runtime.io.example.ExampleWriter;
@@ -52,4 +56,39 @@ public class ComponentsWriter {
         CallbackWriter.writeCallbacks(node, components.getCallbacks());
         ExtensionWriter.writeExtensions(node, components);
     }
+
+    /**
+     * Writes a {@link Components} model directly to the generator, one component at a time.
+     * The output is the same as that of {@link #writeComponents(ObjectNode, Components)}.
+     *
+     * @param generator the generator positioned inside of the parent object
+     * @param components the {@link Components} model
+     * @throws IOException Errors in writing the JSON
+     */
+    public static void writeComponents(JsonGenerator generator, Components components) throws IOException {
+        if (components == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_COMPONENTS);
+        ObjectWriter.writeMap(generator, components.getSchemas(), ComponentsConstant.PROP_SCHEMAS,
+                SchemaWriter::writeSchema);
+        ObjectWriter.writeMap(generator, components.getResponses(), ComponentsConstant.PROP_RESPONSES,
+                ResponseWriter::writeAPIResponse);
+        ObjectWriter.writeMap(generator, components.getParameters(), ComponentsConstant.PROP_PARAMETERS,
+                ParameterWriter::writeParameter);
+        ObjectWriter.writeMap(generator, components.getExamples(), ComponentsConstant.PROP_EXAMPLES,
+                ExampleWriter::writeExample);
+        ObjectWriter.writeMap(generator, components.getRequestBodies(), ComponentsConstant.PROP_REQUEST_BODIES,
+                RequestBodyWriter::writeRequestBody);
+        ObjectWriter.writeMap(generator, components.getHeaders(), ComponentsConstant.PROP_HEADERS,
+                HeaderWriter::writeHeader);
+        ObjectWriter.writeMap(generator, components.getSecuritySchemes(), ComponentsConstant.PROP_SECURITY_SCHEMES,
+                SecuritySchemeWriter::writeSecurityScheme);
+        ObjectWriter.writeMap(generator, components.getLinks(), ComponentsConstant.PROP_LINKS,
+                LinkWriter::writeLink);
+        ObjectWriter.writeMap(generator, components.getCallbacks(), ComponentsConstant.PROP_CALLBACKS,
+                CallbackWriter::writeCallback);
+        ObjectWriter.writeProperties(generator, node -> ExtensionWriter.writeExtensions(node, components));
+        generator.writeEndObject();
+    }
 }
@@ -1,10 +1,14 @@
 package io.smallrye.openapi.runtime.io.definition;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.ObjectWriter;
 import io.smallrye.openapi.runtime.io.components.ComponentsWriter;
 import io.smallrye.openapi.runtime.io.extension.ExtensionWriter;
 import io.smallrye.openapi.runtime.io.externaldocs.ExternalDocsWriter;
@@ -45,4 +49,30 @@ public class DefinitionWriter {
         ExtensionWriter.writeExtensions(node, model);
     }
 
+    /**
+     * Writes the given model directly to the generator. The paths and components,
+     * typically the bulk of the model, are written one entry at a time so that
+     * no tree of the complete document is created. The output is the same as that
+     * of {@link #writeOpenAPI(ObjectNode, OpenAPI)}.
+     * 
+     * @param generator the generator
+     * @param model the OpenAPI model
+     * @throws IOException Errors in writing the JSON
+     */
+    public static void writeOpenAPI(JsonGenerator generator, OpenAPI model) throws IOException {
+        generator.writeStartObject();
+        ObjectWriter.writeProperties(generator, node -> {
+            JsonUtil.stringProperty(node, DefinitionConstant.PROP_OPENAPI, model.getOpenapi());
+            InfoWriter.writeInfo(node, model.getInfo());
+            ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocs());
+            ServerWriter.writeServers(node, model.getServers());
+            SecurityRequirementWriter.writeSecurityRequirements(node, model.getSecurity());
+            TagWriter.writeTags(node, model.getTags());
+        });
+        PathsWriter.writePaths(generator, model.getPaths());
+        ComponentsWriter.writeComponents(generator, model.getComponents());
+        ObjectWriter.writeProperties(generator, node -> ExtensionWriter.writeExtensions(node, model));
+        generator.writeEndObject();
+    }
+
 }
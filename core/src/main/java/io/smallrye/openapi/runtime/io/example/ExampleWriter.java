@@ -49,7 +49,7 @@ public class ExampleWriter {
      * @param model
      * @param name
      */
-    private static void writeExample(ObjectNode parent, Example model, String name) {
+    public static void writeExample(ObjectNode parent, Example model, String name) {
         if (model == null) {
             return;
         }
@@ -53,7 +53,7 @@ public class HeaderWriter {
      * @param model
      * @param name
      */
-    private static void writeHeader(ObjectNode parent, Header model, String name) {
+    public static void writeHeader(ObjectNode parent, Header model, String name) {
         if (model == null) {
             return;
         }
@@ -51,7 +51,7 @@ public class LinkWriter {
      * @param model
      * @param name
      */
-    private static void writeLink(ObjectNode parent, Link model, String name) {
+    public static void writeLink(ObjectNode parent, Link model, String name) {
         if (model == null) {
             return;
         }
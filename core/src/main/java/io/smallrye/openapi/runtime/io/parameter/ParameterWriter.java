@@ -56,7 +56,7 @@ public class ParameterWriter {
      * @param model
      * @param name
      */
-    private static void writeParameter(ObjectNode parent, Parameter model, String name) {
+    public static void writeParameter(ObjectNode parent, Parameter model, String name) {
         if (model == null) {
             return;
         }
@@ -1,14 +1,17 @@
 package io.smallrye.openapi.runtime.io.paths;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.Paths;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.ObjectWriter;
 import io.smallrye.openapi.runtime.io.Referenceable;
 import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
 import io.smallrye.openapi.runtime.io.extension.ExtensionWriter;
@@ -49,6 +52,28 @@ public class PathsWriter {
         ExtensionWriter.writeExtensions(pathsNode, paths);
     }
 
+    /**
+     * Writes a {@link Paths} directly to the generator, one path item at a time.
+     * The output is the same as that of {@link #writePaths(ObjectNode, Paths)}.
+     * 
+     * @param generator the generator positioned inside of the parent object
+     * @param paths Paths model
+     * @throws IOException Errors in writing the JSON
+     */
+    public static void writePaths(JsonGenerator generator, Paths paths) throws IOException {
+        if (paths == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_PATHS);
+        if (paths.getPathItems() != null) {
+            for (Map.Entry<String, PathItem> entry : paths.getPathItems().entrySet()) {
+                ObjectWriter.writeProperties(generator, node -> writePathItem(node, entry.getValue(), entry.getKey()));
+            }
+        }
+        ObjectWriter.writeProperties(generator, node -> ExtensionWriter.writeExtensions(node, paths));
+        generator.writeEndObject();
+    }
+
     /**
      * Writes a {@link PathItem} to the JSON tree.
      * 
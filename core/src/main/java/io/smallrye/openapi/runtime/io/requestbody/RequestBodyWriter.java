@@ -60,7 +60,7 @@ public class RequestBodyWriter {
      * @param model
      * @param name
      */
-    private static void writeRequestBody(ObjectNode parent, RequestBody model, String name) {
+    public static void writeRequestBody(ObjectNode parent, RequestBody model, String name) {
         if (model == null) {
             return;
         }
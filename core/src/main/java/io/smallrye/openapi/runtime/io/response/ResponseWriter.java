@@ -74,7 +74,7 @@ public class ResponseWriter {
      * @param model
      * @param name
      */
-    private static void writeAPIResponse(ObjectNode parent, APIResponse model, String name) {
+    public static void writeAPIResponse(ObjectNode parent, APIResponse model, String name) {
         if (model == null) {
             return;
         }
@@ -488,13 +488,29 @@ public class SchemaFactory {
      * @see java.lang.reflect.Field#isEnumConstant()
      */
     public static Schema enumToSchema(final AnnotationScannerContext context, Type enumType) {
-        IoLogging.logger.enumProcessing(enumType);
-        final int ENUM = 0x00004000; // see java.lang.reflect.Modifier#ENUM
         ClassInfo enumKlazz = context.getIndex().getClassByName(TypeUtil.getName(enumType));
         AnnotationInstance schemaAnnotation = enumKlazz.classAnnotation(SchemaConstant.DOTNAME_SCHEMA);
-        Schema enumSchema = new SchemaImpl();
+        // The values of the enum are costly to obtain and the same for every use of the enum
+        List<Object> enumeration = context.getSchemaCache().enumeration(enumKlazz.name(), () -> {
+            IoLogging.logger.enumProcessing(enumType);
+            return enumValues(context, enumKlazz);
+        });
+
+        if (schemaAnnotation != null) {
+            Map<String, Object> defaults = new HashMap<>(2);
+            defaults.put(SchemaConstant.PROP_TYPE, SchemaType.STRING);
+            defaults.put(SchemaConstant.PROP_ENUMERATION, enumeration);
 
-        List<Object> enumeration = enumKlazz.annotations()
+            return readSchema(context, new SchemaImpl(), schemaAnnotation, enumKlazz, defaults);
+        }
+
+        return new SchemaImpl().type(SchemaType.STRING).enumeration(enumeration);
+    }
+
+    private static List<Object> enumValues(final AnnotationScannerContext context, ClassInfo enumKlazz) {
+        final int ENUM = 0x00004000; // see java.lang.reflect.Modifier#ENUM
+
+        return enumKlazz.annotations()
                 .getOrDefault(JacksonConstants.JSON_VALUE, Collections.emptyList())
                 .stream()
                 // @JsonValue#value (default = true) allows for the functionality to be disabled
@@ -530,19 +546,6 @@ public class SchemaFactory {
                         .filter(field -> (field.flags() & ENUM) != 0)
                         .map(FieldInfo::name)
                         .collect(Collectors.toList()));
-
-        if (schemaAnnotation != null) {
-            Map<String, Object> defaults = new HashMap<>(2);
-            defaults.put(SchemaConstant.PROP_TYPE, SchemaType.STRING);
-            defaults.put(SchemaConstant.PROP_ENUMERATION, enumeration);
-
-            enumSchema = readSchema(context, enumSchema, schemaAnnotation, enumKlazz, defaults);
-        } else {
-            enumSchema.setType(SchemaType.STRING);
-            enumSchema.setEnumeration(enumeration);
-        }
-
-        return enumSchema;
     }
 
     /**
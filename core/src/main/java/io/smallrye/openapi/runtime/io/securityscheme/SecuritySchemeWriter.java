@@ -50,7 +50,7 @@ public class SecuritySchemeWriter {
      * @param model
      * @param name
      */
-    private static void writeSecurityScheme(ObjectNode parent, SecurityScheme model, String name) {
+    public static void writeSecurityScheme(ObjectNode parent, SecurityScheme model, String name) {
         if (model == null) {
             return;
         }
@@ -1,7 +1,8 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import java.util.Collection;
-import java.util.regex.Matcher;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -29,6 +30,17 @@ public class FilteredIndexView implements IndexView {
     private final Pattern scanExcludeClasses;
     private final Pattern scanExcludePackages;
 
+    private final NameMatcher scanClassesMatcher;
+    private final NameMatcher scanPackagesMatcher;
+    private final NameMatcher scanExcludeClassesMatcher;
+    private final NameMatcher scanExcludePackagesMatcher;
+
+    /**
+     * Results of {@link #accepts(DotName, boolean)}, by whether implied inclusion is allowed
+     */
+    private final Map<DotName, Boolean> accepted = new ConcurrentHashMap<>();
+    private final Map<DotName, Boolean> explicitlyAccepted = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      * 
@@ -43,6 +55,10 @@ public class FilteredIndexView implements IndexView {
         scanExcludeClasses = config.scanExcludeClasses();
         scanExcludePackages = config.scanExcludePackages();
 
+        scanClassesMatcher = NameMatcher.of(scanClasses);
+        scanPackagesMatcher = NameMatcher.of(scanPackages);
+        scanExcludeClassesMatcher = NameMatcher.of(scanExcludeClasses);
+        scanExcludePackagesMatcher = NameMatcher.of(scanExcludePackages);
     }
 
     /**
@@ -69,13 +85,25 @@ public class FilteredIndexView implements IndexView {
 
     /**
      * Returns true if the class name should be included in the index (is either included or
-     * not excluded).
+     * not excluded). The result for each class name is computed once and retained.
      * 
      * @param className the name of the class
      * @param allowImpliedInclusion whether the class may be implied for inclusion
      * @return true if the inclusion/exclusion configuration allows scanning of the class name
      */
     public boolean accepts(DotName className, boolean allowImpliedInclusion) {
+        Map<DotName, Boolean> results = allowImpliedInclusion ? accepted : explicitlyAccepted;
+        Boolean accept = results.get(className);
+
+        if (accept == null) {
+            accept = computeAccepts(className, allowImpliedInclusion);
+            results.putIfAbsent(className, accept);
+        }
+
+        return accept.booleanValue();
+    }
+
+    private boolean computeAccepts(DotName className, boolean allowImpliedInclusion) {
         final boolean accept;
         final MatchHandler match = new MatchHandler(className);
 
@@ -153,10 +181,10 @@ public class FilteredIndexView implements IndexView {
             final int index = fqcn.lastIndexOf('.');
             this.packageName = index > -1 ? fqcn.substring(0, index) : "";
 
-            this.classExclGroup = matchingGroup(fqcn, scanExcludeClasses);
-            this.classInclGroup = matchingGroup(fqcn, scanClasses);
-            this.pkgExclGroup = matchingGroup(packageName, scanExcludePackages);
-            this.pkgInclGroup = matchingGroup(packageName, scanPackages);
+            this.classExclGroup = scanExcludeClassesMatcher.matchingGroup(fqcn);
+            this.classInclGroup = scanClassesMatcher.matchingGroup(fqcn);
+            this.pkgExclGroup = scanExcludePackagesMatcher.matchingGroup(packageName);
+            this.pkgInclGroup = scanPackagesMatcher.matchingGroup(packageName);
         }
 
         public boolean isQualifiedNameExcluded() {
@@ -213,14 +241,6 @@ public class FilteredIndexView implements IndexView {
         }
     }
 
-    String matchingGroup(String value, Pattern pattern) {
-        if (pattern == null || pattern.pattern().isEmpty() || value.isEmpty()) {
-            return "";
-        }
-        Matcher m = pattern.matcher(value);
-        return m.find() ? m.group() : "";
-    }
-
     /**
      * @see org.jboss.jandex.IndexView#getKnownClasses()
      */
@@ -0,0 +1,179 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the part of a class or package name matched by one of the scan
+ * include/exclude configuration patterns.
+ *
+ * Patterns built from a list of literal names by
+ * {@link io.smallrye.openapi.api.OpenApiConfig#patternOf(String, Set) OpenApiConfig#patternOf}
+ * are the common case and are matched using a set of the names and a
+ * character trie, avoiding the regular expression engine entirely. Any other
+ * pattern is matched using {@link Matcher#find()}.
+ */
+abstract class NameMatcher {
+
+    private static final String QUOTE_START = "\\Q";
+    private static final String QUOTE_END = "\\E";
+    private static final String SEPARATOR = QUOTE_END + '|' + QUOTE_START;
+
+    static final NameMatcher NONE = new NameMatcher() {
+        @Override
+        String matchingGroup(String value) {
+            return "";
+        }
+    };
+
+    /**
+     * Create a matcher for the pattern.
+     *
+     * @param pattern the pattern from configuration, may be null
+     * @return a matcher equivalent to the pattern
+     */
+    static NameMatcher of(Pattern pattern) {
+        if (pattern == null || pattern.pattern().isEmpty()) {
+            return NONE;
+        }
+
+        List<String> literals = literals(pattern);
+
+        if (literals != null) {
+            return new LiteralMatcher(literals);
+        }
+
+        return new RegexMatcher(pattern);
+    }
+
+    /**
+     * Find the portion of the value matched by the pattern.
+     *
+     * @param value class or package name
+     * @return the matched portion of the value, or an empty string when nothing matched
+     */
+    abstract String matchingGroup(String value);
+
+    /**
+     * Extract the names from a pattern in the form <code>(\Qname1\E|\Qname2\E)</code>
+     *
+     * @param pattern the pattern
+     * @return the list of names quoted by the pattern, or null if the pattern is not
+     *         a simple alternation of quoted names
+     */
+    static List<String> literals(Pattern pattern) {
+        String expression = pattern.pattern();
+
+        if (pattern.flags() != 0
+                || !expression.startsWith('(' + QUOTE_START)
+                || !expression.endsWith(QUOTE_END + ')')) {
+            return null;
+        }
+
+        String body = expression.substring(3, expression.length() - 3);
+        List<String> literals = new ArrayList<>();
+        int start = 0;
+        int end;
+
+        while ((end = body.indexOf(SEPARATOR, start)) > -1) {
+            literals.add(body.substring(start, end));
+            start = end + SEPARATOR.length();
+        }
+
+        literals.add(body.substring(start));
+
+        // Names containing the quote terminator are quoted differently, let the regex handle them
+        String rebuilt = literals.stream().map(Pattern::quote).collect(Collectors.joining("|", "(", ")"));
+        return rebuilt.equals(expression) ? literals : null;
+    }
+
+    static class RegexMatcher extends NameMatcher {
+        private final Pattern pattern;
+
+        RegexMatcher(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        String matchingGroup(String value) {
+            if (value.isEmpty()) {
+                return "";
+            }
+            Matcher m = pattern.matcher(value);
+            return m.find() ? m.group() : "";
+        }
+    }
+
+    /**
+     * Matches a set of literal names anywhere in the value, like the equivalent
+     * regular expression. Where several names match at the first matching
+     * position, the longest is the result.
+     */
+    static class LiteralMatcher extends NameMatcher {
+        private final Set<String> names;
+        private final Node root = new Node();
+
+        LiteralMatcher(List<String> literals) {
+            this.names = new HashSet<>(literals);
+
+            for (String literal : literals) {
+                Node node = root;
+                for (int i = 0, m = literal.length(); i < m; i++) {
+                    node = node.children.computeIfAbsent(literal.charAt(i), c -> new Node());
+                }
+                node.terminal = true;
+            }
+        }
+
+        @Override
+        String matchingGroup(String value) {
+            if (value.isEmpty()) {
+                return "";
+            }
+            if (names.contains(value)) {
+                // Nothing longer than the full value may match at the first position
+                return value;
+            }
+
+            for (int start = 0, m = value.length(); start < m; start++) {
+                int end = longestMatch(value, start);
+
+                if (end > -1) {
+                    return value.substring(start, end);
+                }
+            }
+
+            return "";
+        }
+
+        private int longestMatch(String value, int start) {
+            Node node = root;
+            int end = node.terminal ? start : -1;
+
+            for (int i = start, m = value.length(); i < m; i++) {
+                node = node.children.get(value.charAt(i));
+
+                if (node == null) {
+                    break;
+                }
+                if (node.terminal) {
+                    end = i + 1;
+                }
+            }
+
+            return end;
+        }
+
+        static class Node {
+            final Map<Character, Node> children = new HashMap<>(4);
+            boolean terminal;
+        }
+    }
+}
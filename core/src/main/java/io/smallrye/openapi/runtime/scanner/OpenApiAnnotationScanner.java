@@ -1,29 +1,39 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.Paths;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.OperationImpl;
 import io.smallrye.openapi.api.util.ClassLoaderUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
@@ -34,6 +44,8 @@ import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
+import io.smallrye.openapi.runtime.util.AnnotationLookup;
 
 /**
  * Scans a deployment (using the archive and jandex annotation index) for OpenAPI annotations.
@@ -114,26 +126,254 @@ public class OpenApiAnnotationScanner {
      * @return OpenAPI generated from scanning annotations
      */
     public OpenAPI scan(String... filter) {
+        // Load all entry points with SPI, these are scanned after the MicroProfile OpenAPI annotations
+        List<AnnotationScanner> annotationScanners = getAnnotationScanners(filter);
+
+        ScanResultCache cache = ScanResultCache.fromConfig(annotationScannerContext.getConfig());
+        String fingerprint = null;
+
+        if (cache != null) {
+            fingerprint = ScanResultCache.fingerprint(annotationScannerContext.getIndex(),
+                    annotationScannerContext.getConfig(),
+                    getNames(annotationScanners));
+
+            OpenAPI cached = cache.load(fingerprint);
+
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        OpenAPI openApi = scanDeployment(annotationScanners);
+
+        if (cache != null) {
+            cache.store(fingerprint, openApi);
+        }
+
+        return openApi;
+    }
+
+    /**
+     * Scan the deployment, re-using the result of a previous scan of an earlier
+     * version of the deployment. Only the operations and generated schemas
+     * derived from the changed classes, or from classes using them, are scanned
+     * again; the index given to this scanner must contain the current version
+     * of all classes.
+     *
+     * The previous result is updated in place and must not be used again once
+     * this method returns. The entire deployment is scanned when no previous
+     * result is given, the configuration or scanners differ from the previous
+     * scan, or the changes affect the deployment as a whole (e.g. application
+     * or <code>package-info</code> classes). Tags that are no longer used after
+     * a change are retained until the next full scan.
+     *
+     * @param previous the result of the previous scan, or null
+     * @param changed names of the classes added, modified, or removed since the previous scan
+     * @param filter Filter to only include certain scanners. Based on the scanner name. (JAX-RS, Spring, Vert.x)
+     * @return the result of scanning, for use with the next incremental scan
+     */
+    public ScanResult scan(ScanResult previous, Collection<DotName> changed, String... filter) {
+        List<AnnotationScanner> annotationScanners = getAnnotationScanners(filter);
+        List<String> scannerNames = getNames(annotationScanners);
+        String configDigest = ScanResultCache.configDigest(annotationScannerContext.getConfig());
+
+        annotationScannerContext.setRecordingDependencies(true);
+
+        if (previous != null
+                && previous.scannerNames.equals(scannerNames)
+                && previous.configDigest.equals(configDigest)
+                && changed.stream().noneMatch(name -> affectsDeployment(previous, name))) {
+            ScanResult result = rescan(previous, new HashSet<>(changed), annotationScanners);
+
+            if (result != null) {
+                return result;
+            }
+        }
+
+        OpenAPI openApi = scanDeployment(annotationScanners);
+
+        return new ScanResult(openApi, SchemaRegistry.currentInstance(), annotationScannerContext.getDependencies(),
+                scannerNames, configDigest);
+    }
+
+    private List<AnnotationScanner> getAnnotationScanners(String... filter) {
+        return annotationScannerFactory.getAnnotationScanners()
+                .stream()
+                .filter(s -> filter == null || filter.length == 0 || Arrays.asList(filter).contains(s.getName()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getNames(List<AnnotationScanner> annotationScanners) {
+        return annotationScanners.stream().map(AnnotationScanner::getName).collect(Collectors.toList());
+    }
+
+    private OpenAPI scanDeployment(List<AnnotationScanner> annotationScanners) {
+        AnnotationLookup previousLookup = AnnotationLookup.currentInstance();
+        AnnotationLookup.newInstance();
+
+        try {
+            return scanDeploymentAnnotations(annotationScanners);
+        } finally {
+            AnnotationLookup.restore(previousLookup);
+        }
+    }
+
+    private OpenAPI scanDeploymentAnnotations(List<AnnotationScanner> annotationScanners) {
+        final ScanListener listener = annotationScannerContext.getListener();
+        final long start = System.nanoTime();
+        listener.phaseStarted(ScanListener.SCAN);
+
         // First scan the MicroProfile OpenAPI Annotations. Maybe later we can load this with SPI as well, and allow other Annotation sets.
+        listener.phaseStarted(ScanListener.MICROPROFILE_OPENAPI);
         OpenAPI openApi = scanMicroProfileOpenApiAnnotations();
-
-        // Now load all entry points with SPI and scan those
-        List<AnnotationScanner> annotationScanners = annotationScannerFactory.getAnnotationScanners();
+        listener.phaseEnded(ScanListener.MICROPROFILE_OPENAPI, System.nanoTime() - start);
 
         for (AnnotationScanner annotationScanner : annotationScanners) {
-            if (filter == null || filter.length == 0 || Arrays.asList(filter).contains(annotationScanner.getName())) {
-                ScannerLogging.logger.scanning(annotationScanner.getName());
-                CurrentScannerInfo.register(annotationScanner);
-                openApi = annotationScanner.scan(annotationScannerContext, openApi);
-            }
+            ScannerLogging.logger.scanning(annotationScanner.getName());
+            CurrentScannerInfo.register(annotationScanner);
+            long scannerStart = System.nanoTime();
+            listener.phaseStarted(annotationScanner.getName());
+            openApi = annotationScanner.scan(annotationScannerContext, openApi);
+            listener.phaseEnded(annotationScanner.getName(), System.nanoTime() - scannerStart);
         }
 
         sortTags(annotationScannerContext, openApi);
         sortMaps(openApi);
 
+        listener.phaseEnded(ScanListener.SCAN, System.nanoTime() - start);
         return openApi;
     }
 
+    private boolean affectsDeployment(ScanResult previous, DotName className) {
+        return className.withoutPackagePrefix().equals("package-info")
+                || previous.dependencies.getApplications().contains(className)
+                || className.toString().equals(annotationScannerContext.getConfig().customSchemaRegistryClass());
+    }
+
+    /**
+     * Scan the classes affected by a change and merge the results in to the
+     * previous model, which has the operations and schemas derived from those
+     * classes removed first.
+     *
+     * @return the updated result, or null if the deployment must be scanned
+     *         again entirely
+     */
+    private ScanResult rescan(ScanResult previous, Set<DotName> changed, List<AnnotationScanner> annotationScanners) {
+        AnnotationLookup previousLookup = AnnotationLookup.currentInstance();
+        AnnotationLookup.newInstance();
+
+        try {
+            return rescanAffected(previous, changed, annotationScanners);
+        } finally {
+            AnnotationLookup.restore(previousLookup);
+        }
+    }
+
+    private ScanResult rescanAffected(ScanResult previous, Set<DotName> changed,
+            List<AnnotationScanner> annotationScanners) {
+        final OpenApiConfig config = annotationScannerContext.getConfig();
+        final OpenAPI openApi = previous.openApi;
+        final ScanDependencies dependencies = previous.dependencies;
+        final Set<DotName> affected = getAffectedClasses(annotationScannerContext.getIndex(), changed);
+        final Set<String> invalidated = dependencies.getOperations(affected);
+        final Set<DotName> roots = new HashSet<>(affected);
+
+        invalidated.forEach(methodRef -> roots.add(dependencies.getRoot(methodRef)));
+
+        removeOperations(openApi, invalidated);
+        dependencies.remove(invalidated);
+
+        if (openApi.getComponents() != null) {
+            previous.registry.getSchemaNames(affected).forEach(openApi.getComponents()::removeSchema);
+        }
+
+        // Scan the affected root classes with their own model, as a fork of the previous result
+        Components inherited = ParallelScanner.copyOf(openApi.getComponents());
+        OpenAPI model = new OpenAPIImpl();
+        model.setComponents(ParallelScanner.copyOf(inherited));
+
+        AnnotationScannerContext context = new AnnotationScannerContext(
+                new RescanIndexView(annotationScannerContext.getIndex(), config, roots),
+                annotationScannerContext.getClassLoader(),
+                annotationScannerContext.getExtensions(),
+                config,
+                model);
+        context.setRecordingDependencies(true);
+
+        SchemaRegistry registry = SchemaRegistry.newInstance(context, previous.registry, affected);
+        getCustomSchemaRegistry(config).registerCustomSchemas(registry);
+        processClassSchemas(context);
+
+        for (AnnotationScanner annotationScanner : annotationScanners) {
+            ScannerLogging.logger.scanning(annotationScanner.getName());
+            CurrentScannerInfo.register(annotationScanner);
+            model = annotationScanner.scan(context, model);
+        }
+
+        if (!context.getDependencies().getApplications().equals(dependencies.getApplications())) {
+            // An application class was added
+            return null;
+        }
+
+        AnnotationScannerContext mergeContext = new AnnotationScannerContext(annotationScannerContext, openApi);
+        SchemaRegistry mergeRegistry = SchemaRegistry.newInstance(mergeContext, previous.registry, affected);
+
+        ParallelScanner.merge(openApi, inherited, mergeRegistry, new ParallelScanner.Fork(model, registry));
+        dependencies.merge(context.getDependencies());
+
+        sortTags(annotationScannerContext, openApi);
+        sortMaps(openApi);
+
+        return new ScanResult(openApi, mergeRegistry, dependencies, previous.scannerNames, previous.configDigest);
+    }
+
+    /**
+     * Find the classes affected by changes to the given classes: the classes
+     * themselves, their sub-classes and implementations, and (transitively)
+     * all classes using any of these.
+     */
+    static Set<DotName> getAffectedClasses(IndexView index, Collection<DotName> changed) {
+        Set<DotName> affected = new HashSet<>();
+        Deque<DotName> pending = new ArrayDeque<>(changed);
+
+        while (!pending.isEmpty()) {
+            DotName name = pending.pop();
+
+            if (affected.add(name)) {
+                index.getAllKnownSubclasses(name).forEach(c -> pending.push(c.name()));
+                index.getAllKnownImplementors(name).forEach(c -> pending.push(c.name()));
+                index.getKnownUsers(name).forEach(c -> pending.push(c.name()));
+            }
+        }
+
+        return affected;
+    }
+
+    private static void removeOperations(OpenAPI openApi, Set<String> methodRefs) {
+        if (methodRefs.isEmpty() || openApi.getPaths() == null || openApi.getPaths().getPathItems() == null) {
+            return;
+        }
+
+        List<String> emptyPaths = new ArrayList<>();
+
+        openApi.getPaths().getPathItems().forEach((path, pathItem) -> {
+            boolean removed = false;
+
+            for (Map.Entry<PathItem.HttpMethod, Operation> entry : pathItem.getOperations().entrySet()) {
+                if (methodRefs.contains(OperationImpl.getMethodRef(entry.getValue()))) {
+                    pathItem.setOperation(entry.getKey(), null);
+                    removed = true;
+                }
+            }
+
+            if (removed && pathItem.getOperations().isEmpty()) {
+                emptyPaths.add(path);
+            }
+        });
+
+        emptyPaths.forEach(openApi.getPaths()::removePathItem);
+    }
+
     private OpenAPI scanMicroProfileOpenApiAnnotations() {
 
         // Initialize a new OAI document.  Even if nothing is found, this will be returned.
@@ -276,4 +516,50 @@ public class OpenApiAnnotationScanner {
 
         target.accept(parent, sorted);
     }
+
+    /**
+     * Index view that only reports the annotations of a subset of the indexed
+     * classes, limiting the entry points found by the scanners (e.g. resource
+     * classes) to those classes. All classes remain visible otherwise.
+     */
+    static class RescanIndexView extends FilteredIndexView {
+        private final Set<DotName> classes;
+
+        RescanIndexView(IndexView delegate, OpenApiConfig config, Set<DotName> classes) {
+            super(delegate, config);
+            this.classes = classes;
+        }
+
+        @Override
+        public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
+            return filterOwners(super.getAnnotations(annotationName));
+        }
+
+        @Override
+        public Collection<AnnotationInstance> getAnnotationsWithRepeatable(DotName annotationName,
+                IndexView annotationIndex) {
+            return filterOwners(super.getAnnotationsWithRepeatable(annotationName, annotationIndex));
+        }
+
+        private Collection<AnnotationInstance> filterOwners(Collection<AnnotationInstance> annotations) {
+            return annotations.stream()
+                    .filter(annotation -> classes.contains(owner(annotation.target())))
+                    .collect(Collectors.toList());
+        }
+
+        private static DotName owner(AnnotationTarget target) {
+            switch (target.kind()) {
+                case CLASS:
+                    return target.asClass().name();
+                case FIELD:
+                    return target.asField().declaringClass().name();
+                case METHOD:
+                    return target.asMethod().declaringClass().name();
+                case METHOD_PARAMETER:
+                    return target.asMethodParameter().method().declaringClass().name();
+                default:
+                    return null;
+            }
+        }
+    }
 }
@@ -139,7 +139,7 @@ public class OpenApiDataObjectScanner {
     public OpenApiDataObjectScanner(final AnnotationScannerContext context, AnnotationTarget annotationTarget, Type classType) {
         this.context = context;
         this.index = context.getAugmentedIndex();
-        this.objectStack = new DataObjectDeque(this.index);
+        this.objectStack = new DataObjectDeque(this.index, context.getListener());
         this.rootClassType = classType;
         this.rootSchema = new SchemaImpl();
         this.rootClassInfo = initialType(classType);
@@ -220,6 +220,7 @@ public class OpenApiDataObjectScanner {
             DataObjectDeque.PathEntry currentPathEntry = objectStack.pop();
 
             Type currentType = currentPathEntry.getClazzType();
+            context.getListener().typeVisited(currentType);
 
             if (SchemaRegistry.hasSchema(currentType, null)) {
                 // This type has already been scanned and registered, don't do it again!
@@ -0,0 +1,306 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.util.AnnotationLookup;
+import io.smallrye.openapi.runtime.util.ModelUtil;
+
+/**
+ * Scans a collection of targets (e.g. the resource classes of an application)
+ * concurrently. Each target is scanned on a worker thread with its own
+ * {@link AnnotationScanner}, {@link AnnotationScannerContext}, OpenAPI model,
+ * and {@link SchemaRegistry}, all derived from the state of the calling thread.
+ *
+ * Once all targets have been scanned, the tags, paths, and components found for
+ * each target are merged in to the model of the calling thread's context in the
+ * order of the targets. Generated schemas are named as though the targets had been
+ * scanned serially and references to renamed schemas are updated, so the result
+ * does not depend on the scheduling of the worker threads.
+ */
+public class ParallelScanner {
+
+    /**
+     * Scan action performed for a single target.
+     *
+     * @param <S> type of the annotation scanner
+     * @param <T> type of the targets
+     */
+    @FunctionalInterface
+    public interface ScanAction<S extends AnnotationScanner, T> {
+        void scan(S scanner, AnnotationScannerContext context, T target);
+    }
+
+    private ParallelScanner() {
+    }
+
+    /**
+     * Scan the targets using at most <code>parallelism</code> worker threads and
+     * merge the results in to the model of the given context. This method must
+     * be called on the thread holding the current {@link SchemaRegistry} for the
+     * context.
+     *
+     * @param <S> type of the annotation scanner
+     * @param <T> type of the targets
+     * @param context the current scanning context
+     * @param targets the targets to scan, in the order their results should be merged
+     * @param parallelism the maximum number of worker threads
+     * @param scannerFactory supplies a new scanner instance for each target, called on the worker thread
+     * @param action the scan to perform for each target
+     */
+    public static <S extends AnnotationScanner, T> void scan(AnnotationScannerContext context,
+            Collection<T> targets,
+            int parallelism,
+            Supplier<S> scannerFactory,
+            ScanAction<S, T> action) {
+
+        final Components inherited = copyOf(context.getOpenApi().getComponents());
+        final SchemaRegistry registry = SchemaRegistry.currentInstance();
+        final List<ForkJoinTask<Fork>> tasks = new ArrayList<>(targets.size());
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            for (T target : targets) {
+                tasks.add(pool.submit(() -> fork(context, inherited, registry, scannerFactory.get(), action, target)));
+            }
+
+            List<Fork> forks = new ArrayList<>(tasks.size());
+
+            // Wait for all targets before merging, the parent model is read by the workers
+            for (ForkJoinTask<Fork> task : tasks) {
+                forks.add(task.join());
+            }
+
+            for (Fork fork : forks) {
+                merge(context.getOpenApi(), inherited, registry, fork);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    static <S extends AnnotationScanner, T> Fork fork(AnnotationScannerContext parent,
+            Components inherited,
+            SchemaRegistry parentRegistry,
+            S scanner,
+            ScanAction<S, T> action,
+            T target) {
+
+        OpenAPI model = new OpenAPIImpl();
+        model.setComponents(copyOf(inherited));
+
+        AnnotationScannerContext context = new AnnotationScannerContext(parent, model);
+        CurrentScannerInfo.register(scanner);
+        AnnotationLookup lookup = AnnotationLookup.currentInstance();
+        AnnotationLookup.newInstance();
+        SchemaRegistry registry = null;
+
+        if (parentRegistry != null) {
+            registry = SchemaRegistry.newInstance(context, parentRegistry);
+        }
+
+        try {
+            action.scan(scanner, context, target);
+        } finally {
+            JavaSecurityProcessor.remove();
+            SchemaRegistry.remove();
+            CurrentScannerInfo.remove();
+            AnnotationLookup.restore(lookup);
+        }
+
+        return new Fork(model, registry);
+    }
+
+    static void merge(OpenAPI openApi, Components inherited, SchemaRegistry registry, Fork fork) {
+        OpenAPI model = fork.model;
+        Components components = model.getComponents();
+
+        // Drop the components that the fork was given and did not replace
+        removeInherited(inherited.getCallbacks(), components.getCallbacks(), components::removeCallback);
+        removeInherited(inherited.getExamples(), components.getExamples(), components::removeExample);
+        removeInherited(inherited.getHeaders(), components.getHeaders(), components::removeHeader);
+        removeInherited(inherited.getLinks(), components.getLinks(), components::removeLink);
+        removeInherited(inherited.getParameters(), components.getParameters(), components::removeParameter);
+        removeInherited(inherited.getRequestBodies(), components.getRequestBodies(), components::removeRequestBody);
+        removeInherited(inherited.getResponses(), components.getResponses(), components::removeResponse);
+        removeInherited(inherited.getSchemas(), components.getSchemas(), components::removeSchema);
+        removeInherited(inherited.getSecuritySchemes(), components.getSecuritySchemes(), components::removeSecurityScheme);
+
+        Set<String> generated = Collections.emptySet();
+
+        if (fork.registry != null) {
+            generated = fork.registry.getSchemaNames();
+            Map<String, String> renames = registry.merge(fork.registry);
+
+            if (!renames.isEmpty()) {
+                FilterUtil.applyFilter(new SchemaRenameFilter(renames), model);
+            }
+        }
+
+        if (model.getTags() != null) {
+            model.getTags().forEach(tag -> ModelUtil.addTag(openApi, tag));
+        }
+
+        if (model.getPaths() != null && model.getPaths().getPathItems() != null) {
+            model.getPaths().getPathItems().forEach((path, pathItem) -> {
+                PathItem existingPath = ModelUtil.paths(openApi).getPathItem(path);
+
+                if (existingPath == null) {
+                    ModelUtil.paths(openApi).addPathItem(path, pathItem);
+                } else {
+                    MergeUtil.mergeObjects(existingPath, pathItem);
+                }
+            });
+        }
+
+        Supplier<Components> target = () -> ModelUtil.components(openApi);
+        Set<String> none = Collections.emptySet();
+
+        addAll(components.getCallbacks(), none, (k, v) -> target.get().addCallback(k, v));
+        addAll(components.getExamples(), none, (k, v) -> target.get().addExample(k, v));
+        addAll(components.getHeaders(), none, (k, v) -> target.get().addHeader(k, v));
+        addAll(components.getLinks(), none, (k, v) -> target.get().addLink(k, v));
+        addAll(components.getParameters(), none, (k, v) -> target.get().addParameter(k, v));
+        addAll(components.getRequestBodies(), none, (k, v) -> target.get().addRequestBody(k, v));
+        addAll(components.getResponses(), none, (k, v) -> target.get().addResponse(k, v));
+        // Schemas generated by the fork's registry have been added by the registry merge
+        addAll(components.getSchemas(), generated, (k, v) -> target.get().addSchema(k, v));
+        addAll(components.getSecuritySchemes(), none, (k, v) -> target.get().addSecurityScheme(k, v));
+    }
+
+    static Components copyOf(Components source) {
+        Components copy = new ComponentsImpl();
+
+        if (source != null) {
+            copy.setCallbacks(source.getCallbacks());
+            copy.setExamples(source.getExamples());
+            copy.setHeaders(source.getHeaders());
+            copy.setLinks(source.getLinks());
+            copy.setParameters(source.getParameters());
+            copy.setRequestBodies(source.getRequestBodies());
+            copy.setResponses(source.getResponses());
+            copy.setSchemas(source.getSchemas());
+            copy.setSecuritySchemes(source.getSecuritySchemes());
+        }
+
+        return copy;
+    }
+
+    static <V> void removeInherited(Map<String, V> inherited, Map<String, V> forked, Consumer<String> remover) {
+        if (inherited == null || forked == null) {
+            return;
+        }
+
+        List<String> unchanged = new ArrayList<>();
+
+        forked.forEach((name, value) -> {
+            if (inherited.get(name) == value) {
+                unchanged.add(name);
+            }
+        });
+
+        unchanged.forEach(remover);
+    }
+
+    static <V> void addAll(Map<String, V> forked, Set<String> excluded, BiConsumer<String, V> adder) {
+        if (forked != null) {
+            forked.forEach((name, value) -> {
+                if (!excluded.contains(name)) {
+                    adder.accept(name, value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Results of scanning a single target.
+     */
+    static class Fork {
+        final OpenAPI model;
+        final SchemaRegistry registry;
+
+        Fork(OpenAPI model, SchemaRegistry registry) {
+            this.model = model;
+            this.registry = registry;
+        }
+    }
+
+    /**
+     * Filter updating references to schemas that were renamed when merging a
+     * fork's schema registry. Each schema is visited at most once so that
+     * renames are never applied twice to the same reference.
+     */
+    static class SchemaRenameFilter implements OASFilter {
+        private final Map<String, String> renames;
+        private final Set<Schema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        SchemaRenameFilter(Map<String, String> renames) {
+            this.renames = renames;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            rename(schema);
+            return schema;
+        }
+
+        void rename(Schema schema) {
+            if (schema == null || !visited.add(schema)) {
+                return;
+            }
+
+            String ref = schema.getRef();
+
+            if (ref != null && ref.startsWith(OpenApiConstants.REF_PREFIX_SCHEMA)) {
+                String name = renames.get(ref.substring(OpenApiConstants.REF_PREFIX_SCHEMA.length()));
+
+                if (name != null) {
+                    schema.setRef(OpenApiConstants.REF_PREFIX_SCHEMA + name);
+                }
+            }
+
+            // Not all nested schemas are visited by FilterUtil (e.g. oneOf), walk them here
+            rename(schema.getAdditionalPropertiesSchema());
+            rename(schema.getItems());
+            rename(schema.getNot());
+            renameAll(schema.getAllOf());
+            renameAll(schema.getAnyOf());
+            renameAll(schema.getOneOf());
+
+            if (schema.getProperties() != null) {
+                renameAll(schema.getProperties().values());
+            }
+        }
+
+        void renameAll(Collection<Schema> schemas) {
+            if (schemas != null) {
+                schemas.forEach(this::rename);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.WildcardType;
+
+import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+/**
+ * Records the classes that each operation of a scan result was derived from,
+ * allowing a later scan to determine which operations are affected when some
+ * of the application's classes change. See
+ * {@link OpenApiAnnotationScanner#scan(ScanResult, Collection, String...)}.
+ *
+ * Instances are shared by all contexts derived from the same scanning context
+ * and may be updated from multiple threads.
+ */
+public class ScanDependencies {
+
+    private final Map<String, DotName> roots = new ConcurrentHashMap<>();
+    private final Map<String, Set<DotName>> operations = new ConcurrentHashMap<>();
+    private final Set<DotName> applications = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Record the classes used to produce an operation: the root resource class
+     * the operation was reached from, the classes on the context's resolver
+     * stack (e.g. sub-resources), the class declaring the method, and the
+     * classes used by the method's parameter and return types.
+     *
+     * @param context the current scanning context
+     * @param resourceClass the resource class being scanned
+     * @param method the resource method
+     * @param methodRef the unique reference of the method set on the operation
+     */
+    public void recordOperation(AnnotationScannerContext context, ClassInfo resourceClass, MethodInfo method,
+            String methodRef) {
+        Set<DotName> names = new HashSet<>();
+        DotName root = null;
+
+        for (Iterator<TypeResolver> resolvers = context.getResolverStack().descendingIterator(); resolvers.hasNext();) {
+            DotName className = resolvers.next().getClassName();
+
+            if (className != null) {
+                names.add(className);
+
+                if (root == null) {
+                    root = className;
+                }
+            }
+        }
+
+        names.add(resourceClass.name());
+        names.add(method.declaringClass().name());
+        addTypeNames(method.returnType(), names);
+        method.parameters().forEach(parameter -> addTypeNames(parameter, names));
+
+        roots.put(methodRef, root != null ? root : resourceClass.name());
+        operations.put(methodRef, names);
+    }
+
+    /**
+     * Record the application classes (e.g. JAX-RS <code>Application</code>
+     * sub-classes) found by a scanner. Changes to these classes affect the
+     * entire result.
+     *
+     * @param classes the application classes
+     */
+    public void recordApplications(Collection<ClassInfo> classes) {
+        classes.forEach(c -> applications.add(c.name()));
+    }
+
+    Set<DotName> getApplications() {
+        return Collections.unmodifiableSet(applications);
+    }
+
+    DotName getRoot(String methodRef) {
+        return roots.get(methodRef);
+    }
+
+    /**
+     * @param classNames names of classes
+     * @return references of the methods of all operations that depend on any of the classes
+     */
+    Set<String> getOperations(Set<DotName> classNames) {
+        Set<String> result = new LinkedHashSet<>();
+
+        operations.forEach((methodRef, names) -> {
+            if (!Collections.disjoint(names, classNames)) {
+                result.add(methodRef);
+            }
+        });
+
+        return result;
+    }
+
+    void remove(Collection<String> methodRefs) {
+        methodRefs.forEach(methodRef -> {
+            roots.remove(methodRef);
+            operations.remove(methodRef);
+        });
+    }
+
+    void merge(ScanDependencies other) {
+        roots.putAll(other.roots);
+        operations.putAll(other.operations);
+        applications.addAll(other.applications);
+    }
+
+    /**
+     * Add the names of the classes used by a type, including type arguments,
+     * array components, and wildcard bounds. Type variables are not resolved.
+     *
+     * @param type the type, may be null
+     * @param names the collection receiving the names
+     */
+    static void addTypeNames(Type type, Collection<DotName> names) {
+        if (type == null) {
+            return;
+        }
+
+        switch (type.kind()) {
+            case CLASS:
+                names.add(type.name());
+                break;
+            case PARAMETERIZED_TYPE:
+                names.add(type.name());
+                type.asParameterizedType().arguments().forEach(argument -> addTypeNames(argument, names));
+                break;
+            case ARRAY:
+                addTypeNames(type.asArrayType().component(), names);
+                break;
+            case WILDCARD_TYPE:
+                WildcardType wildcard = type.asWildcardType();
+                addTypeNames(wildcard.extendsBound(), names);
+                addTypeNames(wildcard.superBound(), names);
+                break;
+            default:
+                break;
+        }
+    }
+}
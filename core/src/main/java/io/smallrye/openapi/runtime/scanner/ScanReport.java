@@ -0,0 +1,140 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
+
+/**
+ * Listener collecting the timings and counters of a scan, logging a report of
+ * the phases and of the slowest classes and most visited types once the scan
+ * ends. Enabled using {@link io.smallrye.openapi.api.OpenApiConfig#scanReportSize()}.
+ */
+public class ScanReport implements ScanListener {
+
+    private final int size;
+    private final Map<String, Long> phases = new ConcurrentHashMap<>();
+    private final Queue<ClassTiming> classes = new ConcurrentLinkedQueue<>();
+    private final Map<DotName, LongAdder> visits = new ConcurrentHashMap<>();
+    private final LongAdder registryHits = new LongAdder();
+    private final LongAdder registryMisses = new LongAdder();
+    private final LongAdder enumHits = new LongAdder();
+    private final LongAdder enumMisses = new LongAdder();
+    private final LongAdder cycles = new LongAdder();
+
+    /**
+     * @param size the number of classes and types listed in the report
+     */
+    public ScanReport(int size) {
+        this.size = size;
+    }
+
+    static final class ClassTiming {
+        final String scanner;
+        final DotName className;
+        final long durationNanos;
+
+        ClassTiming(String scanner, DotName className, long durationNanos) {
+            this.scanner = scanner;
+            this.className = className;
+            this.durationNanos = durationNanos;
+        }
+    }
+
+    @Override
+    public void phaseEnded(String phase, long durationNanos) {
+        phases.merge(phase, durationNanos, Long::sum);
+
+        if (SCAN.equals(phase)) {
+            ScannerLogging.logger.scanReport(getReport());
+            clear();
+        }
+    }
+
+    @Override
+    public void classScanned(String scanner, ClassInfo scannedClass, long durationNanos) {
+        classes.add(new ClassTiming(scanner, scannedClass.name(), durationNanos));
+    }
+
+    @Override
+    public void typeVisited(Type type) {
+        visits.computeIfAbsent(type.name(), k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void registryLookup(Type type, boolean hit) {
+        (hit ? registryHits : registryMisses).increment();
+    }
+
+    @Override
+    public void enumLookup(DotName enumName, boolean hit) {
+        (hit ? enumHits : enumMisses).increment();
+    }
+
+    @Override
+    public void cycleDetected(Type type) {
+        cycles.increment();
+    }
+
+    /**
+     * @return the report of the events received since the last scan ended
+     */
+    String getReport() {
+        StringBuilder report = new StringBuilder();
+
+        phases.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Long> comparingByValue().reversed())
+                .forEach(phase -> report.append(String.format("  phase %-30s %10.3f ms%n", phase.getKey(),
+                        millis(phase.getValue()))));
+
+        List<ClassTiming> slowest = new ArrayList<>(classes);
+        slowest.sort(Comparator.comparingLong((ClassTiming timing) -> timing.durationNanos).reversed());
+        report.append(String.format("  %d of %d classes scanned, slowest first:%n", Math.min(size, slowest.size()),
+                slowest.size()));
+        slowest.stream()
+                .limit(size)
+                .forEach(timing -> report.append(String.format("    %10.3f ms  %s (%s)%n", millis(timing.durationNanos),
+                        timing.className, timing.scanner)));
+
+        report.append(String.format("  %d types visited, most visited first:%n",
+                visits.values().stream().mapToLong(LongAdder::sum).sum()));
+        visits.entrySet()
+                .stream()
+                .sorted(Comparator.comparingLong((Map.Entry<DotName, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(size)
+                .forEach(visit -> report.append(String.format("    %10d  %s%n", visit.getValue().sum(), visit.getKey())));
+
+        report.append(String.format("  schema registry: %d hits, %d misses; enum cache: %d hits, %d misses; "
+                + "%d cycles detected", registryHits.sum(), registryMisses.sum(), enumHits.sum(), enumMisses.sum(),
+                cycles.sum()));
+
+        return report.toString();
+    }
+
+    private void clear() {
+        phases.clear();
+        classes.clear();
+        visits.clear();
+        registryHits.reset();
+        registryMisses.reset();
+        enumHits.reset();
+        enumMisses.reset();
+        cycles.reset();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,42 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Result of an annotation scan that may be updated incrementally when classes
+ * of the application change, e.g. during development. Besides the model, the
+ * result holds the schema registry of the scan and the classes each operation
+ * was derived from.
+ *
+ * @see OpenApiAnnotationScanner#scan(ScanResult, Collection, String...)
+ */
+public class ScanResult {
+
+    final OpenAPI openApi;
+    final SchemaRegistry registry;
+    final ScanDependencies dependencies;
+    final List<String> scannerNames;
+    final String configDigest;
+
+    ScanResult(OpenAPI openApi, SchemaRegistry registry, ScanDependencies dependencies, List<String> scannerNames,
+            String configDigest) {
+        this.openApi = openApi;
+        this.registry = registry;
+        this.dependencies = dependencies;
+        this.scannerNames = scannerNames;
+        this.configDigest = configDigest;
+    }
+
+    /**
+     * Get a copy of the model produced by the scan. The copy may be modified
+     * freely (e.g. by filters) without affecting later incremental scans.
+     *
+     * @return a new copy of the model
+     */
+    public OpenAPI getOpenApi() {
+        return ScanResultCache.copy(openApi);
+    }
+}
@@ -0,0 +1,419 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.MapperProvider;
+import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
+import io.smallrye.openapi.runtime.util.StringUtil;
+
+/**
+ * Stores the result of annotation scanning on disk so that it can be re-used
+ * the next time the same application is started.
+ *
+ * The cached model is identified by a fingerprint of the (filtered) index
+ * contents, the configuration properties that influence scanning, the
+ * annotation scanners used, and the version of this library. A cache entry with
+ * a different fingerprint is ignored and replaced once the annotations have
+ * been scanned again.
+ *
+ * Scanning extensions and custom schema registries are identified only by
+ * class name, changes to their behavior are not detected.
+ */
+public class ScanResultCache {
+
+    static final String FILE_NAME = "openapi-scan.json";
+
+    // Increment when the format of the file or the contents of the fingerprint change
+    private static final String CACHE_FORMAT = "1";
+
+    private static final String PROP_FINGERPRINT = "fingerprint";
+    private static final String PROP_METHOD_REFS = "methodRefs";
+    private static final String PROP_DOCUMENT = "document";
+
+    private final Path file;
+
+    /**
+     * Create a cache stored in the given directory.
+     *
+     * @param directory the cache directory, created when the first entry is stored
+     */
+    public ScanResultCache(Path directory) {
+        this.file = directory.resolve(FILE_NAME);
+    }
+
+    /**
+     * Create the cache configured by {@link OpenApiConfig#scanCacheDirectory()}.
+     *
+     * @param config the configuration
+     * @return the cache, or null if caching is not enabled
+     */
+    public static ScanResultCache fromConfig(OpenApiConfig config) {
+        String directory = config.scanCacheDirectory();
+
+        if (directory == null) {
+            return null;
+        }
+
+        return new ScanResultCache(Paths.get(directory));
+    }
+
+    /**
+     * Compute the fingerprint of the inputs to an annotation scan.
+     *
+     * @param index the index to be scanned
+     * @param config the configuration used for scanning
+     * @param scannerNames names of the annotation scanners to be used, in order
+     * @return hex encoded fingerprint
+     */
+    public static String fingerprint(IndexView index, OpenApiConfig config, List<String> scannerNames) {
+        MessageDigest digest = newDigest();
+
+        update(digest, "format", CACHE_FORMAT);
+        update(digest, "version", String.valueOf(ScanResultCache.class.getPackage().getImplementationVersion()));
+        update(digest, "scanners", String.valueOf(scannerNames));
+
+        updateConfig(digest, config);
+
+        List<ClassInfo> classes = new ArrayList<>(index.getKnownClasses());
+        classes.sort(Comparator.comparing(c -> c.name().toString()));
+
+        for (ClassInfo clazz : classes) {
+            updateClass(digest, clazz);
+        }
+
+        return StringUtil.toHex(digest.digest());
+    }
+
+    /**
+     * Load the model stored for the given fingerprint.
+     *
+     * @param fingerprint fingerprint of the current scan inputs
+     * @return the stored model, or null if no model is stored for the fingerprint
+     */
+    public OpenAPI load(String fingerprint) {
+        JsonNode root;
+
+        try (InputStream stream = Files.newInputStream(file)) {
+            root = mapper().readTree(stream);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            ScannerLogging.logger.scanCacheReadFailed(file, e);
+            return null;
+        }
+
+        if (root == null || !fingerprint.equals(root.path(PROP_FINGERPRINT).asText(null))) {
+            return null;
+        }
+
+        OpenAPI openApi = new OpenAPIImpl();
+        DefinitionReader.processDefinition(openApi, root.path(PROP_DOCUMENT));
+        restoreMethodRefs(openApi, root.path(PROP_METHOD_REFS));
+
+        ScannerLogging.logger.scanCacheHit(file);
+        return openApi;
+    }
+
+    /**
+     * Store the model for the given fingerprint, replacing any previously
+     * stored model. The file is replaced atomically where supported by the
+     * file system so that a concurrently starting application never reads
+     * a partially written cache.
+     *
+     * @param fingerprint fingerprint of the scan inputs that produced the model
+     * @param openApi the result of scanning
+     */
+    public void store(String fingerprint, OpenAPI openApi) {
+        Path temp = null;
+
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+
+            try (OutputStream stream = Files.newOutputStream(temp);
+                    JsonGenerator generator = mapper().getFactory().createGenerator(stream)) {
+                generator.writeStartObject();
+                generator.writeStringField(PROP_FINGERPRINT, fingerprint);
+                writeMethodRefs(generator, openApi);
+                generator.writeFieldName(PROP_DOCUMENT);
+                DefinitionWriter.writeOpenAPI(generator, openApi);
+                generator.writeEndObject();
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            ScannerLogging.logger.scanCacheWriteFailed(file, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    // Ignored, the temporary file is left behind
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a deep copy of a model, including the method references of its
+     * operations.
+     *
+     * @param openApi the model to copy
+     * @return the copy
+     */
+    static OpenAPI copy(OpenAPI openApi) {
+        JsonNode root;
+
+        try (TokenBuffer buffer = new TokenBuffer(mapper(), false)) {
+            buffer.writeStartObject();
+            writeMethodRefs(buffer, openApi);
+            buffer.writeFieldName(PROP_DOCUMENT);
+            DefinitionWriter.writeOpenAPI(buffer, openApi);
+            buffer.writeEndObject();
+            root = mapper().readTree(buffer.asParser());
+        } catch (IOException e) {
+            // Nothing is read from or written to an external resource
+            throw new UncheckedIOException(e);
+        }
+
+        OpenAPI copy = new OpenAPIImpl();
+        DefinitionReader.processDefinition(copy, root.path(PROP_DOCUMENT));
+        restoreMethodRefs(copy, root.path(PROP_METHOD_REFS));
+        return copy;
+    }
+
+    /**
+     * The method references of operations are not part of the OpenAPI document,
+     * store them alongside it.
+     */
+    static void writeMethodRefs(JsonGenerator generator, OpenAPI openApi) throws IOException {
+        generator.writeObjectFieldStart(PROP_METHOD_REFS);
+
+        if (openApi.getPaths() != null && openApi.getPaths().getPathItems() != null) {
+            for (Map.Entry<String, PathItem> path : openApi.getPaths().getPathItems().entrySet()) {
+                Map<PathItem.HttpMethod, Operation> operations = path.getValue().getOperations();
+                boolean started = false;
+
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation : operations.entrySet()) {
+                    String methodRef = OperationImpl.getMethodRef(operation.getValue());
+
+                    if (methodRef != null) {
+                        if (!started) {
+                            generator.writeObjectFieldStart(path.getKey());
+                            started = true;
+                        }
+                        generator.writeStringField(operation.getKey().name(), methodRef);
+                    }
+                }
+
+                if (started) {
+                    generator.writeEndObject();
+                }
+            }
+        }
+
+        generator.writeEndObject();
+    }
+
+    static void restoreMethodRefs(OpenAPI openApi, JsonNode methodRefs) {
+        if (openApi.getPaths() == null) {
+            return;
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> paths = methodRefs.fields();
+
+        while (paths.hasNext()) {
+            Map.Entry<String, JsonNode> path = paths.next();
+            PathItem pathItem = openApi.getPaths().getPathItem(path.getKey());
+
+            if (pathItem == null) {
+                continue;
+            }
+
+            Map<PathItem.HttpMethod, Operation> operations = pathItem.getOperations();
+
+            path.getValue().fields().forEachRemaining(entry -> {
+                Operation operation = operations.get(PathItem.HttpMethod.valueOf(entry.getKey()));
+
+                if (operation instanceof OperationImpl) {
+                    ((OperationImpl) operation).setMethodRef(entry.getValue().asText());
+                }
+            });
+        }
+    }
+
+    static String configDigest(OpenApiConfig config) {
+        MessageDigest digest = newDigest();
+        updateConfig(digest, config);
+        return StringUtil.toHex(digest.digest());
+    }
+
+    static void updateConfig(MessageDigest digest, OpenApiConfig config) {
+        update(digest, "scanPackages", pattern(config.scanPackages()));
+        update(digest, "scanClasses", pattern(config.scanClasses()));
+        update(digest, "scanExcludePackages", pattern(config.scanExcludePackages()));
+        update(digest, "scanExcludeClasses", pattern(config.scanExcludeClasses()));
+        update(digest, "scanProfiles", sorted(config.getScanProfiles()));
+        update(digest, "scanExcludeProfiles", sorted(config.getScanExcludeProfiles()));
+        update(digest, "arrayReferencesEnable", config.arrayReferencesEnable());
+        update(digest, "customSchemaRegistryClass", config.customSchemaRegistryClass());
+        update(digest, "applicationPathDisable", config.applicationPathDisable());
+        update(digest, "privatePropertiesEnable", config.privatePropertiesEnable());
+        update(digest, "propertyNamingStrategy", config.propertyNamingStrategy());
+        update(digest, "sortedPropertiesEnable", config.sortedPropertiesEnable());
+        update(digest, "schemas", config.getSchemas() != null ? new TreeMap<>(config.getSchemas()) : null);
+        update(digest, "operationIdStrategy", config.getOperationIdStrategy());
+        update(digest, "defaultProduces", array(config.getDefaultProduces()));
+        update(digest, "defaultConsumes", array(config.getDefaultConsumes()));
+        update(digest, "allowNakedPathParameter", config.allowNakedPathParameter().orElse(null));
+    }
+
+    static void updateClass(MessageDigest digest, ClassInfo clazz) {
+        update(digest, "class", clazz.name());
+        update(digest, "flags", clazz.flags());
+        update(digest, "super", clazz.superClassType());
+        update(digest, "interfaces", clazz.interfaceTypes());
+        update(digest, "typeParameters", clazz.typeParameters());
+
+        List<String> members = new ArrayList<>();
+
+        for (FieldInfo field : clazz.fields()) {
+            members.add("field " + field.flags() + ' ' + field.type() + ' ' + field.name());
+        }
+
+        for (MethodInfo method : clazz.methods()) {
+            StringBuilder member = new StringBuilder("method ");
+            member.append(method.flags()).append(' ').append(method);
+
+            for (int i = 0; i < method.parameters().size(); i++) {
+                member.append(' ').append(method.parameterName(i));
+            }
+
+            members.add(member.toString());
+        }
+
+        for (List<AnnotationInstance> annotations : clazz.annotations().values()) {
+            for (AnnotationInstance annotation : annotations) {
+                members.add(describe(annotation));
+            }
+        }
+
+        // Members and annotations are not reported in a stable order
+        Collections.sort(members);
+
+        for (String member : members) {
+            update(digest, "member", member);
+        }
+    }
+
+    static String describe(AnnotationInstance annotation) {
+        StringBuilder result = new StringBuilder("annotation @").append(annotation.name());
+        AnnotationTarget target = annotation.target();
+
+        if (target != null) {
+            result.append(" on ").append(target.kind()).append(' ');
+
+            if (target.kind() == AnnotationTarget.Kind.METHOD_PARAMETER) {
+                MethodParameterInfo parameter = target.asMethodParameter();
+                result.append(parameter.method()).append(" #").append(parameter.position());
+            } else {
+                result.append(target);
+            }
+        }
+
+        List<String> values = new ArrayList<>();
+
+        for (AnnotationValue value : annotation.values()) {
+            values.add(String.valueOf(value));
+        }
+
+        Collections.sort(values);
+        return result.append(' ').append(values).toString();
+    }
+
+    static void update(MessageDigest digest, String name, Object value) {
+        digest.update(name.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '=');
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    static String pattern(Pattern pattern) {
+        return pattern != null ? pattern.pattern() : null;
+    }
+
+    static List<String> sorted(Collection<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> result = new ArrayList<>(values);
+        Collections.sort(result);
+        return result;
+    }
+
+    static List<String> array(Optional<String[]> values) {
+        return values.map(Arrays::asList).orElse(null);
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ObjectMapper mapper() {
+        return MapperProvider.getInstance().mapper(Format.JSON);
+    }
+}
@@ -2,8 +2,11 @@ package io.smallrye.openapi.runtime.scanner;
 
 import static io.smallrye.openapi.runtime.util.TypeUtil.getSchemaAnnotation;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -60,6 +63,45 @@ public class SchemaRegistry {
         return registry;
     }
 
+    /**
+     * Create a new instance of a {@link SchemaRegistry} on this thread that
+     * starts out with all of the registrations of the parent registry. Schemas
+     * registered with the new instance are added to the model of the given
+     * context and may later be merged back in to the parent using
+     * {@link #merge(SchemaRegistry)}.
+     *
+     * @param context
+     *        scanner context of the new registry
+     * @param parent
+     *        registry providing the initial registrations
+     * @return the registry
+     */
+    public static SchemaRegistry newInstance(AnnotationScannerContext context, SchemaRegistry parent) {
+        SchemaRegistry registry = new SchemaRegistry(context, parent);
+        current.set(registry);
+        return registry;
+    }
+
+    /**
+     * Create a new instance of a {@link SchemaRegistry} on this thread that
+     * starts out with the registrations of the parent registry, except those of
+     * types referring to any of the given classes, directly or as a type
+     * argument. The names of the excluded schemas may be used again.
+     *
+     * @param context
+     *        scanner context of the new registry
+     * @param parent
+     *        registry providing the initial registrations
+     * @param excluded
+     *        names of the classes whose registrations are not inherited
+     * @return the registry
+     */
+    static SchemaRegistry newInstance(AnnotationScannerContext context, SchemaRegistry parent, Set<DotName> excluded) {
+        SchemaRegistry registry = new SchemaRegistry(context, parent, excluded);
+        current.set(registry);
+        return registry;
+    }
+
     /**
      * Retrieve the {@link SchemaRegistry} previously created by
      * {@link SchemaRegistry#newInstance(AnnotationScannerContext)
@@ -171,8 +213,10 @@ public class SchemaRegistry {
         }
 
         TypeKey key = new TypeKey(resolvedType);
+        boolean hit = registry.hasRef(key);
+        registry.context.getListener().registryLookup(resolvedType, hit);
 
-        if (registry.hasRef(key)) {
+        if (hit) {
             schema = registry.lookupRef(key);
         } else if (!registry.isTypeRegistrationSupported(resolvedType, schema)
                 || registry.index.getClassByName(resolvedType.name()) == null) {
@@ -207,7 +251,9 @@ public class SchemaRegistry {
             resolvedType = type;
         }
 
-        return registry.hasSchema(resolvedType);
+        boolean hit = registry.hasSchema(resolvedType);
+        registry.context.getListener().registryLookup(resolvedType, hit);
+        return hit;
     }
 
     /**
@@ -241,18 +287,7 @@ public class SchemaRegistry {
         this.oai = context.getOpenApi();
         this.index = context.getAugmentedIndex();
 
-        /*
-         * If anything has been added in the component scan, add the names here
-         * to prevent a collision.
-         */
-        Components components = oai.getComponents();
-
-        if (components != null) {
-            Map<String, Schema> schemas = components.getSchemas();
-            if (schemas != null) {
-                this.names.addAll(schemas.keySet());
-            }
-        }
+        reserveComponentNames();
 
         config.getSchemas().entrySet().forEach(entry -> {
             String className = entry.getKey();
@@ -272,6 +307,129 @@ public class SchemaRegistry {
         });
     }
 
+    private SchemaRegistry(AnnotationScannerContext context, SchemaRegistry parent) {
+        this.context = context;
+        this.config = context.getConfig();
+        this.oai = context.getOpenApi();
+        this.index = context.getAugmentedIndex();
+
+        this.registry.putAll(parent.registry);
+        this.names.addAll(parent.names);
+
+        reserveComponentNames();
+    }
+
+    private SchemaRegistry(AnnotationScannerContext context, SchemaRegistry parent, Set<DotName> excluded) {
+        this.context = context;
+        this.config = context.getConfig();
+        this.oai = context.getOpenApi();
+        this.index = context.getAugmentedIndex();
+
+        Set<String> excludedNames = parent.getSchemaNames(excluded);
+
+        parent.registry.forEach((key, info) -> {
+            if (!excludedNames.contains(info.name)) {
+                this.registry.put(key, info);
+            }
+        });
+        parent.names.stream().filter(name -> !excludedNames.contains(name)).forEach(this.names::add);
+
+        reserveComponentNames();
+    }
+
+    private void reserveComponentNames() {
+        /*
+         * If anything has been added in the component scan, add the names here
+         * to prevent a collision.
+         */
+        Components components = oai.getComponents();
+
+        if (components != null) {
+            Map<String, Schema> schemas = components.getSchemas();
+            if (schemas != null) {
+                this.names.addAll(schemas.keySet());
+            }
+        }
+    }
+
+    /**
+     * Merge the registrations of a registry created by
+     * {@link #newInstance(AnnotationScannerContext, SchemaRegistry)} with this
+     * registry as its parent. Registrations are processed in the order they
+     * were made in the other registry and names are derived as though the types
+     * had been registered with this registry originally. Types already known
+     * to this registry keep their existing name.
+     *
+     * @param other
+     *        registry derived from this registry
+     * @return map of schema names used by the other registry to the names used
+     *         by this registry, for the names that differ
+     */
+    public Map<String, String> merge(SchemaRegistry other) {
+        Map<String, String> renames = new LinkedHashMap<>();
+
+        for (Map.Entry<TypeKey, GeneratedSchemaInfo> entry : other.registry.entrySet()) {
+            TypeKey key = entry.getKey();
+            GeneratedSchemaInfo info = entry.getValue();
+            GeneratedSchemaInfo existing = registry.get(key);
+
+            if (existing == info) {
+                // Inherited from this registry and not modified
+                continue;
+            }
+
+            if (existing == null) {
+                if (info.schema != null) {
+                    register(key, info.schema, null);
+                } else {
+                    registerReference(key);
+                }
+                existing = registry.get(key);
+            } else if (existing.schema == null && info.schema != null) {
+                existing = new GeneratedSchemaInfo(existing.name, info.schema, existing.schemaRef);
+                registry.put(key, existing);
+                ModelUtil.components(oai).addSchema(existing.name, info.schema);
+            }
+
+            if (!existing.name.equals(info.name)) {
+                renames.put(info.name, existing.name);
+            }
+        }
+
+        return renames;
+    }
+
+    /**
+     * @return the names of all schemas generated by this registry
+     */
+    Set<String> getSchemaNames() {
+        Set<String> schemaNames = new LinkedHashSet<>();
+        registry.values().forEach(info -> schemaNames.add(info.name));
+        return schemaNames;
+    }
+
+    /**
+     * @param classNames
+     *        names of classes
+     * @return the names of the schemas generated for types referring to any of
+     *         the classes, directly or as a type argument
+     */
+    Set<String> getSchemaNames(Set<DotName> classNames) {
+        Set<String> schemaNames = new LinkedHashSet<>();
+        List<DotName> typeNames = new ArrayList<>();
+
+        registry.forEach((key, info) -> {
+            typeNames.clear();
+            ScanDependencies.addTypeNames(key.type, typeNames);
+
+            if (!Collections.disjoint(typeNames, classNames)) {
+                schemaNames.add(info.name);
+            }
+        });
+
+        return schemaNames;
+    }
+
     /**
      * Register the provided {@link Schema} for the provided {@link Type}. If an
      * existing schema has already been registered for the type, it will be
@@ -10,6 +10,8 @@ import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
 
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
+
 /**
  * Deque for exploring object graph.
  *
@@ -19,9 +21,15 @@ public class DataObjectDeque {
 
     private final Deque<PathEntry> path = new ArrayDeque<>();
     private final AugmentedIndexView index;
+    private final ScanListener listener;
 
     public DataObjectDeque(AugmentedIndexView index) {
+        this(index, ScanListener.NONE);
+    }
+
+    public DataObjectDeque(AugmentedIndexView index, ScanListener listener) {
         this.index = index;
+        this.listener = listener;
     }
 
     /**
@@ -88,6 +96,7 @@ public class DataObjectDeque {
         ClassInfo klazzInfo = entry.getClazz();
         if (parentPathEntry.hasParent(entry)) {
             // Cycle detected, don't push path.
+            listener.cycleDetected(type);
             DataObjectLogging.logger.possibleCycle(klazzInfo);
             DataObjectLogging.logger.path(entry.toStringWithGraph());
             if (schema.getDescription() == null) {
@@ -134,10 +143,23 @@ public class DataObjectDeque {
      * An entry on the object stack.
      */
     public static final class PathEntry {
+        /*
+         * Every entry indexes itself and its enclosing entries in a persistent
+         * hash trie keyed by the hash code of their class, sharing all but the
+         * modified branch with the trie of the enclosing entry. Each slot holds
+         * the nearest entry of a given hash, which links to the next enclosing
+         * entry of the same hash. Cycles are found without walking the path.
+         */
+        private static final int TRIE_BITS = 2;
+        private static final int TRIE_MASK = (1 << TRIE_BITS) - 1;
+
         private final PathEntry enclosing;
         private final AnnotationTarget annotationTarget;
         private final Type clazzType;
         private final ClassInfo clazz;
+        private final int hash;
+        private final PathEntry enclosingWithHash;
+        private final Object[] trie;
 
         // May be changed
         private Schema schema;
@@ -153,19 +175,64 @@ public class DataObjectDeque {
             this.clazz = clazz;
             this.clazzType = clazzType;
             this.schema = schema;
+            this.hash = hashCode();
+            this.enclosingWithHash = enclosing != null ? find(enclosing.trie, hash) : null;
+            this.trie = insert(enclosing != null ? enclosing.trie : null, 0, this);
         }
 
+        /**
+         * Determine whether the candidate is equal to this entry or to one of
+         * its enclosing entries.
+         *
+         * @param candidate the entry to look for
+         * @return true if the candidate is found on the path of this entry
+         */
         public boolean hasParent(PathEntry candidate) {
-            PathEntry test = this;
-            while (test != null) {
+            for (PathEntry test = find(trie, candidate.hash); test != null; test = test.enclosingWithHash) {
                 if (candidate.equals(test)) {
                     return true;
                 }
-                test = test.enclosing;
             }
             return false;
         }
 
+        private static PathEntry find(Object[] node, int hash) {
+            for (int shift = 0; node != null; shift += TRIE_BITS) {
+                Object slot = node[(hash >>> shift) & TRIE_MASK];
+
+                if (slot instanceof PathEntry) {
+                    PathEntry entry = (PathEntry) slot;
+                    return entry.hash == hash ? entry : null;
+                }
+
+                node = (Object[]) slot;
+            }
+            return null;
+        }
+
+        private static Object[] insert(Object[] node, int shift, PathEntry entry) {
+            Object[] copy = node != null ? node.clone() : new Object[1 << TRIE_BITS];
+            int index = (entry.hash >>> shift) & TRIE_MASK;
+            Object slot = copy[index];
+
+            if (slot == null) {
+                copy[index] = entry;
+            } else if (slot instanceof PathEntry) {
+                PathEntry existing = (PathEntry) slot;
+
+                if (existing.hash == entry.hash) {
+                    // The existing entry remains reachable as `entry.enclosingWithHash`
+                    copy[index] = entry;
+                } else {
+                    copy[index] = insert(insert(null, shift + TRIE_BITS, existing), shift + TRIE_BITS, entry);
+                }
+            } else {
+                copy[index] = insert((Object[]) slot, shift + TRIE_BITS, entry);
+            }
+
+            return copy;
+        }
+
         public AnnotationTarget getAnnotationTarget() {
             return annotationTarget;
         }
@@ -0,0 +1,95 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.api.constants.JacksonConstants;
+import io.smallrye.openapi.runtime.util.TypeUtil;
+
+/**
+ * Cache of the properties resolved by {@link TypeResolver#getAllFields} for
+ * a single scan. Entries are keyed by the fully resolved type (including any
+ * type arguments) and by the <code>@JsonIgnoreProperties</code> names of the
+ * referencing member - the only part of the reference that influences the
+ * result. The cached maps are unmodifiable.
+ *
+ * Instances are not thread-safe and are intended to be held by a single
+ * {@link io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext AnnotationScannerContext}.
+ */
+public class PropertiesCache {
+
+    private final Map<Key, Map<String, TypeResolver>> properties = new HashMap<>();
+
+    Map<String, TypeResolver> get(Key key) {
+        return properties.get(key);
+    }
+
+    Map<String, TypeResolver> put(Key key, Map<String, TypeResolver> value) {
+        Map<String, TypeResolver> unmodifiable = Collections.unmodifiableMap(value);
+        properties.put(key, unmodifiable);
+        return unmodifiable;
+    }
+
+    static Key key(Type leaf, ClassInfo leafKlazz, AnnotationTarget reference) {
+        return new Key(leaf, leafKlazz.name(), ignoredProperties(reference));
+    }
+
+    private static List<String> ignoredProperties(AnnotationTarget reference) {
+        if (reference == null) {
+            return null;
+        }
+
+        AnnotationInstance ignoreProperties = TypeUtil.getAnnotation(reference, JacksonConstants.JSON_IGNORE_PROPERTIES);
+
+        if (ignoreProperties == null) {
+            return null;
+        }
+
+        AnnotationValue value = ignoreProperties.value();
+        return value != null ? Arrays.asList(value.asStringArray()) : null;
+    }
+
+    static final class Key {
+        private final Type leaf;
+        private final DotName leafKlazz;
+        private final List<String> ignoredProperties;
+        private final int hashCode;
+
+        Key(Type leaf, DotName leafKlazz, List<String> ignoredProperties) {
+            this.leaf = leaf;
+            this.leafKlazz = leafKlazz;
+            this.ignoredProperties = ignoredProperties;
+            this.hashCode = Objects.hash(leaf, leafKlazz, ignoredProperties);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return leaf.equals(other.leaf)
+                    && leafKlazz.equals(other.leafKlazz)
+                    && Objects.equals(ignoredProperties, other.ignoredProperties);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jboss.jandex.DotName;
+
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
+
+/**
+ * Cache of the enumeration values derived by
+ * {@link io.smallrye.openapi.runtime.io.schema.SchemaFactory#enumToSchema SchemaFactory#enumToSchema}
+ * for a single scan. Entries are keyed by the name of the enum class - the
+ * only part of the type that influences the result. Each lookup returns a
+ * new list of the cached values, which the caller is free to modify.
+ *
+ * Instances are not thread-safe and are intended to be held by a single
+ * {@link io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext AnnotationScannerContext}.
+ */
+public class SchemaCache {
+
+    private final Map<DotName, List<Object>> enumerations = new HashMap<>();
+    private final ScanListener listener;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param listener listener notified of each lookup
+     */
+    public SchemaCache(ScanListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Retrieve a copy of the enumeration values of an enum, computing and
+     * caching the values if not yet known.
+     *
+     * @param enumName name of the enum class
+     * @param factory computes the values of the enum
+     * @return a copy of the values
+     */
+    public List<Object> enumeration(DotName enumName, Supplier<List<Object>> factory) {
+        List<Object> values = enumerations.get(enumName);
+        boolean hit = values != null;
+
+        if (hit) {
+            hits++;
+        } else {
+            misses++;
+            values = factory.get();
+            enumerations.put(enumName, values);
+        }
+
+        listener.enumLookup(enumName, hit);
+
+        return new ArrayList<>(values);
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups that computed the values
+     */
+    public long getMisses() {
+        return misses;
+    }
+}
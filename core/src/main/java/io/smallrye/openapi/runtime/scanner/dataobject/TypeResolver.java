@@ -63,6 +63,7 @@ public class TypeResolver {
     private final List<AnnotationTarget> constraintTargets = new ArrayList<>();
     private String propertyNamePrefix;
     private String propertyNameSuffix;
+    private DotName className;
 
     /**
      * A comparator to order the field, write method, and read method in the {@link #targets}
@@ -157,6 +158,35 @@ public class TypeResolver {
         }
     }
 
+    private TypeResolver(TypeResolver source) {
+        this.nameTranslator = source.nameTranslator;
+        this.propertyName = source.propertyName;
+        this.field = source.field;
+        this.resolutionStack = source.resolutionStack;
+        this.readMethod = source.readMethod;
+        this.writeMethod = source.writeMethod;
+        this.ignored = source.ignored;
+        this.exposed = source.exposed;
+        this.readOnly = source.readOnly;
+        this.writeOnly = source.writeOnly;
+        this.leaf = source.leaf;
+        this.constraintTargets.addAll(source.constraintTargets);
+        this.targets = new PriorityQueue<>(source.targets);
+        this.propertyNamePrefix = source.propertyNamePrefix;
+        this.propertyNameSuffix = source.propertyNameSuffix;
+        this.className = source.className;
+    }
+
+    /**
+     * Get the name of the class this resolver was created for by
+     * {@link #forClass(AnnotationScannerContext, ClassInfo, Type)}.
+     *
+     * @return the class name, or null for resolvers of a property
+     */
+    public DotName getClassName() {
+        return className;
+    }
+
     /**
      * Get the declaring class of the annotation target.
      *
@@ -448,11 +478,37 @@ public class TypeResolver {
             }
         }
 
-        return new TypeResolver(getPropertyNameTranslator(context, clazz), null, null, stack);
+        TypeResolver resolver = new TypeResolver(getPropertyNameTranslator(context, clazz), null, null, stack);
+        resolver.className = clazz.name();
+        return resolver;
     }
 
+    /**
+     * Retrieve the properties of the leaf type, including those inherited from
+     * super classes and interfaces. Results are cached by the context for the
+     * duration of the scan, the returned map is unmodifiable.
+     *
+     * @param context current scanner context
+     * @param leaf the (possibly parameterized) type to resolve
+     * @param leafKlazz the class of the leaf type
+     * @param reference an annotated member (field or method) that referenced the leaf type, may be null
+     * @return map of property names to their resolvers, in schema order
+     */
     public static Map<String, TypeResolver> getAllFields(AnnotationScannerContext context, Type leaf,
             ClassInfo leafKlazz, AnnotationTarget reference) {
+        final PropertiesCache cache = context.getPropertiesCache();
+        final PropertiesCache.Key key = PropertiesCache.key(leaf, leafKlazz, reference);
+        Map<String, TypeResolver> properties = cache.get(key);
+
+        if (properties == null) {
+            properties = cache.put(key, findAllFields(context, leaf, leafKlazz, reference));
+        }
+
+        return properties;
+    }
+
+    private static Map<String, TypeResolver> findAllFields(AnnotationScannerContext context, Type leaf,
+            ClassInfo leafKlazz, AnnotationTarget reference) {
         final AugmentedIndexView index = context.getAugmentedIndex();
         Map<ClassInfo, Type> chain = JandexUtil.inheritanceChain(index, leafKlazz, leaf);
         Map<String, TypeResolver> properties = new LinkedHashMap<>();
@@ -702,8 +758,10 @@ public class TypeResolver {
         String unwrapPrefix = JandexUtil.value(jsonUnwrapped, "prefix");
         String unwrapSuffix = JandexUtil.value(jsonUnwrapped, "suffix");
 
+        // Cached resolvers are shared, apply the prefix/suffix to copies
         return unwrappedProperties.entrySet()
                 .stream()
+                .map(p -> new SimpleEntry<>(p.getKey(), new TypeResolver(p.getValue())))
                 .map(p -> applyPrefixSuffix(p, unwrapPrefix, unwrapSuffix))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
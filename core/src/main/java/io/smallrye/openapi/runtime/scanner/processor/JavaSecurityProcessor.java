@@ -49,6 +49,19 @@ public class JavaSecurityProcessor {
         current.remove();
     }
 
+    /**
+     * Determine whether roles discovered while scanning would be added as scopes
+     * to the flows of a security scheme in the given model. When true, resources
+     * of the application share (and modify) those flows.
+     *
+     * @param openApi the current OpenAPI result
+     * @return true if roles will be added to the scopes of one or more OAuth flows
+     */
+    public static boolean hasScopeCandidates(OpenAPI openApi) {
+        List<OAuthFlow> flows = new JavaSecurityProcessor(openApi).currentFlows;
+        return flows != null && !flows.isEmpty();
+    }
+
     private String currentSecurityScheme;
     private List<OAuthFlow> currentFlows;
     private String[] resourceRolesAllowed;
@@ -26,6 +26,10 @@ public abstract class AbstractAnnotationScanner implements AnnotationScanner {
         this.contextRoot = path;
     }
 
+    protected String getContextRoot() {
+        return this.contextRoot;
+    }
+
     protected String makePath(String operationPath) {
         return createPathFromSegments(this.contextRoot, this.currentAppPath, operationPath);
     }
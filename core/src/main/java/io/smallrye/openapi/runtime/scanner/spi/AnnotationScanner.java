@@ -309,6 +309,10 @@ public interface AnnotationScanner {
 
         operation.setMethodRef(JandexUtil.createUniqueMethodReference(resourceClass, method));
 
+        if (context.isRecordingDependencies()) {
+            context.getDependencies().recordOperation(context, resourceClass, method, operation.getMethodRef());
+        }
+
         // @Deprecrated may be on either the method or the class
         TypeUtil.mapDeprecated(method, operation::getDeprecated, operation::setDeprecated);
         TypeUtil.mapDeprecated(resourceClass, operation::getDeprecated, operation::setDeprecated);
@@ -831,6 +835,8 @@ public interface AnnotationScanner {
      * @param applications the scanner applications
      */
     default void processScannerExtensions(final AnnotationScannerContext context, Collection<ClassInfo> applications) {
+        context.getDependencies().recordApplications(applications);
+
         // this can be a useful extension point to set/override the application path
         for (AnnotationScannerExtension extension : context.getExtensions()) {
             extension.processScannerApplications(this, applications);
@@ -14,9 +14,13 @@ import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.scanner.ScanDependencies;
+import io.smallrye.openapi.runtime.scanner.ScanReport;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.IgnoreResolver;
+import io.smallrye.openapi.runtime.scanner.dataobject.PropertiesCache;
 import io.smallrye.openapi.runtime.scanner.dataobject.PropertyNamingStrategyFactory;
+import io.smallrye.openapi.runtime.scanner.dataobject.SchemaCache;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 
 /**
@@ -34,6 +38,11 @@ public class AnnotationScannerContext {
     private final ClassLoader classLoader;
     private final OpenAPI openApi;
     private final Deque<Type> scanStack = new ArrayDeque<>();
+    private final PropertiesCache propertiesCache = new PropertiesCache();
+    private final SchemaCache schemaCache;
+    private final ScanDependencies dependencies;
+    private final ScanListener listener;
+    private boolean recordingDependencies;
     private Deque<TypeResolver> resolverStack = new ArrayDeque<>();
 
     public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
@@ -48,6 +57,10 @@ public class AnnotationScannerContext {
         this.config = config;
         this.openApi = openApi;
         this.propertyNameTranslator = PropertyNamingStrategyFactory.getStrategy(config.propertyNamingStrategy(), classLoader);
+        this.dependencies = new ScanDependencies();
+        this.listener = ScanListener.load(classLoader,
+                config.scanReportSize() > 0 ? new ScanReport(config.scanReportSize()) : null);
+        this.schemaCache = new SchemaCache(this.listener);
     }
 
     public AnnotationScannerContext(IndexView index, ClassLoader classLoader,
@@ -55,6 +68,29 @@ public class AnnotationScannerContext {
         this(new FilteredIndexView(index, config), classLoader, Collections.emptyList(), config, new OpenAPIImpl());
     }
 
+    /**
+     * Create a context that shares the index, extensions, and configuration of
+     * the parent context, but has its own model and scan state. Used to scan
+     * a subset of the application independently, e.g. on another thread.
+     *
+     * @param parent the context to derive from
+     * @param openApi the model to be populated using the new context
+     */
+    public AnnotationScannerContext(AnnotationScannerContext parent, OpenAPI openApi) {
+        this.index = parent.index;
+        this.augmentedIndex = parent.augmentedIndex;
+        this.ignoreResolver = new IgnoreResolver(this.augmentedIndex);
+        this.classLoader = parent.classLoader;
+        this.extensions = parent.extensions;
+        this.config = parent.config;
+        this.openApi = openApi;
+        this.propertyNameTranslator = parent.propertyNameTranslator;
+        this.dependencies = parent.dependencies;
+        this.recordingDependencies = parent.recordingDependencies;
+        this.listener = parent.listener;
+        this.schemaCache = new SchemaCache(this.listener);
+    }
+
     public FilteredIndexView getIndex() {
         return index;
     }
@@ -95,6 +131,35 @@ public class AnnotationScannerContext {
         return resolverStack;
     }
 
+    public PropertiesCache getPropertiesCache() {
+        return propertiesCache;
+    }
+
+    public SchemaCache getSchemaCache() {
+        return schemaCache;
+    }
+
+    public ScanDependencies getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * @return true if the classes each operation is derived from are recorded
+     *         in the {@link #getDependencies() dependencies}, i.e. the result
+     *         will be used for an incremental scan
+     */
+    public boolean isRecordingDependencies() {
+        return recordingDependencies;
+    }
+
+    public void setRecordingDependencies(boolean recordingDependencies) {
+        this.recordingDependencies = recordingDependencies;
+    }
+
+    public ScanListener getListener() {
+        return listener;
+    }
+
     public TypeResolver getResourceTypeResolver() {
         return resolverStack.peek();
     }
@@ -0,0 +1,68 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import java.util.List;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+/**
+ * Listener delegating each event to several listeners, in order.
+ */
+class CompositeScanListener implements ScanListener {
+
+    private final ScanListener[] listeners;
+
+    CompositeScanListener(List<ScanListener> listeners) {
+        this.listeners = listeners.toArray(new ScanListener[0]);
+    }
+
+    @Override
+    public void phaseStarted(String phase) {
+        for (ScanListener listener : listeners) {
+            listener.phaseStarted(phase);
+        }
+    }
+
+    @Override
+    public void phaseEnded(String phase, long durationNanos) {
+        for (ScanListener listener : listeners) {
+            listener.phaseEnded(phase, durationNanos);
+        }
+    }
+
+    @Override
+    public void classScanned(String scanner, ClassInfo scannedClass, long durationNanos) {
+        for (ScanListener listener : listeners) {
+            listener.classScanned(scanner, scannedClass, durationNanos);
+        }
+    }
+
+    @Override
+    public void typeVisited(Type type) {
+        for (ScanListener listener : listeners) {
+            listener.typeVisited(type);
+        }
+    }
+
+    @Override
+    public void registryLookup(Type type, boolean hit) {
+        for (ScanListener listener : listeners) {
+            listener.registryLookup(type, hit);
+        }
+    }
+
+    @Override
+    public void enumLookup(DotName enumName, boolean hit) {
+        for (ScanListener listener : listeners) {
+            listener.enumLookup(enumName, hit);
+        }
+    }
+
+    @Override
+    public void cycleDetected(Type type) {
+        for (ScanListener listener : listeners) {
+            listener.cycleDetected(type);
+        }
+    }
+}
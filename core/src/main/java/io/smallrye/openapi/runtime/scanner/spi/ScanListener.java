@@ -0,0 +1,135 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+/**
+ * Receives events describing the progress of an annotation scan, e.g. to find
+ * the resource classes or data objects that make a scan slow.
+ *
+ * Listeners are discovered using {@link ServiceLoader} with the class loader
+ * of the scan. When resource classes are scanned in parallel, a listener is
+ * called concurrently from several threads and must be thread-safe. All methods
+ * are called on the scanning thread, so implementations should return quickly.
+ *
+ * @see io.smallrye.openapi.api.OpenApiConfig#scanReportSize()
+ */
+public interface ScanListener {
+
+    /**
+     * Phase spanning the entire scan of a deployment.
+     */
+    String SCAN = "scan";
+
+    /**
+     * Phase of the scan of the MicroProfile OpenAPI annotations (e.g. <code>@OpenAPIDefinition</code>).
+     */
+    String MICROPROFILE_OPENAPI = "MicroProfile OpenAPI";
+
+    /**
+     * Listener ignoring all events.
+     */
+    ScanListener NONE = new ScanListener() {
+    };
+
+    /**
+     * Called when a phase of the scan starts. Besides {@link #SCAN} and
+     * {@link #MICROPROFILE_OPENAPI}, each {@link AnnotationScanner} is a phase
+     * named after the scanner.
+     *
+     * @param phase name of the phase
+     */
+    default void phaseStarted(String phase) {
+    }
+
+    /**
+     * Called when a phase of the scan ends.
+     *
+     * @param phase name of the phase
+     * @param durationNanos the time spent in the phase, in nanoseconds
+     */
+    default void phaseEnded(String phase, long durationNanos) {
+    }
+
+    /**
+     * Called when an annotation scanner has scanned a class, e.g. a resource
+     * class or controller, including the data objects it uses.
+     *
+     * @param scanner name of the annotation scanner
+     * @param scannedClass the class scanned
+     * @param durationNanos the time spent scanning the class, in nanoseconds
+     */
+    default void classScanned(String scanner, ClassInfo scannedClass, long durationNanos) {
+    }
+
+    /**
+     * Called when the data object scanner visits a type while building a schema.
+     *
+     * @param type the type visited
+     */
+    default void typeVisited(Type type) {
+    }
+
+    /**
+     * Called when the schema registry is searched for the schema of a type.
+     *
+     * @param type the type looked up
+     * @param hit whether the registry contained the type
+     */
+    default void registryLookup(Type type, boolean hit) {
+    }
+
+    /**
+     * Called when the values of an enum are looked up in the scan's cache of
+     * enumerations.
+     *
+     * @param enumName name of the enum class
+     * @param hit whether the cache contained the values
+     */
+    default void enumLookup(DotName enumName, boolean hit) {
+    }
+
+    /**
+     * Called when the data object scanner finds a type that refers to itself,
+     * directly or through other types.
+     *
+     * @param type the type closing the cycle
+     */
+    default void cycleDetected(Type type) {
+    }
+
+    /**
+     * Create a listener delegating to the listeners discovered using the class
+     * loader and the given additional listeners.
+     *
+     * @param classLoader the class loader of the scan
+     * @param additional listeners to call in addition to those discovered
+     * @return a listener, {@link #NONE} if no listeners are available
+     */
+    static ScanListener load(ClassLoader classLoader, ScanListener... additional) {
+        List<ScanListener> listeners = new ArrayList<>();
+
+        for (ScanListener listener : ServiceLoader.load(ScanListener.class, classLoader)) {
+            listeners.add(listener);
+        }
+        for (ScanListener listener : additional) {
+            if (listener != null) {
+                listeners.add(listener);
+            }
+        }
+
+        switch (listeners.size()) {
+            case 0:
+                return NONE;
+            case 1:
+                return listeners.get(0);
+            default:
+                return new CompositeScanListener(listeners);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+
+/**
+ * Tables of the annotations of classes, fields, methods, and method parameters,
+ * built when the annotations of a target are first looked up during a scan. The
+ * annotation helpers of {@link JandexUtil} and {@link TypeUtil} use the tables
+ * of the current thread's instance, if any, instead of searching the annotations
+ * of the target on every call.
+ *
+ * Classes are keyed by identity. Jandex creates a new {@link MethodInfo} or
+ * {@link FieldInfo} each time the members of a class are listed, so members are
+ * keyed by equality. Instances are not thread-safe, each scanning thread holds its
+ * own.
+ */
+public class AnnotationLookup {
+
+    // Initial value is null
+    private static final ThreadLocal<AnnotationLookup> current = new ThreadLocal<>();
+
+    private final Map<ClassInfo, Annotations> classes = new IdentityHashMap<>();
+    private final Map<FieldInfo, Annotations> fields = new HashMap<>();
+    private final Map<MethodInfo, MethodAnnotations> methods = new HashMap<>();
+
+    /**
+     * Create a new instance of an {@link AnnotationLookup} on this thread,
+     * replacing any previous instance.
+     *
+     * @return the lookup
+     */
+    public static AnnotationLookup newInstance() {
+        AnnotationLookup lookup = new AnnotationLookup();
+        current.set(lookup);
+        return lookup;
+    }
+
+    /**
+     * Retrieve the {@link AnnotationLookup} of the current thread, or
+     * <code>null</code> if none has been created.
+     *
+     * @return an {@link AnnotationLookup} instance or null
+     */
+    public static AnnotationLookup currentInstance() {
+        return current.get();
+    }
+
+    /**
+     * Make the given lookup, e.g. one replaced by {@link #newInstance()}, the
+     * current instance of this thread again.
+     *
+     * @param lookup the lookup to restore, null to remove the current instance
+     */
+    public static void restore(AnnotationLookup lookup) {
+        if (lookup != null) {
+            current.set(lookup);
+        } else {
+            current.remove();
+        }
+    }
+
+    /**
+     * Retrieve the first annotation of the given name of a target, as found
+     * by {@link TypeUtil#getAnnotations(AnnotationTarget)}.
+     *
+     * @param target a class, field, method, or method parameter
+     * @param name name of the annotation
+     * @return the annotation or null
+     */
+    AnnotationInstance annotation(AnnotationTarget target, DotName name) {
+        switch (target.kind()) {
+            case CLASS:
+                return classes.computeIfAbsent(target.asClass(), c -> new Annotations(c.classAnnotations())).get(name);
+            case FIELD:
+                return fields.computeIfAbsent(target.asField(), f -> new Annotations(f.annotations())).get(name);
+            case METHOD:
+                return method(target.asMethod()).get(name);
+            case METHOD_PARAMETER:
+                MethodParameterInfo parameter = target.asMethodParameter();
+                return parameterAnnotation(parameter.method(), parameter.position(), name);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Retrieve the annotations of a parameter of a method.
+     *
+     * @param method the method
+     * @param position position of the parameter
+     * @return the read-only list of annotations
+     */
+    List<AnnotationInstance> parameterAnnotations(MethodInfo method, int position) {
+        return method(method).parameter(position).list;
+    }
+
+    /**
+     * Retrieve the first annotation of the given name of a parameter of a method.
+     *
+     * @param method the method
+     * @param position position of the parameter
+     * @param name name of the annotation
+     * @return the annotation or null
+     */
+    AnnotationInstance parameterAnnotation(MethodInfo method, int position, DotName name) {
+        return method(method).parameter(position).get(name);
+    }
+
+    private MethodAnnotations method(MethodInfo method) {
+        return methods.computeIfAbsent(method, MethodAnnotations::new);
+    }
+
+    /**
+     * The annotations of a single target, the first annotation of each name
+     * indexed by the name.
+     */
+    static class Annotations {
+        static final Annotations EMPTY = new Annotations(Collections.emptyList());
+
+        final List<AnnotationInstance> list;
+        private final Map<DotName, AnnotationInstance> byName;
+
+        Annotations(Collection<AnnotationInstance> annotations) {
+            this.list = Collections.unmodifiableList(new ArrayList<>(annotations));
+            this.byName = new HashMap<>(annotations.size() * 2);
+
+            for (AnnotationInstance annotation : annotations) {
+                byName.putIfAbsent(annotation.name(), annotation);
+            }
+        }
+
+        AnnotationInstance get(DotName name) {
+            return byName.get(name);
+        }
+    }
+
+    /**
+     * The annotations of a method, including those of its parameters and
+     * types, and the annotations of each parameter.
+     */
+    static final class MethodAnnotations extends Annotations {
+        private final Annotations[] parameters;
+
+        MethodAnnotations(MethodInfo method) {
+            super(method.annotations());
+
+            List<List<AnnotationInstance>> byPosition = new ArrayList<>();
+
+            for (AnnotationInstance annotation : method.annotations()) {
+                AnnotationTarget target = annotation.target();
+
+                if (target != null && target.kind() == Kind.METHOD_PARAMETER) {
+                    int position = target.asMethodParameter().position();
+
+                    while (byPosition.size() <= position) {
+                        byPosition.add(new ArrayList<>());
+                    }
+
+                    byPosition.get(position).add(annotation);
+                }
+            }
+
+            parameters = new Annotations[byPosition.size()];
+
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = new Annotations(byPosition.get(i));
+            }
+        }
+
+        Annotations parameter(int position) {
+            return position < parameters.length ? parameters[position] : EMPTY;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Immutable, array-backed list.
+ *
+ * @param <E> type of the elements
+ */
+public final class FrozenList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final FrozenList<Object> EMPTY = new FrozenList<>(new Object[0]);
+
+    private final Object[] elements;
+
+    private FrozenList(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * @param <E> type of the elements
+     * @return the shared empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> FrozenList<E> empty() {
+        return (FrozenList<E>) EMPTY;
+    }
+
+    /**
+     * Copy the collection, converting its elements.
+     *
+     * @param collection the collection to copy
+     * @param mapper conversion applied to each element
+     * @param <E> type of the elements
+     * @return an immutable copy of the collection
+     */
+    public static <E> FrozenList<E> copyOf(Collection<? extends E> collection, Function<? super E, ? extends E> mapper) {
+        if (collection.isEmpty()) {
+            return empty();
+        }
+
+        Object[] elements = new Object[collection.size()];
+        int i = 0;
+
+        for (E element : collection) {
+            elements[i++] = mapper.apply(element);
+        }
+
+        return new FrozenList<>(elements);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+}
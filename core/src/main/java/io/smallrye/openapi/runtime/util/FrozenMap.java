@@ -0,0 +1,193 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Immutable map that retains the iteration order of the map it was copied
+ * from. Keys and values are held in parallel arrays; small maps are searched
+ * linearly, larger maps use an open-addressing index of the keys' positions.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public final class FrozenMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int LINEAR_SEARCH_LIMIT = 8;
+    private static final FrozenMap<Object, Object> EMPTY = new FrozenMap<>(new Object[0], new Object[0]);
+
+    private final Object[] keys;
+    private final Object[] values;
+    // Positions + 1 of the keys, by hash. Null for small maps.
+    private final int[] index;
+    private Set<Entry<K, V>> entrySet;
+
+    private FrozenMap(Object[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.index = keys.length > LINEAR_SEARCH_LIMIT ? index(keys) : null;
+    }
+
+    private static int[] index(Object[] keys) {
+        int[] index = new int[Integer.highestOneBit(keys.length * 2 - 1) << 1];
+        int mask = index.length - 1;
+
+        for (int i = 0; i < keys.length; i++) {
+            int slot = hash(keys[i]) & mask;
+            while (index[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = i + 1;
+        }
+
+        return index;
+    }
+
+    private static int hash(Object key) {
+        int h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return the shared empty map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> FrozenMap<K, V> empty() {
+        return (FrozenMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Copy the map, converting its keys and values.
+     *
+     * @param map the map to copy
+     * @param keyMapper conversion applied to each key, must not alter the key's identity in the map
+     * @param valueMapper conversion applied to each value
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return an immutable copy of the map
+     */
+    public static <K, V> FrozenMap<K, V> copyOf(Map<? extends K, ? extends V> map,
+            Function<? super K, ? extends K> keyMapper,
+            Function<? super V, ? extends V> valueMapper) {
+
+        if (map.isEmpty()) {
+            return empty();
+        }
+
+        int size = map.size();
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        int i = 0;
+
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            keys[i] = keyMapper.apply(entry.getKey());
+            values[i] = valueMapper.apply(entry.getValue());
+            i++;
+        }
+
+        return new FrozenMap<>(keys, values);
+    }
+
+    private int indexOf(Object key) {
+        if (index == null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (Objects.equals(key, keys[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = index.length - 1;
+        int slot = hash(key) & mask;
+        int position;
+
+        while ((position = index[slot]) != 0) {
+            if (Objects.equals(key, keys[position - 1])) {
+                return position - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int i = indexOf(key);
+        return i >= 0 ? (V) values[i] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept((K) keys[i], (V) values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> entries = entrySet;
+        if (entries == null) {
+            // Benign race, the set holds no state of its own
+            entrySet = entries = new EntrySet();
+        }
+        return entries;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<Entry<K, V>>() {
+                int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < keys.length;
+                }
+
+                @SuppressWarnings("unchecked")
+                @Override
+                public Entry<K, V> next() {
+                    if (next >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<K, V> entry = new SimpleImmutableEntry<>((K) keys[next], (V) values[next]);
+                    next++;
+                    return entry;
+                }
+            };
+        }
+    }
+}
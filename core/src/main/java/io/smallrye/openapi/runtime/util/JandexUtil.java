@@ -378,8 +378,10 @@ public class JandexUtil {
             return null;
         }
 
+        AnnotationLookup lookup = AnnotationLookup.currentInstance();
+
         for (DotName dn : names) {
-            AnnotationInstance classAnnotation = ct.classAnnotation(dn);
+            AnnotationInstance classAnnotation = lookup != null ? lookup.annotation(ct, dn) : ct.classAnnotation(dn);
             if (classAnnotation != null) {
                 return classAnnotation;
             }
@@ -409,8 +411,10 @@ public class JandexUtil {
             return null;
         }
 
+        AnnotationLookup lookup = AnnotationLookup.currentInstance();
+
         for (DotName dn : names) {
-            AnnotationInstance annotation = field.annotation(dn);
+            AnnotationInstance annotation = lookup != null ? lookup.annotation(field, dn) : field.annotation(dn);
             if (annotation != null)
                 return annotation;
         }
@@ -431,8 +435,10 @@ public class JandexUtil {
             return null;
         }
 
+        AnnotationLookup lookup = AnnotationLookup.currentInstance();
+
         for (DotName dn : names) {
-            AnnotationInstance annotation = mi.annotation(dn);
+            AnnotationInstance annotation = lookup != null ? lookup.annotation(mi, dn) : mi.annotation(dn);
             if (annotation != null)
                 return annotation;
         }
@@ -459,8 +465,10 @@ public class JandexUtil {
      * @return
      */
     public static boolean hasAnyOneOfAnnotation(final MethodInfo method, Collection<DotName> annotations) {
+        AnnotationLookup lookup = AnnotationLookup.currentInstance();
+
         for (DotName dotName : annotations) {
-            if (method.hasAnnotation(dotName)) {
+            if (lookup != null ? lookup.annotation(method, dotName) != null : method.hasAnnotation(dotName)) {
                 return true;
             }
         }
@@ -475,6 +483,12 @@ public class JandexUtil {
      * @return List of AnnotationInstance's
      */
     public static List<AnnotationInstance> getParameterAnnotations(MethodInfo method, short paramPosition) {
+        AnnotationLookup lookup = AnnotationLookup.currentInstance();
+
+        if (lookup != null) {
+            return lookup.parameterAnnotations(method, paramPosition);
+        }
+
         return method.annotations()
                 .stream()
                 .filter(annotation -> {
@@ -566,6 +580,12 @@ public class JandexUtil {
      */
     public static AnnotationInstance getMethodParameterAnnotation(MethodInfo method, int parameterIndex,
             DotName annotationName) {
+        AnnotationLookup lookup = AnnotationLookup.currentInstance();
+
+        if (lookup != null) {
+            return lookup.parameterAnnotation(method, parameterIndex, annotationName);
+        }
+
         for (AnnotationInstance annotation : method.annotations()) {
             if (annotation.target().kind() == Kind.METHOD_PARAMETER &&
                     annotation.target().asMethodParameter().position() == parameterIndex &&
@@ -27,6 +27,7 @@ import io.smallrye.openapi.api.models.media.ContentImpl;
 import io.smallrye.openapi.api.models.media.MediaTypeImpl;
 import io.smallrye.openapi.api.models.responses.APIResponsesImpl;
 import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.io.LazyModelMap;
 import io.smallrye.openapi.runtime.util.JandexUtil.RefType;
 
 /**
@@ -349,7 +350,14 @@ public class ModelUtil {
     }
 
     public static <V> Map<String, V> unmodifiableMap(Map<String, V> map) {
-        return map != null ? Collections.unmodifiableMap(map) : null;
+        if (map == null || map instanceof FrozenMap) {
+            return map;
+        }
+        if (map instanceof LazyModelMap) {
+            // Keep unread values unread when the map is copied
+            return ((LazyModelMap<V>) map).unmodifiable();
+        }
+        return Collections.unmodifiableMap(map);
     }
 
     public static <V> Map<String, V> replace(Map<String, V> modified, UnaryOperator<Map<String, V>> factory) {
@@ -382,7 +390,10 @@ public class ModelUtil {
     }
 
     public static <V> List<V> unmodifiableList(List<V> list) {
-        return list != null ? Collections.unmodifiableList(list) : null;
+        if (list == null || list instanceof FrozenList) {
+            return list;
+        }
+        return Collections.unmodifiableList(list);
     }
 
     public static <V> List<V> replace(List<V> modified, UnaryOperator<List<V>> factory) {
@@ -2,8 +2,24 @@ package io.smallrye.openapi.runtime.util;
 
 public class StringUtil {
     static final String EMPTY_STRING = "";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
 
     public static boolean isNotEmpty(String stringVal) {
         return !(stringVal == null || EMPTY_STRING.equals(stringVal.trim()));
     }
+
+    /**
+     * @param bytes the bytes to encode, e.g. a digest
+     * @return the lowercase hexadecimal form of the bytes
+     */
+    public static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+
+        return new String(hex);
+    }
 }
@@ -695,6 +695,10 @@ public class TypeUtil {
         if (target == null) {
             return false;
         }
+        AnnotationLookup lookup = AnnotationLookup.currentInstance();
+        if (lookup != null) {
+            return lookup.annotation(target, annotationName) != null;
+        }
         switch (target.kind()) {
             case CLASS:
                 return target.asClass().classAnnotation(annotationName) != null;
@@ -721,6 +725,10 @@ public class TypeUtil {
         if (annotationTarget == null) {
             return null;
         }
+        AnnotationLookup lookup = AnnotationLookup.currentInstance();
+        if (lookup != null) {
+            return lookup.annotation(annotationTarget, annotationName);
+        }
         return getAnnotations(annotationTarget).stream()
                 .filter(annotation -> annotation.name().equals(annotationName))
                 .findFirst()
@@ -829,6 +837,10 @@ public class TypeUtil {
                 return type.asMethod().annotations();
             case METHOD_PARAMETER:
                 MethodParameterInfo parameter = type.asMethodParameter();
+                AnnotationLookup lookup = AnnotationLookup.currentInstance();
+                if (lookup != null) {
+                    return lookup.parameterAnnotations(parameter.method(), parameter.position());
+                }
                 return parameter
                         .method()
                         .annotations()
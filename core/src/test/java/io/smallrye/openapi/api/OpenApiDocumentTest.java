@@ -0,0 +1,186 @@
+package io.smallrye.openapi.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.SerializedDocument;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class OpenApiDocumentTest {
+
+    @Test
+    void testBuilderRequiresConfig() {
+        OpenApiDocument.Builder builder = OpenApiDocument.builder();
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void testNotInitialized() {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        assertFalse(document.isSet());
+        assertThrows(IllegalStateException.class, document::get);
+    }
+
+    @Test
+    void testBuildersUsedConcurrently() throws Exception {
+        OpenApiConfig config = IndexScannerTestBase.emptyConfig();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<OpenApiDocument>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 8; i++) {
+                String title = "App " + i;
+                results.add(executor.submit(() -> OpenApiDocument.builder()
+                        .config(config)
+                        .modelFromStaticFile(OASFactory.createOpenAPI()
+                                .openapi("3.0.3")
+                                .info(OASFactory.createInfo().title(title)))
+                        .archiveName(title)
+                        .build()));
+            }
+
+            OpenAPI previous = null;
+
+            for (int i = 0; i < results.size(); i++) {
+                OpenApiDocument document = results.get(i).get();
+                assertTrue(document.isSet());
+                assertEquals("App " + i, document.get().getInfo().getTitle());
+                assertEquals("1.0", document.get().getInfo().getVersion());
+                assertNotSame(previous, document.get());
+                assertThrows(IllegalStateException.class, () -> document.modelFromReader(OASFactory.createOpenAPI()));
+                previous = document.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testViewsCachedByKey() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(OpenApiConstants.MODEL_FREEZE_ENABLE, true);
+        properties.put(OpenApiConstants.VIEW_CACHE_MAX_ENTRIES, 2);
+
+        OpenApiDocument document = OpenApiDocument.builder()
+                .config(IndexScannerTestBase.dynamicConfig(properties))
+                .modelFromStaticFile(OASFactory.createOpenAPI()
+                        .openapi("3.0.3")
+                        .paths(OASFactory.createPaths()
+                                .addPathItem("/fruits", OASFactory.createPathItem()
+                                        .GET(OASFactory.createOperation().addTag("public"))
+                                        .DELETE(OASFactory.createOperation().addTag("admin")))))
+                .build();
+
+        AtomicInteger created = new AtomicInteger();
+
+        OpenAPI publicView = document.getView("public", () -> {
+            created.incrementAndGet();
+            return new OASFilter() {
+                @Override
+                public PathItem filterPathItem(PathItem pathItem) {
+                    return pathItem.DELETE(null);
+                }
+            };
+        });
+
+        assertNull(publicView.getPaths().getPathItem("/fruits").getDELETE());
+        assertSame(document.get().getPaths().getPathItem("/fruits").getGET(),
+                publicView.getPaths().getPathItem("/fruits").getGET());
+        assertEquals(2, document.get().getPaths().getPathItem("/fruits").getOperations().size());
+        assertEquals(1, created.get());
+
+        assertSame(publicView, document.getView("public", () -> {
+            throw new AssertionError();
+        }));
+        SerializedDocument serialized = document.getSerializedView("public", null, Format.JSON, false);
+        assertSame(serialized, document.getSerializedView("public", null, Format.JSON, false));
+        assertFalse(serialized.toString().contains("admin"));
+
+        document.getView("a", () -> new OASFilter() {
+        });
+        document.getView("b", () -> new OASFilter() {
+        });
+
+        assertNotSame(publicView, document.getView("public", () -> {
+            created.incrementAndGet();
+            return new OASFilter() {
+            };
+        }));
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    void testViewFilterModifiesNestedElements() {
+        OpenApiDocument document = OpenApiDocument.builder()
+                .config(IndexScannerTestBase.emptyConfig())
+                .modelFromStaticFile(OASFactory.createOpenAPI()
+                        .openapi("3.0.3")
+                        .info(OASFactory.createInfo().title("Fruits").version("1.0"))
+                        .paths(OASFactory.createPaths()
+                                .addPathItem("/fruits", OASFactory.createPathItem()
+                                        .GET(OASFactory.createOperation()
+                                                .responses(OASFactory.createAPIResponses()
+                                                        .addAPIResponse("200",
+                                                                OASFactory.createAPIResponse().description("OK")))))
+                                .addPathItem("/admin", OASFactory.createPathItem())))
+                .build();
+
+        OpenAPI tenantView = document.getView("tenant", () -> new OASFilter() {
+            @Override
+            public Operation filterOperation(Operation operation) {
+                operation.getResponses().getAPIResponse("200").setDescription("Tenant OK");
+                return operation;
+            }
+
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                openAPI.getInfo().setTitle("Tenant");
+                openAPI.getPaths().removePathItem("/admin");
+            }
+        });
+
+        assertEquals("Tenant", tenantView.getInfo().getTitle());
+        assertNull(tenantView.getPaths().getPathItem("/admin"));
+        assertEquals("Tenant OK",
+                tenantView.getPaths().getPathItem("/fruits").getGET().getResponses().getAPIResponse("200").getDescription());
+
+        OpenAPI otherView = document.getView("other", () -> new OASFilter() {
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                // Modifies nothing
+            }
+        });
+
+        for (OpenAPI model : Arrays.asList(document.get(), otherView)) {
+            assertEquals("Fruits", model.getInfo().getTitle());
+            assertNotNull(model.getPaths().getPathItem("/admin"));
+            assertEquals("OK",
+                    model.getPaths().getPathItem("/fruits").getGET().getResponses().getAPIResponse("200").getDescription());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class ConfigUtilTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testConfigureServers(boolean indexed) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(OpenApiConstants.SERVERS_INDEX_ENABLE, indexed);
+        properties.put(OASConfig.SERVERS_PATH_PREFIX + "/fruits", "https://fruits.example.com");
+        properties.put(OASConfig.SERVERS_PATH_PREFIX + "/missing", "https://missing.example.com");
+        properties.put(OASConfig.SERVERS_OPERATION_PREFIX + "addVegetable", "https://vegetables.example.com");
+        OpenApiConfig config = IndexScannerTestBase.dynamicConfig(properties);
+
+        OpenAPI oai = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/fruits", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().operationId("getFruits")))
+                        .addPathItem("/vegetables", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().operationId("getVegetables"))
+                                .POST(OASFactory.createOperation().operationId("addVegetable"))));
+
+        ConfigUtil.configureServers(config, oai);
+
+        assertEquals(1, oai.getPaths().getPathItems().get("/fruits").getServers().size());
+        assertEquals("https://fruits.example.com", urls(oai.getPaths().getPathItems().get("/fruits").getServers()).get(0));
+        assertNull(oai.getPaths().getPathItems().get("/fruits").getGET().getServers());
+        assertNull(oai.getPaths().getPathItems().get("/vegetables").getServers());
+        assertNull(oai.getPaths().getPathItems().get("/vegetables").getGET().getServers());
+        assertEquals("https://vegetables.example.com",
+                urls(oai.getPaths().getPathItems().get("/vegetables").getPOST().getServers()).get(0));
+        assertNull(oai.getPaths().getPathItems().get("/missing"));
+    }
+
+    static List<String> urls(List<Server> servers) {
+        return servers.stream().map(Server::getUrl).collect(Collectors.toList());
+    }
+}
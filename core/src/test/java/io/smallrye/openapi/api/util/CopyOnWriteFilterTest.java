@@ -0,0 +1,126 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class CopyOnWriteFilterTest {
+
+    private static OpenAPI model() {
+        return OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo().title("Fruits").version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/fruits", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().operationId("listFruits").addTag("public"))
+                                .POST(OASFactory.createOperation().operationId("addFruit").addTag("admin")))
+                        .addPathItem("/vegetables", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().operationId("listVegetables").addTag("public"))))
+                .components(OASFactory.createComponents()
+                        .addSchema("Fruit", OASFactory.createSchema().addProperty("name", OASFactory.createSchema())));
+    }
+
+    private static class HideAdminOperations implements OASFilter {
+        @Override
+        public Operation filterOperation(Operation operation) {
+            return operation.getTags().contains("admin") ? null : operation;
+        }
+    }
+
+    @Test
+    void testViewSharesUnchangedElements() throws IOException, JSONException {
+        OpenAPI model = FreezeUtil.freeze(model());
+        String original = OpenApiSerializer.serialize(model, Format.JSON);
+
+        CopyOnWriteFilter filter = new CopyOnWriteFilter(Collections.singletonList(new HideAdminOperations()));
+        OpenAPI view = filter.apply(model);
+
+        JSONAssert.assertEquals(original, OpenApiSerializer.serialize(model, Format.JSON), true);
+        assertNull(view.getPaths().getPathItem("/fruits").getPOST());
+        assertNotSame(model.getPaths().getPathItem("/fruits"), view.getPaths().getPathItem("/fruits"));
+        assertSame(model.getPaths().getPathItem("/fruits").getGET(), view.getPaths().getPathItem("/fruits").getGET());
+        assertSame(model.getPaths().getPathItem("/vegetables"), view.getPaths().getPathItem("/vegetables"));
+        assertSame(model.getComponents(), view.getComponents());
+        assertSame(model.getInfo(), view.getInfo());
+        // OpenAPI, Paths, and the "/fruits" PathItem
+        assertEquals(3, filter.getCopiedElements());
+    }
+
+    @Test
+    void testViewModifiedByCallback() {
+        OpenAPI model = FreezeUtil.freeze(model());
+
+        OpenAPI view = CopyOnWriteFilter.applyFilter(new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                return schema.getProperties() != null ? schema.description("Filtered") : schema;
+            }
+        }, model);
+
+        assertNull(model.getComponents().getSchemas().get("Fruit").getDescription());
+        assertEquals("Filtered", view.getComponents().getSchemas().get("Fruit").getDescription());
+        assertSame(model.getComponents().getSchemas().get("Fruit").getProperties().get("name"),
+                view.getComponents().getSchemas().get("Fruit").getProperties().get("name"));
+        assertSame(model.getPaths(), view.getPaths());
+    }
+
+    @Test
+    void testNestedElementsModifiedByCallback() throws IOException, JSONException {
+        OpenAPI model = FreezeUtil.freeze(model());
+        String original = OpenApiSerializer.serialize(model, Format.JSON);
+
+        CopyOnWriteFilter filter = new CopyOnWriteFilter(Collections.singletonList(new OASFilter() {
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                openAPI.getInfo().setTitle("Vegetables");
+                openAPI.getPaths().removePathItem("/fruits");
+            }
+        }));
+        OpenAPI view = filter.apply(model);
+
+        JSONAssert.assertEquals(original, OpenApiSerializer.serialize(model, Format.JSON), true);
+        assertEquals("Vegetables", view.getInfo().getTitle());
+        assertNull(view.getPaths().getPathItem("/fruits"));
+        assertSame(model.getPaths().getPathItem("/vegetables"), view.getPaths().getPathItem("/vegetables"));
+        assertSame(model.getComponents(), view.getComponents());
+        // OpenAPI, Info, and Paths
+        assertEquals(3, filter.getCopiedElements());
+    }
+
+    @Test
+    void testUnchangedViewIsOriginal() throws IOException {
+        OpenAPI model;
+
+        try (InputStream stream = CopyOnWriteFilterTest.class
+                .getResourceAsStream("/io/smallrye/openapi/runtime/io/_everything.json")) {
+            model = OpenApiParser.parse(stream, Format.JSON);
+        }
+
+        CopyOnWriteFilter filter = new CopyOnWriteFilter(Collections.singletonList(new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                return schema;
+            }
+        }));
+
+        assertSame(model, filter.apply(model));
+        assertEquals(0, filter.getCopiedElements());
+    }
+}
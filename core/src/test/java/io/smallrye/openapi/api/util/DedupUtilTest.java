@@ -0,0 +1,73 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class DedupUtilTest {
+
+    private static Schema dateTime() {
+        return OASFactory.createSchema().type(SchemaType.STRING).format(new String("date-time"));
+    }
+
+    @Test
+    void testLeafSchemasShared() throws IOException, JSONException {
+        OpenAPI model = OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents()
+                        .addSchema("Timestamp", dateTime())
+                        .addSchema("Fruit", OASFactory.createSchema()
+                                .type(SchemaType.OBJECT)
+                                .addProperty("created", dateTime())
+                                .addProperty("updated", dateTime().description("Last update"))
+                                .addProperty("harvested", dateTime())
+                                .addProperty("ripened", OASFactory.createSchema().ref("Timestamp"))
+                                .addProperty("picked", OASFactory.createSchema().ref("Timestamp"))
+                                .addProperty("tags", OASFactory.createSchema()
+                                        .type(SchemaType.ARRAY)
+                                        .items(dateTime()))));
+
+        String expected = OpenApiSerializer.serialize(model, Format.JSON);
+        DedupUtil.deduplicate(model);
+        JSONAssert.assertEquals(expected, OpenApiSerializer.serialize(model, Format.JSON), true);
+
+        Map<String, Schema> schemas = model.getComponents().getSchemas();
+        Map<String, Schema> properties = schemas.get("Fruit").getProperties();
+
+        assertSame(properties.get("created"), properties.get("harvested"));
+        assertSame(properties.get("created"), properties.get("tags").getItems());
+        assertNotSame(properties.get("created"), properties.get("updated"));
+        assertNotSame(properties.get("created"), schemas.get("Timestamp"));
+        assertSame(properties.get("ripened"), properties.get("picked"));
+        assertEquals("#/components/schemas/Timestamp", properties.get("picked").getRef());
+        assertSame(properties.get("updated").getFormat(), schemas.get("Timestamp").getFormat());
+    }
+
+    @Test
+    void testDeduplicatedModelSerializesUnchanged() throws IOException, JSONException {
+        OpenAPI model;
+
+        try (InputStream stream = DedupUtilTest.class.getResourceAsStream("/io/smallrye/openapi/runtime/io/_everything.json")) {
+            model = OpenApiParser.parse(stream, Format.JSON);
+        }
+
+        String expected = OpenApiSerializer.serialize(model, Format.JSON);
+        DedupUtil.deduplicate(model);
+        JSONAssert.assertEquals(expected, OpenApiSerializer.serialize(model, Format.JSON), true);
+    }
+}
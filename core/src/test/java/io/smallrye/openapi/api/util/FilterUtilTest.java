@@ -1,15 +1,25 @@
 package io.smallrye.openapi.api.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
@@ -80,6 +90,74 @@ class FilterUtilTest {
         assertJsonEquals(expected, actual);
     }
 
+    @Test
+    void testFilterPlanSkipsUnusedSubtrees() {
+        FilterUtil.Plan plan = new FilterUtil.Plan(Collections.singletonList(new OASFilter() {
+            @Override
+            public Operation filterOperation(Operation operation) {
+                return operation;
+            }
+        }));
+
+        assertTrue(plan.pathItems);
+        assertFalse(plan.schemas);
+        assertFalse(plan.parameters);
+        assertFalse(plan.responses);
+        assertFalse(plan.tags);
+        assertTrue(plan.components); // Callbacks may contain operations
+
+        plan = new FilterUtil.Plan(Collections.singletonList(filter()));
+        assertTrue(plan.tags);
+        assertFalse(plan.schemas);
+    }
+
+    @Test
+    void testFusedFiltersStopOnRemoval() throws Exception {
+        OpenAPI model = OpenApiParser.parse(FilterUtilTest.class.getResource("filter-before.json"));
+        List<String> tags = new ArrayList<>();
+        List<Schema> schemas = new ArrayList<>();
+
+        FilterUtil.applyFilters(Arrays.asList(filter(), new OASFilter() {
+            @Override
+            public Tag filterTag(Tag tag) {
+                tags.add(tag.getName());
+                return tag;
+            }
+
+            @Override
+            public Schema filterSchema(Schema schema) {
+                schemas.add(schema);
+                return schema;
+            }
+        }), model);
+
+        assertFalse(tags.contains("tag-1"));
+        assertEquals(model.getTags().size(), tags.size());
+        assertFalse(schemas.isEmpty());
+        assertEquals("Updated API Title", model.getInfo().getTitle());
+    }
+
+    @Test
+    void testFilterOpenAPISeenByFollowingFilters() throws Exception {
+        OpenAPI model = OpenApiParser.parse(FilterUtilTest.class.getResource("filter-before.json"));
+        List<String> schemas = new ArrayList<>();
+
+        FilterUtil.applyFilters(Arrays.asList(new OASFilter() {
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                openAPI.getComponents().addSchema("Added", OASFactory.createSchema().title("added"));
+            }
+        }, new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                schemas.add(schema.getTitle());
+                return schema;
+            }
+        }), model);
+
+        assertTrue(schemas.contains("added"));
+    }
+
     /**
      * Creates and returns the filter to use for the test.
      */
@@ -0,0 +1,95 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.util.FrozenMap;
+
+class FreezeUtilTest {
+
+    private static OpenAPI parse(String resource, boolean lazy) throws IOException {
+        try (InputStream stream = FreezeUtilTest.class.getResourceAsStream("/io/smallrye/openapi/runtime/io/" + resource)) {
+            return OpenApiParser.parse(stream, Format.JSON, lazy);
+        }
+    }
+
+    @Test
+    void testFrozenModelSerializesUnchanged() throws IOException, JSONException {
+        String expected = OpenApiSerializer.serialize(parse("_everything.json", false), Format.JSON);
+
+        for (boolean lazy : new boolean[] { false, true }) {
+            OpenAPI model = parse("_everything.json", lazy);
+            assertSame(model, FreezeUtil.freeze(model));
+            JSONAssert.assertEquals(expected, OpenApiSerializer.serialize(model, Format.JSON), true);
+        }
+    }
+
+    @Test
+    void testFrozenModelReadOnly() {
+        OpenAPI model = OASFactory.createOpenAPI()
+                .addExtension("x-empty", new LinkedHashMap<>())
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/fruits", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().addTag("fruits").addTag("food")))
+                        .addPathItem("/vegetables", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().addTag(new String("food")))));
+
+        FreezeUtil.freeze(model);
+
+        Map<String, PathItem> pathItems = model.getPaths().getPathItems();
+        assertTrue(pathItems instanceof FrozenMap);
+        assertSame(pathItems, model.getPaths().getPathItems());
+        assertThrows(UnsupportedOperationException.class,
+                () -> model.getPaths().addPathItem("/nuts", OASFactory.createPathItem()));
+        assertThrows(UnsupportedOperationException.class, () -> model.getPaths().removePathItem("/fruits"));
+
+        Operation fruits = pathItems.get("/fruits").getGET();
+        Operation vegetables = pathItems.get("/vegetables").getGET();
+        assertThrows(UnsupportedOperationException.class, () -> fruits.addTag("produce"));
+        assertSame(fruits.getTags().get(1), vegetables.getTags().get(0));
+
+        assertSame(FrozenMap.empty(), model.getExtensions().get("x-empty"));
+        assertNull(model.getComponents());
+    }
+
+    @Test
+    void testFrozenMapLookup() {
+        Map<String, Integer> source = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            source.put("key" + i, i);
+        }
+        source.put(null, -1);
+
+        Map<String, Integer> frozen = FrozenMap.copyOf(source, Function.identity(), Function.identity());
+
+        assertEquals(source, frozen);
+        assertEquals(source.hashCode(), frozen.hashCode());
+        assertEquals(source.keySet().iterator().next(), frozen.keySet().iterator().next());
+        for (Map.Entry<String, Integer> entry : source.entrySet()) {
+            assertEquals(entry.getValue(), frozen.get(entry.getKey()));
+        }
+        assertNull(frozen.get("key100"));
+        assertNotSame(source, frozen);
+    }
+}
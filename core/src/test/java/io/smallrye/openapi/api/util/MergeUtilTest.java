@@ -158,4 +158,13 @@ class MergeUtilTest {
     void testMerge_EmptyQueryParam() throws IOException, ParseException, JSONException {
         doTest("_pathEmpty/pathEmpty1.json", "_pathEmpty/pathEmpty2.json", "_pathEmpty/merged.json");
     }
+
+    /**
+     * Test method for
+     * {@link MergeUtil#merge(io.smallrye.openapi.api.models.OpenAPIImpl, io.smallrye.openapi.api.models.OpenAPIImpl)}.
+     */
+    @Test
+    void testMerge_PathSchemaLists() throws IOException, ParseException, JSONException {
+        doTest("_pathSchemas/pathSchemas1.json", "_pathSchemas/pathSchemas2.json", "_pathSchemas/merged.json");
+    }
 }
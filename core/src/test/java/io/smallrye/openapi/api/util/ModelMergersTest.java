@@ -0,0 +1,165 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.MapModel;
+import io.smallrye.openapi.api.models.ModelImpl;
+
+/**
+ * Verifies that the registered {@link Merger}s handle every property of their
+ * models the same way as the reflective merge used for other models.
+ */
+class ModelMergersTest {
+
+    static final int COMMON = 0;
+    static final int TARGET = 1;
+    static final int SOURCE = 2;
+
+    @Test
+    void testMergersMatchPropertyMerge() throws Exception {
+        assertFalse(ModelMergers.types().isEmpty());
+
+        for (Class<?> type : ModelMergers.types()) {
+            @SuppressWarnings("unchecked")
+            Merger<Object> merger = (Merger<Object>) ModelMergers.get(type);
+            assertNotNull(merger, type.getName());
+
+            Object target = create(type, TARGET, true);
+            merger.merge(target, create(type, SOURCE, true));
+
+            Object expected = MergeUtil.mergeProperties(create(type, TARGET, true), create(type, SOURCE, true));
+
+            assertSameContent(type.getSimpleName(), expected, target);
+        }
+    }
+
+    /**
+     * Create a model with every property set. The values of nested models are
+     * set only when <code>complete</code>, maps and lists contain an entry
+     * common to all variants and one specific to the given variant.
+     */
+    private static Object create(Class<?> type, int variant, boolean complete) throws Exception {
+        Object model = type.isInterface()
+                ? OASFactory.createObject(type.asSubclass(Constructible.class))
+                : type.getDeclaredConstructor().newInstance();
+
+        if (model instanceof SecurityRequirement) {
+            ((SecurityRequirement) model).addScheme("scheme-" + variant, "scope-" + variant);
+        }
+
+        for (Field field : ModelFields.of(model.getClass())) {
+            Object value = value(field.getName(), field.getType(), field.getGenericType(), variant, complete);
+
+            if (value != null) {
+                ModelFields.set(field, model, value);
+            }
+        }
+
+        return model;
+    }
+
+    private static Object value(String name, Class<?> type, Type genericType, int variant, boolean complete)
+            throws Exception {
+        if (type == String.class || type == Object.class) {
+            return name + "-" + variant;
+        }
+        if (type == Boolean.class) {
+            return variant % 2 == 0;
+        }
+        if (type == Integer.class) {
+            return variant;
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.valueOf(variant);
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants[variant % constants.length];
+        }
+        if (!complete) {
+            return null;
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            Type valueType = ((ParameterizedType) genericType).getActualTypeArguments()[1];
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put(name + "-" + COMMON, element(name, valueType, COMMON));
+            map.put(name + "-" + variant, element(name, valueType, variant));
+            return map;
+        }
+        if (List.class.isAssignableFrom(type)) {
+            Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            List<Object> list = new ArrayList<>();
+            list.add(element(name, elementType, COMMON));
+            list.add(element(name, elementType, variant));
+            return list;
+        }
+        if (Constructible.class.isAssignableFrom(type)) {
+            return create(type, variant, false);
+        }
+        throw new IllegalArgumentException("Unexpected type of " + name + ": " + type);
+    }
+
+    private static Object element(String name, Type type, int variant) throws Exception {
+        if (type instanceof ParameterizedType) {
+            // e.g. the scopes of a security requirement
+            return Collections.singletonList(name + "-" + variant);
+        }
+        return value(name, (Class<?>) type, type, variant, false);
+    }
+
+    private static void assertSameContent(String path, Object expected, Object actual) {
+        if (expected instanceof ModelImpl) {
+            assertEquals(expected.getClass(), actual.getClass(), path);
+
+            if (expected instanceof Map && !(expected instanceof MapModel)) {
+                assertSameContent(path, new LinkedHashMap<>((Map<?, ?>) expected),
+                        new LinkedHashMap<>((Map<?, ?>) actual));
+            }
+
+            for (Field field : ModelFields.of(expected.getClass())) {
+                assertSameContent(path + "." + field.getName(),
+                        ModelFields.get(field, expected),
+                        ModelFields.get(field, actual));
+            }
+        } else if (expected instanceof Map && actual instanceof Map) {
+            Map<?, ?> expectedMap = (Map<?, ?>) expected;
+            Map<?, ?> actualMap = (Map<?, ?>) actual;
+            assertEquals(new ArrayList<>(expectedMap.keySet()), new ArrayList<>(actualMap.keySet()), path);
+
+            for (Map.Entry<?, ?> entry : expectedMap.entrySet()) {
+                assertSameContent(path + "[" + entry.getKey() + "]", entry.getValue(), actualMap.get(entry.getKey()));
+            }
+        } else if (expected instanceof List && actual instanceof List) {
+            List<?> expectedList = (List<?>) expected;
+            List<?> actualList = (List<?>) actual;
+            assertEquals(expectedList.size(), actualList.size(), path);
+
+            Iterator<?> actualElements = actualList.iterator();
+            int index = 0;
+
+            for (Object element : expectedList) {
+                assertSameContent(path + "[" + index++ + "]", element, actualElements.next());
+            }
+        } else {
+            assertEquals(expected, actual, path);
+        }
+    }
+}
@@ -1,18 +1,39 @@
 package io.smallrye.openapi.runtime.io;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.util.Iterator;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.json.JSONException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
+
 /**
  * @author eric.wittmann@gmail.com
  */
@@ -482,4 +503,171 @@ class OpenApiParserAndSerializerTest {
         doTest("_everything.yaml", Format.YAML);
     }
 
+    /**
+     * Test that the streaming serializer produces exactly the same output as
+     * rendering the complete JSON tree of the model.
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "_everything.json, JSON",
+            "_everything.yaml, YAML",
+            "components-empty.json, JSON",
+            "extensions.json, JSON",
+            "paths-empty.json, JSON",
+            "paths-with-extensions.json, JSON",
+            "servers.yaml, YAML"
+    })
+    void testStreamingMatchesTree(String resource, Format format) throws IOException {
+        OpenAPI model = OpenApiParser.parse(OpenApiParserAndSerializerTest.class.getResource(resource));
+        ObjectNode tree = JsonUtil.objectNode();
+        DefinitionWriter.writeOpenAPI(tree, model);
+
+        String expected;
+
+        if (format == Format.JSON) {
+            expected = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(tree);
+        } else {
+            YAMLFactory factory = new YAMLFactory();
+            factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
+            factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+            expected = new ObjectMapper(factory).writer().writeValueAsString(tree);
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OpenApiSerializer.serialize(model, format, output);
+
+        Assertions.assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), output.toByteArray());
+        Assertions.assertEquals(expected, OpenApiSerializer.serialize(model, format));
+    }
+
+    @Test
+    void testSerializedDocumentCache() throws IOException {
+        OpenAPI model = OpenApiParser.parse(OpenApiParserAndSerializerTest.class.getResource("_everything.json"));
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.set(model);
+
+        SerializedDocument json = document.getSerialized(Format.JSON, true);
+        Assertions.assertSame(json, document.getSerialized(Format.JSON, true));
+        Assertions.assertEquals(OpenApiSerializer.serialize(model, Format.JSON), json.toString());
+        Assertions.assertEquals('"' + json.getHash() + '"', json.getETag(SerializedDocument.Encoding.IDENTITY));
+        Assertions.assertEquals(64, json.getHash().length());
+
+        SerializedDocument compact = document.getSerialized(Format.JSON, false);
+        Assertions.assertNotSame(json, compact);
+        Assertions.assertNotEquals(json.getHash(), compact.getHash());
+        Assertions.assertEquals(new ObjectMapper().readTree(json.toString()), new ObjectMapper().readTree(compact.toString()));
+
+        try (InputStream gzip = new GZIPInputStream(json.getInputStream(SerializedDocument.Encoding.GZIP));
+                InputStream deflate = new InflaterInputStream(json.getInputStream(SerializedDocument.Encoding.DEFLATE))) {
+            Assertions.assertArrayEquals(json.toByteArray(), IOUtils.toByteArray(gzip));
+            Assertions.assertArrayEquals(json.toByteArray(), IOUtils.toByteArray(deflate));
+        }
+
+        Assertions.assertNotEquals(json.getETag(SerializedDocument.Encoding.IDENTITY),
+                json.getETag(SerializedDocument.Encoding.GZIP));
+
+        // Replacing the model discards the cached documents
+        document.set(OpenApiParser.parse(OpenApiParserAndSerializerTest.class.getResource("servers.yaml")));
+        Assertions.assertNotEquals(json.getHash(), document.getSerialized(Format.JSON, true).getHash());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "_everything.json, JSON",
+            "_everything.yaml, YAML",
+            "components-examples.json, JSON",
+            "components-schemas.json, JSON",
+            "paths-with-extensions.json, JSON",
+            "paths-empty.json, JSON",
+            "simplest.yaml, YAML"
+    })
+    void testLazyParse(String resource, Format format) throws IOException, JSONException {
+        URL testResource = OpenApiParserAndSerializerTest.class.getResource(resource);
+        OpenAPI eager;
+        OpenAPI lazy;
+
+        try (InputStream stream = testResource.openStream()) {
+            eager = OpenApiParser.parse(stream, format, false);
+        }
+        try (InputStream stream = testResource.openStream()) {
+            lazy = OpenApiParser.parse(stream, format, true);
+        }
+
+        assertJsonEquals(OpenApiSerializer.serialize(eager, Format.JSON), OpenApiSerializer.serialize(lazy, Format.JSON));
+    }
+
+    @Test
+    void testLazyParseDefersPathItems() throws IOException {
+        OpenAPI model;
+
+        try (InputStream stream = OpenApiParserAndSerializerTest.class.getResource("_everything.json").openStream()) {
+            model = OpenApiParser.parse(stream, Format.JSON, true);
+        }
+
+        LazyModelMap<?> pathItems = (LazyModelMap<?>) ((PathsImpl) model.getPaths()).getMap();
+        String path = pathItems.keySet().iterator().next();
+
+        Assertions.assertTrue(pathItems.isDeferred(path));
+        Assertions.assertNotNull(model.getPaths().getPathItems().get(path));
+        Assertions.assertFalse(pathItems.isDeferred(path));
+        Assertions.assertSame(model.getPaths().getPathItems().get(path), model.getPaths().getPathItems().get(path));
+
+        // Unread values are not read when they are replaced or removed
+        Iterator<String> unread = pathItems.keySet().iterator();
+        unread.next();
+        String replaced = unread.next();
+        String removed = unread.next();
+
+        Assertions.assertTrue(pathItems.isDeferred(replaced));
+        Assertions.assertNull(pathItems.put(replaced, null));
+        Assertions.assertTrue(pathItems.isDeferred(removed));
+        Assertions.assertNull(pathItems.remove(removed));
+        Assertions.assertFalse(pathItems.containsKey(removed));
+    }
+
+    @Test
+    void testMergeKeepsLazyEntriesUnread() throws IOException {
+        OpenAPI model;
+
+        try (InputStream stream = OpenApiParserAndSerializerTest.class.getResource("_everything.json").openStream()) {
+            model = OpenApiParser.parse(stream, Format.JSON, true);
+        }
+
+        OpenAPI annotations = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths().addPathItem("/annotated", OASFactory.createPathItem()))
+                .components(OASFactory.createComponents().addSchema("Annotated", OASFactory.createSchema()));
+
+        OpenAPI merged = MergeUtil.mergeObjects(model, annotations);
+
+        LazyModelMap<?> pathItems = (LazyModelMap<?>) merged.getPaths().getPathItems();
+        Assertions.assertTrue(pathItems.isDeferred("/foo"));
+        Assertions.assertTrue(pathItems.isDeferred("/foo/{fooId}"));
+        Assertions.assertFalse(pathItems.isDeferred("/annotated"));
+        Assertions.assertNotNull(pathItems.get("/annotated"));
+
+        LazyModelMap<?> schemas = (LazyModelMap<?>) merged.getComponents().getSchemas();
+        Assertions.assertTrue(schemas.isDeferred("Schema-1"));
+        Assertions.assertTrue(schemas.isDeferred("Schema-2"));
+        Assertions.assertNotNull(schemas.get("Annotated"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> schemas.remove("Schema-1"));
+    }
+
+    @Test
+    void testCustomMapperProvider() throws IOException {
+        MapperProvider defaultProvider = MapperProvider.getInstance();
+        OpenAPI model = OASFactory.createOpenAPI().openapi("3.0.3").info(OASFactory.createInfo().title("Caf\u00e9"));
+
+        Assertions.assertSame(defaultProvider.mapper(Format.JSON), MapperProvider.getInstance().mapper(Format.JSON));
+        Assertions.assertTrue(OpenApiSerializer.serialize(model, Format.JSON).contains("Caf\u00e9"));
+
+        try {
+            JsonFactory factory = new JsonFactory().enable(JsonGenerator.Feature.ESCAPE_NON_ASCII);
+            MapperProvider.setInstance(new MapperProvider(factory, new YAMLFactory()));
+
+            Assertions.assertTrue(OpenApiSerializer.serialize(model, Format.JSON).contains("Caf\\u00E9"));
+            Assertions.assertTrue(OpenApiSerializer.serialize(model, Format.YAML).contains("openapi: 3.0.3"));
+        } finally {
+            MapperProvider.setInstance(defaultProvider);
+        }
+    }
 }
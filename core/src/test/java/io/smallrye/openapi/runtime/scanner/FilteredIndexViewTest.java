@@ -2,11 +2,15 @@ package io.smallrye.openapi.runtime.scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.eclipse.microprofile.openapi.OASConfig;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
@@ -236,4 +240,50 @@ class FilteredIndexViewTest {
                 .getAnnotationsWithRepeatable(DotName.createSimple(Parameter.class.getName()), index);
         assertEquals(4, params.size());
     }
+
+    @Test
+    void testAccepts_LiteralPackagesAndClasses() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(OASConfig.SCAN_PACKAGES, "com.example.pkgA,com.example.pkgB");
+        properties.put(OASConfig.SCAN_CLASSES, "com.example.pkgC.MyBean");
+        properties.put(OASConfig.SCAN_EXCLUDE_PACKAGES, "com.example.pkgA.internal");
+        properties.put(OASConfig.SCAN_EXCLUDE_CLASSES, "com.example.pkgB.MyImpl");
+        OpenApiConfig config = IndexScannerTestBase.dynamicConfig(properties);
+        FilteredIndexView view = new FilteredIndexView(null, config);
+
+        for (int i = 0; i < 2; i++) {
+            // Second pass verifies the memoized results
+            assertTrue(view.accepts(DotName.createSimple("com.example.pkgA.MyBean")));
+            assertTrue(view.accepts(DotName.createSimple("com.example.pkgA.sub.MyBean")));
+            assertFalse(view.accepts(DotName.createSimple("com.example.pkgA.internal.MyBean")));
+            assertTrue(view.accepts(DotName.createSimple("com.example.pkgB.MyBean")));
+            assertFalse(view.accepts(DotName.createSimple("com.example.pkgB.MyImpl")));
+            assertTrue(view.accepts(DotName.createSimple("com.example.pkgC.MyBean")));
+            assertFalse(view.accepts(DotName.createSimple("com.example.pkgC.MyImpl")));
+            assertFalse(view.accepts(DotName.createSimple("org.example.pkgA.MyBean")));
+            assertFalse(view.accepts(DotName.createSimple("java.lang.Object")));
+        }
+    }
+
+    @Test
+    void testNameMatcherLiterals() {
+        OpenApiConfig config = IndexScannerTestBase.emptyConfig();
+
+        assertEquals(new HashSet<>(Arrays.asList("com.example", "org.example")),
+                new HashSet<>(NameMatcher.literals(config.patternOf("com.example,org.example", null))));
+        assertNull(NameMatcher.literals(config.patternOf("^com\\.example")));
+        assertNull(NameMatcher.literals(Pattern.compile("(" + Pattern.quote("a\\Eb") + ")")));
+
+        NameMatcher matcher = NameMatcher.of(config.patternOf("example.pkgA,com.example,com.example.pkgA.MyBean"));
+        assertTrue(matcher instanceof NameMatcher.LiteralMatcher);
+        assertEquals("com.example.pkgA.MyBean", matcher.matchingGroup("com.example.pkgA.MyBean"));
+        assertEquals("com.example", matcher.matchingGroup("com.example.pkgA.MyClass"));
+        assertEquals("example.pkgA", matcher.matchingGroup("org.example.pkgA.MyBean"));
+        assertEquals("", matcher.matchingGroup("org.sample.pkgA.MyBean"));
+
+        Pattern regex = Pattern.compile("(?:pkgA.My.*)$");
+        assertTrue(NameMatcher.of(regex) instanceof NameMatcher.RegexMatcher);
+        assertEquals("pkgA.MyBean", NameMatcher.of(regex).matchingGroup("com.example.pkgA.MyBean"));
+        assertEquals("", NameMatcher.of(null).matchingGroup("com.example.pkgA.MyBean"));
+    }
 }
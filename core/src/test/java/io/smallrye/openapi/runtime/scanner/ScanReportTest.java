@@ -0,0 +1,63 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
+
+class ScanReportTest {
+
+    static class FastResource {
+    }
+
+    static class SlowResource {
+    }
+
+    static class Ignored {
+    }
+
+    @Test
+    void testSlowestClassesFirst() throws IOException {
+        Index index = Index.of(FastResource.class, SlowResource.class, Ignored.class);
+        ScanReport report = new ScanReport(2);
+
+        report.phaseStarted(ScanListener.SCAN);
+        report.classScanned("JAX-RS", classInfo(index, FastResource.class), 1_000_000L);
+        report.classScanned("JAX-RS", classInfo(index, SlowResource.class), 9_000_000L);
+        report.classScanned("JAX-RS", classInfo(index, Ignored.class), 10_000L);
+        report.typeVisited(type(Ignored.class));
+        report.typeVisited(type(SlowResource.class));
+        report.typeVisited(type(SlowResource.class));
+        report.registryLookup(type(SlowResource.class), false);
+        report.registryLookup(type(SlowResource.class), true);
+        report.enumLookup(DotName.createSimple(Ignored.class.getName()), false);
+        report.enumLookup(DotName.createSimple(Ignored.class.getName()), true);
+        report.enumLookup(DotName.createSimple(Ignored.class.getName()), true);
+        report.cycleDetected(type(SlowResource.class));
+        report.phaseEnded("JAX-RS", 10_000_000L);
+
+        String text = report.getReport();
+
+        assertTrue(text.contains("2 of 3 classes scanned"), text);
+        assertTrue(text.indexOf(SlowResource.class.getName()) < text.indexOf(FastResource.class.getName()), text);
+        assertTrue(text.contains("3 types visited"), text);
+        assertTrue(text.contains("schema registry: 1 hits, 1 misses"), text);
+        assertTrue(text.contains("enum cache: 2 hits, 1 misses; 1 cycles detected"), text);
+        assertTrue(text.contains("phase JAX-RS"), text);
+    }
+
+    private static ClassInfo classInfo(Index index, Class<?> type) {
+        return index.getClassByName(DotName.createSimple(type.getName()));
+    }
+
+    private static Type type(Class<?> type) {
+        return Type.create(DotName.createSimple(type.getName()), Type.Kind.CLASS);
+    }
+}
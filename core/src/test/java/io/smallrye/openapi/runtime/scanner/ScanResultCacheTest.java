@@ -0,0 +1,88 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
+
+class ScanResultCacheTest extends IndexScannerTestBase {
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void testScanResultCached() throws Exception {
+        OpenApiConfig config = dynamicConfig(OpenApiConstants.SCAN_CACHE_DIRECTORY, cacheDirectory.toString());
+        Index index = indexOf(Fruit.class, Basket.class);
+
+        OpenAPI scanned = new OpenApiAnnotationScanner(config, index).scan();
+        Path file = cacheDirectory.resolve(ScanResultCache.FILE_NAME);
+        assertTrue(Files.isRegularFile(file));
+
+        ScanResultCache cache = new ScanResultCache(cacheDirectory);
+        String fingerprint = ScanResultCache.fingerprint(new FilteredIndexView(index, config), config, scannerNames());
+        OpenAPI cached = cache.load(fingerprint);
+
+        assertNotNull(cached);
+        assertEquals(OpenApiSerializer.serialize(scanned, Format.JSON), OpenApiSerializer.serialize(cached, Format.JSON));
+        assertEquals(OpenApiSerializer.serialize(scanned, Format.JSON),
+                OpenApiSerializer.serialize(new OpenApiAnnotationScanner(config, index).scan(), Format.JSON));
+        assertNull(cache.load("0" + fingerprint));
+    }
+
+    @Test
+    void testFingerprintChanges() {
+        OpenApiConfig config = emptyConfig();
+        OpenApiConfig otherConfig = dynamicConfig(OpenApiConstants.SMALLRYE_PRIVATE_PROPERTIES_ENABLE, Boolean.FALSE);
+        List<String> scanners = scannerNames();
+
+        String fingerprint = ScanResultCache.fingerprint(indexOf(Fruit.class, Basket.class), config, scanners);
+
+        assertEquals(fingerprint, ScanResultCache.fingerprint(indexOf(Basket.class, Fruit.class), config, scanners));
+        assertNotEquals(fingerprint, ScanResultCache.fingerprint(indexOf(Fruit.class), config, scanners));
+        assertNotEquals(fingerprint, ScanResultCache.fingerprint(indexOf(Fruit.class, Basket.class), otherConfig, scanners));
+        assertNotEquals(fingerprint, ScanResultCache.fingerprint(indexOf(Fruit.class, Basket.class), config,
+                Collections.singletonList("JAX-RS")));
+    }
+
+    static List<String> scannerNames() {
+        return new AnnotationScannerFactory(ClassLoaderUtil.getDefaultClassLoader())
+                .getAnnotationScanners()
+                .stream()
+                .map(AnnotationScanner::getName)
+                .collect(Collectors.toList());
+    }
+
+    @Schema(description = "A fruit")
+    static class Fruit {
+        @Schema(required = true)
+        public String name;
+        public int weight;
+    }
+
+    @Schema(name = "FruitBasket")
+    static class Basket {
+        public List<Fruit> fruits;
+    }
+}
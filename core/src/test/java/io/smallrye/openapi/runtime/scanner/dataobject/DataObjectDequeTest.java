@@ -0,0 +1,76 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import io.smallrye.openapi.runtime.scanner.dataobject.DataObjectDeque.PathEntry;
+
+class DataObjectDequeTest extends IndexScannerTestBase {
+
+    static class Leaf {
+    }
+
+    static class Other {
+    }
+
+    static class Node<T> {
+    }
+
+    private static Type type(Class<?> klazz) {
+        return Type.create(DotName.createSimple(klazz.getName()), Type.Kind.CLASS);
+    }
+
+    /**
+     * @return <code>Node&lt;Node&lt;...Node&lt;Leaf&gt;...&gt;&gt;</code>, nested to the given depth
+     */
+    private static Type nested(int depth) {
+        Type type = type(Leaf.class);
+        for (int i = 0; i < depth; i++) {
+            type = ParameterizedType.create(DotName.createSimple(Node.class.getName()), new Type[] { type }, null);
+        }
+        return type;
+    }
+
+    @Test
+    void testCycleDetectionOnDeepPath() {
+        final int depth = 50;
+        Index index = indexOf(Leaf.class, Other.class, Node.class);
+        DataObjectDeque deque = new DataObjectDeque(AugmentedIndexView.augment(index));
+        PathEntry entry = deque.rootNode(null, index.getClassByName(type(Node.class).name()), nested(depth),
+                new SchemaImpl());
+
+        // Nested generic types with different arguments are not cycles
+        for (int i = depth - 1; i > 0; i--) {
+            deque.push(null, entry, nested(i), new SchemaImpl());
+            assertEquals(1, deque.size());
+            entry = deque.pop();
+        }
+
+        assertEquals(nested(1), entry.getClazzType());
+        assertTrue(entry.hasParent(deque.leafNode(entry, null, nested(1), new SchemaImpl())));
+        assertTrue(entry.hasParent(deque.leafNode(entry, null, nested(depth / 2), new SchemaImpl())));
+        assertTrue(entry.hasParent(deque.leafNode(entry, null, nested(depth), new SchemaImpl())));
+        assertTrue(entry.hasParent(deque.leafNode(entry, null, type(Node.class), new SchemaImpl())));
+        assertFalse(entry.hasParent(deque.leafNode(entry, null, nested(depth + 1), new SchemaImpl())));
+        assertFalse(entry.hasParent(deque.leafNode(entry, null, type(Other.class), new SchemaImpl())));
+
+        deque.push(null, entry, type(Leaf.class), new SchemaImpl());
+        PathEntry leaf = deque.pop();
+        assertTrue(leaf.hasParent(leaf));
+        assertFalse(entry.hasParent(leaf));
+
+        SchemaImpl cyclic = new SchemaImpl();
+        deque.push(null, leaf, nested(depth / 2), cyclic);
+        assertTrue(deque.isEmpty());
+        assertEquals("Cyclic reference to " + Node.class.getName(), cyclic.getDescription());
+    }
+}
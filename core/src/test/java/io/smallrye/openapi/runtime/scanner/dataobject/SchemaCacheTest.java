@@ -0,0 +1,41 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.util.Arrays;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+class SchemaCacheTest extends IndexScannerTestBase {
+
+    enum Color {
+        RED,
+        GREEN,
+        BLUE
+    }
+
+    @Test
+    void testEnumSchemaCopiedFromCache() {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        AnnotationScannerContext context = new AnnotationScannerContext(indexOf(Color.class), loader, emptyConfig());
+        Type type = Type.create(DotName.createSimple(Color.class.getName()), Type.Kind.CLASS);
+
+        Schema first = SchemaFactory.enumToSchema(context, type);
+        first.addEnumeration("BLACK");
+        Schema second = SchemaFactory.enumToSchema(context, type);
+
+        assertNotSame(first, second);
+        assertEquals(Schema.SchemaType.STRING, second.getType());
+        assertEquals(Arrays.asList("RED", "GREEN", "BLUE"), second.getEnumeration());
+        assertEquals(1, context.getSchemaCache().getMisses());
+        assertEquals(1, context.getSchemaCache().getHits());
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Iterator;
@@ -20,6 +22,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
@@ -688,4 +692,39 @@ class TypeResolverTests extends IndexScannerTestBase {
         assertEquals(second, keys.next());
         assertEquals(third, keys.next());
     }
+
+    @Test
+    void testPropertiesCachedPerResolvedType() {
+        @SuppressWarnings("unused")
+        class Address {
+            String street;
+            String city;
+        }
+        @SuppressWarnings("unused")
+        class Customer {
+            String name;
+            @JsonUnwrapped(prefix = "home_")
+            Address home;
+        }
+
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        AnnotationScannerContext context = new AnnotationScannerContext(indexOf(Address.class, Customer.class), loader,
+                emptyConfig());
+        ClassInfo addressKlazz = context.getIndex().getClassByName(componentize(Address.class.getName()));
+        Type address = Type.create(addressKlazz.name(), Type.Kind.CLASS);
+        ClassInfo customerKlazz = context.getIndex().getClassByName(componentize(Customer.class.getName()));
+        Type customer = Type.create(customerKlazz.name(), Type.Kind.CLASS);
+
+        Map<String, TypeResolver> addressProperties = TypeResolver.getAllFields(context, address, addressKlazz, null);
+        assertSame(addressProperties, TypeResolver.getAllFields(context, address, addressKlazz, null));
+        assertThrows(UnsupportedOperationException.class, () -> addressProperties.remove("city"));
+
+        Map<String, TypeResolver> customerProperties = TypeResolver.getAllFields(context, customer, customerKlazz, null);
+        assertSame(customerProperties, TypeResolver.getAllFields(context, customer, customerKlazz, null));
+        assertEquals("home_street", customerProperties.get("home_street").getPropertyName());
+
+        // Prefix applied to the unwrapped properties must not leak in to the cached Address properties
+        assertEquals("street", addressProperties.get("street").getPropertyName());
+        assertEquals("city", addressProperties.get("city").getPropertyName());
+    }
 }
@@ -0,0 +1,116 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class AnnotationLookupTest extends IndexScannerTestBase {
+
+    static final DotName TAG = DotName.createSimple(Tag.class.getName());
+    static final DotName SCHEMA = DotName.createSimple(Schema.class.getName());
+    static final DotName OPERATION = DotName.createSimple(Operation.class.getName());
+    static final DotName PARAMETER = DotName.createSimple(Parameter.class.getName());
+
+    @Tag(name = "annotated")
+    static class Annotated {
+        @Schema(description = "field")
+        String field;
+
+        @Operation(summary = "method")
+        void method(String unannotated, @Parameter(name = "first") @Schema(description = "param") String first,
+                @Parameter(name = "second") String second) {
+        }
+    }
+
+    @AfterEach
+    void removeLookup() {
+        AnnotationLookup.restore(null);
+    }
+
+    @Test
+    void testLookupMatchesAnnotationsOfTarget() {
+        Index index = indexOf(Annotated.class);
+        ClassInfo klazz = index.getClassByName(DotName.createSimple(Annotated.class.getName()));
+
+        List<Object> uncached = lookups(klazz);
+        AnnotationLookup.newInstance();
+        List<Object> cached = lookups(klazz);
+        // Again, with new member instances created by Jandex
+        List<Object> cachedAgain = lookups(klazz);
+
+        assertEquals(uncached, cached);
+        assertEquals(uncached, cachedAgain);
+    }
+
+    @Test
+    void testParameterAnnotations() {
+        Index index = indexOf(Annotated.class);
+        ClassInfo klazz = index.getClassByName(DotName.createSimple(Annotated.class.getName()));
+        Supplier<MethodInfo> method = () -> klazz.firstMethod("method");
+
+        AnnotationLookup.newInstance();
+
+        assertTrue(JandexUtil.getParameterAnnotations(method.get(), (short) 0).isEmpty());
+        assertEquals(2, JandexUtil.getParameterAnnotations(method.get(), (short) 1).size());
+        assertEquals(1, JandexUtil.getParameterAnnotations(method.get(), (short) 2).size());
+        assertTrue(JandexUtil.getParameterAnnotations(method.get(), (short) 3).isEmpty());
+
+        assertEquals("second",
+                JandexUtil.getMethodParameterAnnotation(method.get(), 2, PARAMETER).value("name").asString());
+        assertNull(JandexUtil.getMethodParameterAnnotation(method.get(), 2, SCHEMA));
+        assertTrue(TypeUtil.hasAnnotation(MethodParameterInfo.create(method.get(), (short) 1), SCHEMA));
+        assertFalse(TypeUtil.hasAnnotation(MethodParameterInfo.create(method.get(), (short) 0), SCHEMA));
+        assertSame(JandexUtil.getParameterAnnotations(method.get(), (short) 1).get(0),
+                TypeUtil.getAnnotations(MethodParameterInfo.create(method.get(), (short) 1)).iterator().next());
+    }
+
+    private static List<Object> lookups(ClassInfo klazz) {
+        FieldInfo field = klazz.field("field");
+        MethodInfo method = klazz.firstMethod("method");
+
+        AnnotationInstance classTag = JandexUtil.getClassAnnotation(klazz, TAG);
+        AnnotationInstance fieldSchema = JandexUtil.getAnnotation(field, SCHEMA);
+        AnnotationInstance methodOperation = JandexUtil.getAnnotation(method, OPERATION);
+        // Parameter annotations are annotations of the method too
+        AnnotationInstance methodSchema = JandexUtil.getAnnotation(method, Arrays.asList(TAG, SCHEMA));
+
+        assertNotNull(classTag);
+        assertNotNull(fieldSchema);
+        assertNotNull(methodOperation);
+        assertNotNull(methodSchema);
+
+        return Arrays.asList(classTag, fieldSchema, methodOperation, methodSchema,
+                JandexUtil.getClassAnnotation(klazz, OPERATION),
+                JandexUtil.getAnnotation(field, TAG),
+                JandexUtil.hasAnyOneOfAnnotation(method, TAG, PARAMETER),
+                JandexUtil.hasAnyOneOfAnnotation(method, TAG),
+                TypeUtil.getAnnotation(klazz, TAG),
+                TypeUtil.getAnnotation(method, PARAMETER),
+                TypeUtil.hasAnnotation(field, SCHEMA),
+                JandexUtil.getParameterAnnotations(method, (short) 1),
+                JandexUtil.getRepeatableAnnotation(method, OPERATION, null));
+    }
+}
@@ -39,8 +39,10 @@ import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
 import io.smallrye.openapi.runtime.io.parameter.ParameterReader;
 import io.smallrye.openapi.runtime.io.response.ResponseReader;
+import io.smallrye.openapi.runtime.io.securityscheme.SecuritySchemeReader;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.scanner.ParallelScanner;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
@@ -216,14 +218,74 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
     private void processResourceClasses(final AnnotationScannerContext context, OpenAPI openApi) {
         // Now find all jax-rs endpoints
         Collection<ClassInfo> resourceClasses = getJaxRsResourceClasses(context);
+        int parallelism = getScanParallelism(context, openApi, resourceClasses);
+
+        if (parallelism > 1) {
+            JaxRsLogging.log.scanningInParallel(resourceClasses.size(), parallelism);
+            ParallelScanner.scan(context, resourceClasses, parallelism, this::forkScanner,
+                    (scanner, forkContext, resourceClass) -> scanner.scanResourceClass(forkContext,
+                            forkContext.getOpenApi(), resourceClass));
+            return;
+        }
+
         for (ClassInfo resourceClass : resourceClasses) {
-            TypeResolver resolver = TypeResolver.forClass(context, resourceClass, null);
-            context.getResolverStack().push(resolver);
-            processResourceClass(context, openApi, resourceClass, null);
-            context.getResolverStack().pop();
+            scanResourceClass(context, openApi, resourceClass);
         }
     }
 
+    private void scanResourceClass(final AnnotationScannerContext context, OpenAPI openApi, ClassInfo resourceClass) {
+        long start = System.nanoTime();
+        TypeResolver resolver = TypeResolver.forClass(context, resourceClass, null);
+        context.getResolverStack().push(resolver);
+        processResourceClass(context, openApi, resourceClass, null);
+        context.getResolverStack().pop();
+        context.getListener().classScanned(getName(), resourceClass, System.nanoTime() - start);
+    }
+
+    /**
+     * Determine how many threads may be used to scan the resource classes. Resource
+     * classes are scanned serially when fewer than two threads are configured, or
+     * when the resources depend on state shared between them: security schemes
+     * declared on resource classes or roles added to the scopes of a single OAuth2/OpenID
+     * Connect scheme.
+     *
+     * @param context the scanning context
+     * @param openApi the openAPI model
+     * @param resourceClasses the resource classes to be scanned
+     * @return the number of threads to use, 1 when scanning serially
+     */
+    private int getScanParallelism(final AnnotationScannerContext context, OpenAPI openApi,
+            Collection<ClassInfo> resourceClasses) {
+        int parallelism = Math.min(context.getConfig().scanParallelism(), resourceClasses.size());
+
+        if (parallelism <= 1) {
+            return 1;
+        }
+
+        if (JavaSecurityProcessor.hasScopeCandidates(openApi)) {
+            JaxRsLogging.log.serialScanRequired("roles are added to the scopes of a shared security scheme");
+            return 1;
+        }
+
+        if (resourceClasses.stream().anyMatch(c -> !SecuritySchemeReader.getSecuritySchemeAnnotations(c).isEmpty())) {
+            JaxRsLogging.log.serialScanRequired("security schemes are declared by resource classes");
+            return 1;
+        }
+
+        return parallelism;
+    }
+
+    /**
+     * Create a scanner to process resource classes independently of this instance
+     * (e.g. on another thread), using the application path already determined.
+     */
+    private JaxRsAnnotationScanner forkScanner() {
+        JaxRsAnnotationScanner scanner = new JaxRsAnnotationScanner();
+        scanner.setContextRoot(getContextRoot());
+        scanner.currentAppPath = this.currentAppPath;
+        return scanner;
+    }
+
     /**
      * Processing a single JAX-RS resource class (annotated with @Path).
      * 
@@ -24,4 +24,12 @@ interface JaxRsLogging {
     @LogMessage(level = Logger.Level.WARN)
     @Message(id = 10003, value = "Value '%s' is not a valid %s default")
     void invalidDefault(String segment, String primitive);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 10004, value = "Scanning %d JAX-RS resource classes using %d threads")
+    void scanningInParallel(int resourceCount, int parallelism);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 10005, value = "Scanning JAX-RS resource classes serially, %s")
+    void serialScanRequired(String reason);
 }
@@ -3,10 +3,13 @@ package io.smallrye.openapi.runtime.scanner;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
 import java.util.zip.GZIPInputStream;
 
+import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
@@ -18,6 +21,7 @@ import org.eclipse.microprofile.openapi.OASConfig;
 import org.eclipse.microprofile.openapi.annotations.extensions.Extension;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.Indexer;
@@ -36,6 +40,7 @@ import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.runtime.OpenApiProcessor;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
 
 /**
  * @author eric.wittmann@gmail.com
@@ -451,6 +456,107 @@ class JaxRsAnnotationScannerTest extends JaxRsDataObjectScannerTestBase {
 
     /**************************************************************************/
 
+    @Test
+    void testParallelScanMatchesSerialScan() throws IOException {
+        Index index = indexOf(ParallelResourceA.class, ParallelResourceB.class, ParallelResourceC.class,
+                ParallelItemsA.Item.class, ParallelItemsB.Item.class, ParallelShared.class);
+
+        OpenAPI serial = new OpenApiAnnotationScanner(emptyConfig(), index).scan();
+        OpenAPI parallel = new OpenApiAnnotationScanner(dynamicConfig(OpenApiConstants.SCAN_PARALLELISM, 3), index)
+                .scan();
+
+        Assertions.assertEquals(OpenApiSerializer.serialize(serial, Format.JSON),
+                OpenApiSerializer.serialize(parallel, Format.JSON));
+    }
+
+    @Test
+    void testIncrementalScanMatchesFullScan() throws IOException {
+        Index initial = indexOf(ParallelResourceA.class, ParallelResourceB.class,
+                ParallelItemsA.Item.class, ParallelItemsB.Item.class, ParallelShared.class);
+        Index added = indexOf(ParallelResourceA.class, ParallelResourceB.class, ParallelResourceC.class,
+                ParallelItemsA.Item.class, ParallelItemsB.Item.class, ParallelShared.class);
+        Index removed = indexOf(ParallelResourceA.class, ParallelResourceC.class,
+                ParallelItemsA.Item.class, ParallelItemsB.Item.class, ParallelShared.class);
+
+        ScanResult result = new OpenApiAnnotationScanner(emptyConfig(), initial).scan(null, Collections.emptySet());
+
+        result = new OpenApiAnnotationScanner(emptyConfig(), added).scan(result,
+                Collections.singleton(DotName.createSimple(ParallelResourceC.class.getName())));
+        assertScanEquals(added, result);
+
+        result = new OpenApiAnnotationScanner(emptyConfig(), removed).scan(result,
+                Collections.singleton(DotName.createSimple(ParallelResourceB.class.getName())));
+        assertScanEquals(removed, result);
+
+        result = new OpenApiAnnotationScanner(emptyConfig(), removed).scan(result,
+                Collections.singleton(DotName.createSimple(ParallelShared.class.getName())));
+        assertScanEquals(removed, result);
+    }
+
+    static void assertScanEquals(Index index, ScanResult result) throws IOException {
+        OpenAPI expected = new OpenApiAnnotationScanner(emptyConfig(), index).scan();
+        Assertions.assertEquals(OpenApiSerializer.serialize(expected, Format.JSON),
+                OpenApiSerializer.serialize(result.getOpenApi(), Format.JSON));
+    }
+
+    static class ParallelItemsA {
+        static class Item {
+            public String name;
+        }
+    }
+
+    static class ParallelItemsB {
+        static class Item {
+            public long count;
+        }
+    }
+
+    static class ParallelShared {
+        public String id;
+        public ParallelItemsB.Item item;
+    }
+
+    @Path("/parallel/a")
+    static class ParallelResourceA {
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public ParallelItemsA.Item get() {
+            return null;
+        }
+
+        @POST
+        @Path("shared")
+        @Produces(MediaType.APPLICATION_JSON)
+        public ParallelShared create(ParallelShared shared) {
+            return shared;
+        }
+    }
+
+    @Path("/parallel/b")
+    static class ParallelResourceB {
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public ParallelItemsB.Item get() {
+            return null;
+        }
+
+        @GET
+        @Path("shared")
+        @Produces(MediaType.APPLICATION_JSON)
+        public List<ParallelShared> list() {
+            return null;
+        }
+    }
+
+    @Path("/parallel/a")
+    static class ParallelResourceC {
+        @DELETE
+        public void delete() {
+        }
+    }
+
+    /**************************************************************************/
+
     @Test
     void testCsvProducesConsumes() throws IOException, JSONException {
         assertJsonEquals("resource.testCsvConsumesProduces.json",
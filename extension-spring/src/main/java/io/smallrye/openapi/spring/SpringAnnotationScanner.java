@@ -160,8 +160,10 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         processScannerExtensions(context, applications);
 
         for (ClassInfo controller : applications) {
+            long start = System.nanoTime();
             OpenAPI applicationOpenApi = processControllerClass(context, controller);
             openApi = MergeUtil.merge(openApi, applicationOpenApi);
+            context.getListener().classScanned(getName(), controller, System.nanoTime() - start);
         }
     }
 
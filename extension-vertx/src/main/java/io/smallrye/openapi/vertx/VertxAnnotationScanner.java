@@ -132,8 +132,10 @@ public class VertxAnnotationScanner extends AbstractAnnotationScanner {
         processScannerExtensions(context, applications);
 
         for (ClassInfo controller : applications) {
+            long start = System.nanoTime();
             OpenAPI applicationOpenApi = processRouteClass(context, controller);
             openApi = MergeUtil.merge(openApi, applicationOpenApi);
+            context.getListener().classScanned(getName(), controller, System.nanoTime() - start);
         }
     }
 
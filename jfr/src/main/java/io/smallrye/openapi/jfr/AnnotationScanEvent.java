@@ -0,0 +1,22 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.smallrye.openapi.AnnotationScan")
+@Label("OpenAPI Annotation Scan")
+@Category({ "SmallRye OpenAPI", "Bootstrap" })
+@Description("Scan of the annotations of a deployment")
+class AnnotationScanEvent extends Event {
+
+    @Label("Classes")
+    @Description("Number of classes in the scanned index")
+    int classes;
+
+    @Label("Endpoints")
+    @Description("Number of operations found by the scan")
+    int endpoints;
+}
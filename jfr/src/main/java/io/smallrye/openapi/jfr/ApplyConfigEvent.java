@@ -0,0 +1,14 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.smallrye.openapi.ApplyConfig")
+@Label("OpenAPI Apply Config")
+@Category({ "SmallRye OpenAPI", "Bootstrap" })
+@Description("Addition of the configured servers to the document, paths, and operations")
+class ApplyConfigEvent extends Event {
+}
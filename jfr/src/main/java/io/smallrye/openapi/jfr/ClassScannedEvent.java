@@ -0,0 +1,27 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("io.smallrye.openapi.ClassScanned")
+@Label("OpenAPI Class Scanned")
+@Category({ "SmallRye OpenAPI", "Scan" })
+@Description("A resource class or controller scanned by an annotation scanner")
+@StackTrace(false)
+class ClassScannedEvent extends Event {
+
+    @Label("Scanner")
+    String scanner;
+
+    @Label("Class")
+    String className;
+
+    @Label("Scan Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long scanDuration;
+}
@@ -0,0 +1,17 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.smallrye.openapi.CycleDetected")
+@Label("OpenAPI Cycle Detected")
+@Category({ "SmallRye OpenAPI", "Scan" })
+@Description("A type referring to itself, directly or through other types, found while building a schema")
+class CycleDetectedEvent extends Event {
+
+    @Label("Type")
+    String type;
+}
@@ -0,0 +1,14 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.smallrye.openapi.Filter")
+@Label("OpenAPI Filter")
+@Category({ "SmallRye OpenAPI", "Bootstrap" })
+@Description("Application of the OASFilters to the merged model")
+class FilterEvent extends Event {
+}
@@ -0,0 +1,99 @@
+package io.smallrye.openapi.jfr;
+
+import io.smallrye.openapi.runtime.BootstrapListener;
+import io.smallrye.openapi.runtime.io.Format;
+import jdk.jfr.Event;
+
+/**
+ * Records the stages of building and serializing an OpenAPI document as JDK
+ * Flight Recorder events. Registered as a service, so it is used whenever this
+ * module is on the class path of the library. When an event is not enabled in
+ * a running recording, its stage receives the no-op span and the details of
+ * the stage are not computed.
+ */
+public class JfrBootstrapListener implements BootstrapListener {
+
+    @Override
+    public Span start(Stage stage) {
+        switch (stage) {
+            case STATIC_FILE:
+                return begin(new StaticFileParseEvent());
+            case ANNOTATION_SCAN:
+                return begin(new AnnotationScanEvent());
+            case MODEL_READER:
+                return begin(new ModelReaderEvent());
+            case MERGE:
+                return begin(new MergeEvent());
+            case FILTER:
+                return begin(new FilterEvent());
+            case CONFIG:
+                return begin(new ApplyConfigEvent());
+            case SERIALIZE:
+                return begin(new SerializeEvent());
+            default:
+                return Span.NONE;
+        }
+    }
+
+    private static Span begin(Event event) {
+        if (!event.isEnabled()) {
+            return Span.NONE;
+        }
+        event.begin();
+        return new EventSpan(event);
+    }
+
+    private static final class EventSpan implements Span {
+        private final Event event;
+
+        EventSpan(Event event) {
+            this.event = event;
+        }
+
+        @Override
+        public boolean isRecording() {
+            return true;
+        }
+
+        @Override
+        public Span format(Format format) {
+            if (event instanceof StaticFileParseEvent) {
+                ((StaticFileParseEvent) event).format = format.name();
+            } else if (event instanceof SerializeEvent) {
+                ((SerializeEvent) event).format = format.name();
+            }
+            return this;
+        }
+
+        @Override
+        public Span size(long bytes) {
+            if (event instanceof StaticFileParseEvent) {
+                ((StaticFileParseEvent) event).size = bytes;
+            } else if (event instanceof SerializeEvent) {
+                ((SerializeEvent) event).size = bytes;
+            }
+            return this;
+        }
+
+        @Override
+        public Span classes(int classes) {
+            if (event instanceof AnnotationScanEvent) {
+                ((AnnotationScanEvent) event).classes = classes;
+            }
+            return this;
+        }
+
+        @Override
+        public Span endpoints(int endpoints) {
+            if (event instanceof AnnotationScanEvent) {
+                ((AnnotationScanEvent) event).endpoints = endpoints;
+            }
+            return this;
+        }
+
+        @Override
+        public void end() {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.smallrye.openapi.jfr;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
+
+/**
+ * Records the events of the annotation scan as JDK Flight Recorder events.
+ * Registered as a service, so it is used whenever this module is on the
+ * class path of the scan. Events are only created when enabled in the
+ * running recording, the type visit and registry lookup events are disabled
+ * by default.
+ */
+public class JfrScanListener implements ScanListener {
+
+    // Phases start and end on the same thread, nested in one another
+    private final ThreadLocal<Deque<ScanPhaseEvent>> phases = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void phaseStarted(String phase) {
+        ScanPhaseEvent event = new ScanPhaseEvent();
+        event.phase = phase;
+        event.begin();
+        phases.get().push(event);
+    }
+
+    @Override
+    public void phaseEnded(String phase, long durationNanos) {
+        Deque<ScanPhaseEvent> started = phases.get();
+
+        if (!started.isEmpty()) {
+            started.pop().commit();
+        }
+        if (started.isEmpty()) {
+            phases.remove();
+        }
+    }
+
+    @Override
+    public void classScanned(String scanner, ClassInfo scannedClass, long durationNanos) {
+        ClassScannedEvent event = new ClassScannedEvent();
+
+        if (event.isEnabled()) {
+            event.scanner = scanner;
+            event.className = scannedClass.name().toString();
+            event.scanDuration = durationNanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void typeVisited(Type type) {
+        TypeVisitedEvent event = new TypeVisitedEvent();
+
+        if (event.isEnabled()) {
+            event.type = type.toString();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void registryLookup(Type type, boolean hit) {
+        RegistryLookupEvent event = new RegistryLookupEvent();
+
+        if (event.isEnabled()) {
+            event.type = type.toString();
+            event.hit = hit;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void cycleDetected(Type type) {
+        CycleDetectedEvent event = new CycleDetectedEvent();
+
+        if (event.isEnabled()) {
+            event.type = type.toString();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.smallrye.openapi.Merge")
+@Label("OpenAPI Merge")
+@Category({ "SmallRye OpenAPI", "Bootstrap" })
+@Description("Merge of the models of the model reader, static files, and annotations")
+class MergeEvent extends Event {
+}
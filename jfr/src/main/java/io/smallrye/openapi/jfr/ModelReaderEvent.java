@@ -0,0 +1,14 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.smallrye.openapi.ModelReader")
+@Label("OpenAPI Model Reader")
+@Category({ "SmallRye OpenAPI", "Bootstrap" })
+@Description("Invocation of the configured OASModelReader")
+class ModelReaderEvent extends Event {
+}
@@ -0,0 +1,24 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.smallrye.openapi.RegistryLookup")
+@Label("OpenAPI Schema Registry Lookup")
+@Category({ "SmallRye OpenAPI", "Scan" })
+@Description("A search of the schema registry for the schema of a type, disabled by default as the registry is searched frequently")
+@Enabled(false)
+@StackTrace(false)
+class RegistryLookupEvent extends Event {
+
+    @Label("Type")
+    String type;
+
+    @Label("Hit")
+    boolean hit;
+}
@@ -0,0 +1,17 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.smallrye.openapi.ScanPhase")
+@Label("OpenAPI Scan Phase")
+@Category({ "SmallRye OpenAPI", "Scan" })
+@Description("A phase of the OpenAPI annotation scan: the entire scan or a single annotation scanner")
+class ScanPhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+}
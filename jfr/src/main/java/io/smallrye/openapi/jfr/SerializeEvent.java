@@ -0,0 +1,21 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.smallrye.openapi.Serialize")
+@Label("OpenAPI Serialize")
+@Category({ "SmallRye OpenAPI", "Bootstrap" })
+@Description("Serialization of an OpenAPI document")
+class SerializeEvent extends Event {
+
+    @Label("Format")
+    String format;
+
+    @Label("Size")
+    @Description("Number of bytes written, or characters when serializing to a writer")
+    long size;
+}
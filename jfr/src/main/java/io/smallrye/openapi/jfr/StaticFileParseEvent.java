@@ -0,0 +1,22 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.smallrye.openapi.StaticFileParse")
+@Label("OpenAPI Static File Parse")
+@Category({ "SmallRye OpenAPI", "Bootstrap" })
+@Description("Parse of a static OpenAPI file")
+class StaticFileParseEvent extends Event {
+
+    @Label("Format")
+    String format;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+}
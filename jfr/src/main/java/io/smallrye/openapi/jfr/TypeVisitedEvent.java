@@ -0,0 +1,21 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.smallrye.openapi.TypeVisited")
+@Label("OpenAPI Type Visited")
+@Category({ "SmallRye OpenAPI", "Scan" })
+@Description("A type visited while building a schema, disabled by default as types are visited frequently")
+@Enabled(false)
+@StackTrace(false)
+class TypeVisitedEvent extends Event {
+
+    @Label("Type")
+    String type;
+}
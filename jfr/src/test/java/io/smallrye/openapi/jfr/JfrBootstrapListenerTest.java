@@ -0,0 +1,68 @@
+package io.smallrye.openapi.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+import io.smallrye.openapi.runtime.OpenApiStaticFile;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrBootstrapListenerTest {
+
+    @Test
+    void testEventsRecorded() throws Exception {
+        Path file = Files.createTempFile("bootstrap", ".jfr");
+        byte[] content = "{\"openapi\":\"3.0.3\",\"info\":{\"title\":\"Test\",\"version\":\"1.0\"}}"
+                .getBytes(StandardCharsets.UTF_8);
+        String serialized;
+
+        try (Recording recording = new Recording()) {
+            recording.enable(StaticFileParseEvent.class);
+            recording.enable(SerializeEvent.class);
+            recording.start();
+
+            OpenAPI model = OpenApiProcessor
+                    .modelFromStaticFile(new OpenApiStaticFile(new ByteArrayInputStream(content), Format.JSON));
+            serialized = OpenApiSerializer.serialize(model, Format.YAML);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file)
+                    .stream()
+                    .filter(e -> e.getEventType().getName().startsWith("io.smallrye.openapi."))
+                    .collect(Collectors.toList());
+
+            assertEquals(2, events.size());
+
+            RecordedEvent parse = event(events, "io.smallrye.openapi.StaticFileParse");
+            assertEquals("JSON", parse.getString("format"));
+            assertEquals(content.length, parse.getLong("size"));
+
+            RecordedEvent serialize = event(events, "io.smallrye.openapi.Serialize");
+            assertEquals("YAML", serialize.getString("format"));
+            assertEquals(serialized.length(), serialize.getLong("size"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static RecordedEvent event(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).findFirst().get();
+    }
+}
@@ -0,0 +1,72 @@
+package io.smallrye.openapi.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrScanListenerTest {
+
+    @Test
+    void testEventsRecorded() throws Exception {
+        Path file = Files.createTempFile("scan", ".jfr");
+        Index index = Index.of(JfrScanListenerTest.class);
+        Type type = Type.create(DotName.createSimple(JfrScanListenerTest.class.getName()), Type.Kind.CLASS);
+        JfrScanListener listener = new JfrScanListener();
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ScanPhaseEvent.class);
+            recording.enable(ClassScannedEvent.class);
+            recording.enable(CycleDetectedEvent.class);
+            recording.start();
+
+            listener.phaseStarted(ScanListener.SCAN);
+            listener.phaseStarted("JAX-RS");
+            listener.classScanned("JAX-RS", index.getClassByName(type.name()), 1_000_000L);
+            listener.typeVisited(type);
+            listener.cycleDetected(type);
+            listener.phaseEnded("JAX-RS", 0);
+            listener.phaseEnded(ScanListener.SCAN, 0);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file)
+                    .stream()
+                    .filter(e -> e.getEventType().getName().startsWith("io.smallrye.openapi."))
+                    .collect(Collectors.toList());
+
+            assertEquals(4, events.size());
+            assertEquals(1, count(events, "io.smallrye.openapi.ClassScanned"));
+            assertEquals(1, count(events, "io.smallrye.openapi.CycleDetected"));
+            assertEquals(2, count(events, "io.smallrye.openapi.ScanPhase"));
+
+            RecordedEvent scanned = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("io.smallrye.openapi.ClassScanned"))
+                    .findFirst()
+                    .get();
+            assertEquals(JfrScanListenerTest.class.getName(), scanned.getString("className"));
+            assertEquals(1_000_000L, scanned.getDuration("scanDuration").toNanos());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+}
@@ -6,17 +6,22 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -84,6 +89,33 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(defaultValue = "false", property = "scanDependenciesDisable")
     private boolean scanDependenciesDisable;
 
+    /**
+     * Maximum number of dependency jars indexed at the same time. Defaults to the
+     * number of available processors, a value of 1 indexes the jars one at a time.
+     */
+    @Parameter(property = "indexParallelism")
+    private Integer indexParallelism;
+
+    /**
+     * Directory where the indexes of dependency jars are stored and reused by later builds.
+     * Jars containing their own index (META-INF/jandex.idx) are never indexed nor stored.
+     */
+    @Parameter(defaultValue = "${settings.localRepository}/.cache/smallrye-open-api/index", property = "indexCacheDirectory")
+    private File indexCacheDirectory;
+
+    /**
+     * Disable storing the indexes of dependency jars in the indexCacheDirectory.
+     */
+    @Parameter(defaultValue = "false", property = "indexCacheDisable")
+    private boolean indexCacheDisable;
+
+    /**
+     * Always generate the schema. By default, generation is skipped when the project's classes,
+     * its dependencies, and the configuration are unchanged since the schema files were written.
+     */
+    @Parameter(defaultValue = "false", property = "incrementalBuildDisable")
+    private boolean incrementalBuildDisable;
+
     /**
      * Attach the built OpenAPI schema as build artifact.
      */
@@ -242,10 +274,27 @@ public class GenerateSchemaMojo extends AbstractMojo {
     public void execute() throws MojoExecutionException {
         if (!skip) {
             try {
+                String inputDigest = null;
+                if (!incrementalBuildDisable && outputDirectory != null) {
+                    inputDigest = computeInputDigest();
+                    if (isUpToDate(inputDigest)) {
+                        getLog().info("The schema files in " + outputDirectory.getAbsolutePath() + " are up to date");
+                        attachSchemaFile(getSchemaFile(outputDirectory.toPath(), "yaml"), "yaml");
+                        attachSchemaFile(getSchemaFile(outputDirectory.toPath(), "json"), "json");
+                        return;
+                    }
+                }
+
                 IndexView index = mavenDependencyIndexCreator.createIndex(mavenProject, scanDependenciesDisable,
-                        includeDependenciesScopes, includeDependenciesTypes);
+                        includeDependenciesScopes, includeDependenciesTypes,
+                        indexParallelism != null ? indexParallelism : Runtime.getRuntime().availableProcessors(),
+                        indexCacheDisable || indexCacheDirectory == null ? null : indexCacheDirectory.toPath());
                 OpenApiDocument schema = generateSchema(index);
                 write(schema);
+
+                if (inputDigest != null) {
+                    Files.write(getDigestFile(), inputDigest.getBytes(StandardCharsets.UTF_8));
+                }
             } catch (Exception ex) {
                 getLog().error(ex);
                 throw new MojoExecutionException("Could not generate OpenAPI Schema", ex); // TODO allow failOnError = false ?
@@ -253,6 +302,51 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Digest of everything the schema files are generated from: the configuration, the
+     * project's classes and resources, the artifacts indexed, and all dependencies (also
+     * used to load any model reader and filter).
+     */
+    private String computeInputDigest() throws IOException {
+        InputDigest digest = new InputDigest()
+                .add("plugin", GenerateSchemaMojo.class.getProtectionDomain().getCodeSource().getLocation())
+                .addAll("property", getProperties())
+                .addAll("systemProperty", systemPropertyVariables)
+                .add("schemaFilename", schemaFilename)
+                .add("includeDependenciesScopes", includeDependenciesScopes)
+                .add("includeDependenciesTypes", includeDependenciesTypes)
+                .add("scanDependenciesDisable", scanDependenciesDisable)
+                .add("indexedArtifacts", mavenDependencyIndexCreator
+                        .getIndexedArtifacts(mavenProject, scanDependenciesDisable, includeDependenciesScopes,
+                                includeDependenciesTypes)
+                        .stream()
+                        .map(Artifact::getId)
+                        .collect(Collectors.toList()))
+                .addFile("classes", Paths.get(mavenProject.getBuild().getOutputDirectory()), outputDirectory.toPath());
+
+        List<Artifact> artifacts = new ArrayList<>(mavenProject.getArtifacts());
+        artifacts.sort(Comparator.comparing(Artifact::getId));
+        for (Artifact artifact : artifacts) {
+            digest.addFile(artifact.getId(), artifact.getFile() != null ? artifact.getFile().toPath() : null);
+        }
+
+        return digest.get();
+    }
+
+    private boolean isUpToDate(String inputDigest) throws IOException {
+        Path directory = outputDirectory.toPath();
+        Path digestFile = getDigestFile();
+
+        return Files.isRegularFile(digestFile)
+                && Files.isRegularFile(getSchemaFile(directory, "yaml"))
+                && Files.isRegularFile(getSchemaFile(directory, "json"))
+                && inputDigest.equals(new String(Files.readAllBytes(digestFile), StandardCharsets.UTF_8));
+    }
+
+    private Path getDigestFile() {
+        return getSchemaFile(outputDirectory.toPath(), "digest");
+    }
+
     private OpenApiDocument generateSchema(IndexView index) throws IOException, DependencyResolutionRequiredException {
         if (systemPropertyVariables != null) {
             systemPropertyVariables.forEach(System::setProperty);
@@ -439,8 +533,12 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
+    private Path getSchemaFile(Path directory, String type) {
+        return Paths.get(directory.toString(), schemaFilename + "." + type);
+    }
+
     private void writeSchemaFile(Path directory, String type, byte[] contents) throws IOException {
-        Path file = Paths.get(directory.toString(), schemaFilename + "." + type);
+        Path file = getSchemaFile(directory, type);
         if (!Files.exists(file)) {
             Files.createFile(file);
         }
@@ -450,6 +548,10 @@ public class GenerateSchemaMojo extends AbstractMojo {
                 StandardOpenOption.CREATE,
                 StandardOpenOption.TRUNCATE_EXISTING);
 
+        attachSchemaFile(file, type);
+    }
+
+    private void attachSchemaFile(Path file, String type) {
         if (attachArtifacts) {
             mavenProjectHelper.attachArtifact(mavenProject, type, schemaFilename, file.toFile());
         }
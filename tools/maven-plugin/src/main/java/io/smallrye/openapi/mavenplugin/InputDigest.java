@@ -0,0 +1,110 @@
+package io.smallrye.openapi.mavenplugin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Digest of the inputs of a schema generation: configuration values and the
+ * files the schema is generated from. Files are represented by their path,
+ * size, and modification time rather than their content, the same way Maven's
+ * own incremental build support detects changed files.
+ */
+class InputDigest {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final MessageDigest digest;
+
+    InputDigest() {
+        digest = sha256();
+    }
+
+    /**
+     * @return a new SHA-256 message digest
+     */
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the lowercase hexadecimal form of the given digest
+     */
+    static String hex(byte[] hash) {
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    InputDigest add(String key, Object value) {
+        digest.update((key + '=' + value + '\n').getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    InputDigest addAll(String key, Map<String, String> values) {
+        if (values != null) {
+            new TreeMap<>(values).forEach((name, value) -> add(key + '.' + name, value));
+        }
+        return this;
+    }
+
+    /**
+     * Add a file, or all files within a directory.
+     */
+    InputDigest addFile(String key, Path file) throws IOException {
+        return addFile(key, file, null);
+    }
+
+    /**
+     * Add a file, or all files within a directory except those within the excluded
+     * directory (e.g. an output directory located among the inputs).
+     */
+    InputDigest addFile(String key, Path file, Path excluded) throws IOException {
+        if (file == null || !Files.exists(file)) {
+            return add(key, null);
+        }
+
+        if (Files.isDirectory(file)) {
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(file)) {
+                files = stream.filter(Files::isRegularFile)
+                        .filter(path -> excluded == null || !path.startsWith(excluded))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+            add(key, file);
+            for (Path path : files) {
+                addAttributes(key + '/' + file.relativize(path), path);
+            }
+        } else {
+            addAttributes(key, file);
+        }
+
+        return this;
+    }
+
+    private void addAttributes(String key, Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        add(key, file + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+    }
+
+    String get() {
+        return hex(digest.digest());
+    }
+}
@@ -1,20 +1,31 @@
 package io.smallrye.openapi.mavenplugin;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.project.MavenProject;
@@ -23,7 +34,9 @@ import org.codehaus.plexus.component.annotations.Requirement;
 import org.codehaus.plexus.logging.Logger;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
 import org.jboss.jandex.Indexer;
 import org.jboss.jandex.JarIndexer;
 import org.jboss.jandex.Result;
@@ -34,6 +47,8 @@ import com.google.common.cache.CacheBuilder;
 @Component(role = MavenDependencyIndexCreator.class, instantiationStrategy = "singleton")
 public class MavenDependencyIndexCreator {
 
+    private static final String JAR_INDEX = "META-INF/jandex.idx";
+
     private final Cache<String, IndexView> indexCache = CacheBuilder.newBuilder().build();
 
     private final Set<String> ignoredArtifacts = new HashSet<>();
@@ -72,44 +87,109 @@ public class MavenDependencyIndexCreator {
 
     public IndexView createIndex(MavenProject mavenProject, boolean scanDependenciesDisable,
             List<String> includeDependenciesScopes, List<String> includeDependenciesTypes) throws Exception {
+        return createIndex(mavenProject, scanDependenciesDisable, includeDependenciesScopes, includeDependenciesTypes,
+                Runtime.getRuntime().availableProcessors(), null);
+    }
+
+    /**
+     * Index the project and its dependencies, indexing up to {@code parallelism}
+     * artifacts at the same time. The resulting index is composed in the order of
+     * the project's artifacts, regardless of the order in which they were indexed.
+     *
+     * Jars that contain an index ({@code META-INF/jandex.idx}) are not indexed again.
+     * When {@code indexCacheDirectory} is given, the indexes of all other jars are
+     * stored in that directory and reused by later builds, keyed by the artifact's
+     * coordinates and the checksum of the jar.
+     */
+    public IndexView createIndex(MavenProject mavenProject, boolean scanDependenciesDisable,
+            List<String> includeDependenciesScopes, List<String> includeDependenciesTypes, int parallelism,
+            Path indexCacheDirectory) throws Exception {
+
+        List<Map.Entry<Artifact, Duration>> indexDurations = Collections.synchronizedList(new ArrayList<>());
+
+        List<Artifact> indexedArtifacts = getIndexedArtifacts(mavenProject, scanDependenciesDisable,
+                includeDependenciesScopes, includeDependenciesTypes);
+        List<Callable<IndexView>> tasks = new ArrayList<>();
+        for (Artifact artifact : indexedArtifacts) {
+            if (artifact.getFile().isDirectory()) {
+                // Don't' cache local worskpace artifacts. Incremental compilation in IDE's would otherwise use the cached index instead of new one.
+                // Right now, support for incremental compilation inside eclipse is blocked by: https://github.com/eclipse-m2e/m2e-core/issues/364#issuecomment-939987848
+                // target/classes
+                tasks.add(() -> indexModuleClasses(artifact));
+            } else {
+                tasks.add(() -> timeAndCache(indexDurations, artifact, () -> indexJar(artifact, indexCacheDirectory)));
+            }
+        }
+
+        List<IndexView> indexes = new ArrayList<>();
+        List<Future<IndexView>> results = invokeAll(tasks, parallelism);
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                indexes.add(results.get(i).get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException || cause instanceof ExecutionException) {
+                    logger.error("Can't compute index of " + indexedArtifacts.get(i).getFile().getAbsolutePath()
+                            + ", skipping", cause);
+                } else if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                } else {
+                    throw e;
+                }
+            }
+        }
+
+        printIndexDurations(indexDurations);
 
-        List<Map.Entry<Artifact, Duration>> indexDurations = new ArrayList<>();
+        return CompositeIndex.create(indexes);
+    }
 
+    /**
+     * Select the artifacts {@link #createIndex} indexes: the project and, unless
+     * {@code scanDependenciesDisable} is set, its dependencies of the included
+     * scopes and types, provided they are a directory of classes or a jar.
+     */
+    public List<Artifact> getIndexedArtifacts(MavenProject mavenProject, boolean scanDependenciesDisable,
+            List<String> includeDependenciesScopes, List<String> includeDependenciesTypes) {
         List<Artifact> artifacts = new ArrayList<>();
         artifacts.add(mavenProject.getArtifact());
         if (!scanDependenciesDisable) {
             artifacts.addAll(mavenProject.getArtifacts());
         }
 
-        List<IndexView> indexes = new ArrayList<>();
+        List<Artifact> indexedArtifacts = new ArrayList<>();
         for (Artifact artifact : artifacts) {
             if (isIgnored(artifact, includeDependenciesScopes, includeDependenciesTypes)) {
                 continue;
             }
 
-            try {
-                if (artifact.getFile().isDirectory()) {
-                    // Don't' cache local worskpace artifacts. Incremental compilation in IDE's would otherwise use the cached index instead of new one.
-                    // Right now, support for incremental compilation inside eclipse is blocked by: https://github.com/eclipse-m2e/m2e-core/issues/364#issuecomment-939987848
-                    // target/classes
-                    indexes.add(indexModuleClasses(artifact));
-                } else if (artifact.getFile().getName().endsWith(".jar")) {
-                    IndexView artifactIndex = timeAndCache(indexDurations, artifact, () -> {
-                        Result result = JarIndexer.createJarIndex(artifact.getFile(), new Indexer(),
-                                false, false, false);
-                        return result.getIndex();
-                    });
-                    indexes.add(artifactIndex);
-                }
-            } catch (IOException | ExecutionException e) {
-                logger.error("Can't compute index of " + artifact.getFile().getAbsolutePath() + ", skipping", e);
+            if (artifact.getFile().isDirectory() || artifact.getFile().getName().endsWith(".jar")) {
+                indexedArtifacts.add(artifact);
             }
-
         }
+        return indexedArtifacts;
+    }
 
-        printIndexDurations(indexDurations);
+    private static List<Future<IndexView>> invokeAll(List<Callable<IndexView>> tasks, int parallelism)
+            throws InterruptedException {
+        int threads = Math.min(parallelism, tasks.size());
 
-        return CompositeIndex.create(indexes);
+        if (threads <= 1) {
+            List<Future<IndexView>> results = new ArrayList<>(tasks.size());
+            for (Callable<IndexView> task : tasks) {
+                FutureTask<IndexView> result = new FutureTask<>(task);
+                result.run();
+                results.add(result);
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            return executor.invokeAll(tasks);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     private void printIndexDurations(List<Map.Entry<Artifact, Duration>> indexDurations) {
@@ -149,6 +229,94 @@ public class MavenDependencyIndexCreator {
         return result;
     }
 
+    private Index indexJar(Artifact artifact, Path indexCacheDirectory) throws IOException {
+        Index index = readJarIndex(artifact);
+        if (index != null) {
+            return index;
+        }
+
+        if (indexCacheDirectory == null) {
+            return createJarIndex(artifact);
+        }
+
+        Path cachedIndex = indexCacheDirectory.resolve(buildCacheFileName(artifact));
+        if (Files.isRegularFile(cachedIndex)) {
+            try (InputStream input = Files.newInputStream(cachedIndex)) {
+                return new IndexReader(input).read();
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Can't read cached index " + cachedIndex + ", indexing " + buildGAVCTString(artifact), e);
+            }
+        }
+
+        index = createJarIndex(artifact);
+        writeCachedIndex(index, cachedIndex);
+        return index;
+    }
+
+    private Index createJarIndex(Artifact artifact) throws IOException {
+        Result result = JarIndexer.createJarIndex(artifact.getFile(), new Indexer(), false, false, false);
+        return result.getIndex();
+    }
+
+    // read the index shipped with the jar, if any
+    private Index readJarIndex(Artifact artifact) {
+        try (JarFile jar = new JarFile(artifact.getFile())) {
+            ZipEntry entry = jar.getEntry(JAR_INDEX);
+            if (entry != null) {
+                try (InputStream input = jar.getInputStream(entry)) {
+                    return new IndexReader(input).read();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Unreadable or unsupported index version, the jar is indexed instead
+            logger.debug("Can't read " + JAR_INDEX + " of " + buildGAVCTString(artifact), e);
+        }
+        return null;
+    }
+
+    private void writeCachedIndex(Index index, Path cachedIndex) {
+        try {
+            Files.createDirectories(cachedIndex.getParent());
+            // Written to a temporary file first, builds running concurrently must only see complete indexes
+            Path temp = Files.createTempFile(cachedIndex.getParent(), cachedIndex.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream output = Files.newOutputStream(temp)) {
+                    new IndexWriter(output).write(index);
+                }
+                Files.move(temp, cachedIndex, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.warn("Can't write cached index " + cachedIndex + ": " + e.getMessage());
+        }
+    }
+
+    private String buildCacheFileName(Artifact artifact) throws IOException {
+        StringBuilder name = new StringBuilder();
+        name.append(artifact.getGroupId()).append('/')
+                .append(artifact.getArtifactId()).append('-')
+                .append(artifact.getVersion());
+        if (artifact.getClassifier() != null && !artifact.getClassifier().isEmpty()) {
+            name.append('-').append(artifact.getClassifier());
+        }
+        return name.append('-').append(checksum(artifact.getFile().toPath())).append(".idx").toString();
+    }
+
+    private static String checksum(Path file) throws IOException {
+        MessageDigest digest = InputDigest.sha256();
+
+        byte[] buffer = new byte[8192];
+        try (InputStream input = Files.newInputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        return InputDigest.hex(digest.digest());
+    }
+
     // index the classes of this Maven module
     private Index indexModuleClasses(Artifact artifact) throws IOException {
 
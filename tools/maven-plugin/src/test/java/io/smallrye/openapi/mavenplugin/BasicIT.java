@@ -48,4 +48,41 @@ public class BasicIT extends SchemaTestBase {
 
         testSchema(result, schemaConsumer);
     }
+
+    /**
+     * Runs the goal repeatedly: it is skipped when nothing changed since the
+     * previous run, and runs again after a change to its configuration (the
+     * <code>changed</code> execution, and enabling or disabling the scan of
+     * dependencies) or to the project's classes.
+     */
+    @MavenTest
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema")
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema")
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema@changed")
+    @MavenGoal("compiler:compile")
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema@changed")
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema@changed")
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema@dependencies-disabled")
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema@dependencies-disabled")
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema@changed")
+    void incremental_build(MavenExecutionResult result) throws IOException {
+
+        assertThat(result).isSuccessful();
+
+        assertThat(result).out().info()
+                .filteredOn(line -> line.contains(":generate-schema (") || line.contains(" are up to date"))
+                .extracting(line -> line.contains(" are up to date") ? "skipped" : "generate-schema")
+                .containsExactly(
+                        "generate-schema",
+                        "generate-schema", "skipped",
+                        "generate-schema",
+                        "generate-schema",
+                        "generate-schema", "skipped",
+                        "generate-schema",
+                        "generate-schema", "skipped",
+                        "generate-schema");
+
+        Properties properties = result.getMavenProjectResult().getModel().getProperties();
+        testSchema(result, schema -> assertEquals(properties.get("changedInfoTitle"), schema.getInfo().getTitle()));
+    }
 }
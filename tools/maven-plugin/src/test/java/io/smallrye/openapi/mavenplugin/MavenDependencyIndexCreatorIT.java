@@ -0,0 +1,159 @@
+package io.smallrye.openapi.mavenplugin;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.logging.Logger;
+import org.codehaus.plexus.logging.console.ConsoleLogger;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Indexes artifacts built from classes of this test, without running Maven.
+ */
+class MavenDependencyIndexCreatorIT {
+
+    static class First {
+    }
+
+    static class Second {
+    }
+
+    static class Third {
+    }
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void testIndexesComposedInArtifactOrder() throws Exception {
+        Artifact project = artifact("project", null, classesDirectory("project", First.class));
+        Artifact dependency = artifact("dependency", "compile", jar("dependency", Second.class));
+        Artifact module = artifact("module", "compile", classesDirectory("module", Third.class));
+
+        for (int parallelism = 1; parallelism <= 3; parallelism++) {
+            IndexView index = creator().createIndex(project(project, dependency, module), false,
+                    Collections.singletonList("compile"), Collections.singletonList("jar"), parallelism, null);
+
+            assertEquals(Arrays.asList(First.class.getName(), Second.class.getName(), Third.class.getName()),
+                    classNames(index));
+        }
+    }
+
+    @Test
+    void testCachedIndexReused() throws Exception {
+        Path cacheDirectory = temp.resolve("cache");
+        Artifact project = artifact("project", null, classesDirectory("project", First.class));
+        Artifact dependency = artifact("dependency", "compile", jar("dependency", Second.class));
+        MavenProject mavenProject = project(project, dependency);
+
+        IndexView index = creator().createIndex(mavenProject, false, Collections.singletonList("compile"),
+                Collections.singletonList("jar"), 1, cacheDirectory);
+        assertEquals(Arrays.asList(First.class.getName(), Second.class.getName()), classNames(index));
+
+        List<Path> cachedIndexes = cachedIndexes(cacheDirectory);
+        assertEquals(1, cachedIndexes.size());
+
+        // Replace the cached index, a new creator must read it rather than index the jar again
+        Indexer indexer = new Indexer();
+        try (InputStream input = classFile(Third.class)) {
+            indexer.index(input);
+        }
+        try (OutputStream output = Files.newOutputStream(cachedIndexes.get(0))) {
+            new IndexWriter(output).write(indexer.complete());
+        }
+        byte[] cached = Files.readAllBytes(cachedIndexes.get(0));
+
+        index = creator().createIndex(mavenProject, false, Collections.singletonList("compile"),
+                Collections.singletonList("jar"), 1, cacheDirectory);
+        assertEquals(Arrays.asList(First.class.getName(), Third.class.getName()), classNames(index));
+        assertEquals(cachedIndexes, cachedIndexes(cacheDirectory));
+        assertArrayEquals(cached, Files.readAllBytes(cachedIndexes.get(0)));
+    }
+
+    private static MavenDependencyIndexCreator creator() throws ReflectiveOperationException {
+        MavenDependencyIndexCreator creator = new MavenDependencyIndexCreator();
+        Field logger = MavenDependencyIndexCreator.class.getDeclaredField("logger");
+        logger.setAccessible(true);
+        logger.set(creator, new ConsoleLogger(Logger.LEVEL_DEBUG, "test"));
+        return creator;
+    }
+
+    private static MavenProject project(Artifact artifact, Artifact... dependencies) {
+        MavenProject project = new MavenProject();
+        project.setArtifact(artifact);
+        project.setArtifacts(new LinkedHashSet<>(Arrays.asList(dependencies)));
+        return project;
+    }
+
+    private static Artifact artifact(String artifactId, String scope, Path file) {
+        Artifact artifact = new DefaultArtifact("io.smallrye.openapi.test", artifactId, "1.0", scope, "jar", null,
+                new DefaultArtifactHandler("jar"));
+        artifact.setFile(file.toFile());
+        return artifact;
+    }
+
+    private Path classesDirectory(String name, Class<?> type) throws IOException {
+        Path directory = Files.createDirectories(temp.resolve(name));
+        try (InputStream input = classFile(type)) {
+            Files.copy(input, directory.resolve(type.getSimpleName() + ".class"));
+        }
+        return directory;
+    }
+
+    private Path jar(String name, Class<?> type) throws IOException {
+        Path jar = temp.resolve(name + ".jar");
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar));
+                InputStream input = classFile(type)) {
+            output.putNextEntry(new JarEntry(type.getName().replace('.', '/') + ".class"));
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            output.closeEntry();
+        }
+        return jar;
+    }
+
+    private static InputStream classFile(Class<?> type) {
+        return type.getResourceAsStream('/' + type.getName().replace('.', '/') + ".class");
+    }
+
+    private static List<String> classNames(IndexView index) {
+        return index.getKnownClasses()
+                .stream()
+                .map(ClassInfo::name)
+                .map(Object::toString)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Path> cachedIndexes(Path cacheDirectory) throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDirectory)) {
+            return files.filter(path -> path.toString().endsWith(".idx")).sorted().collect(Collectors.toList());
+        }
+    }
+}
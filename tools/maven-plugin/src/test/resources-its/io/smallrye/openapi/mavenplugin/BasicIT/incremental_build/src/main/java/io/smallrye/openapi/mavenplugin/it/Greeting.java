@@ -0,0 +1,14 @@
+package io.smallrye.openapi.mavenplugin.it;
+
+public class Greeting {
+
+    private String message;
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}